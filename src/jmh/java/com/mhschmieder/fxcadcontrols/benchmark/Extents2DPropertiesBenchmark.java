@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxCadControls Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxCadControls Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxcadcontrols
+ */
+package com.mhschmieder.fxcadcontrols.benchmark;
+
+import com.mhschmieder.fxcadcontrols.model.Extents2D;
+import com.mhschmieder.fxcadcontrols.model.Extents2DProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for get/set throughput of {@link Extents2DProperties}, and for
+ * its conversion to primitive {@link Extents2D} snapshots.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Extents2DPropertiesBenchmark {
+
+    private Extents2DProperties extents;
+    private double              offset;
+
+    @Setup
+    public void setup() {
+        extents = new Extents2DProperties( 1.0d, 2.0d, 30.0d, 40.0d );
+        offset = 0.0d;
+    }
+
+    @Benchmark
+    public double getCoordinates() {
+        return extents.getX() + extents.getY() + extents.getWidth() + extents.getHeight();
+    }
+
+    @Benchmark
+    public void setCoordinate() {
+        offset += 1.0d;
+        extents.setX( offset );
+    }
+
+    @Benchmark
+    public void setExtents() {
+        offset += 1.0d;
+        extents.setExtents( offset, offset, 30.0d, 40.0d );
+    }
+
+    @Benchmark
+    public void getMinimumAndMaximumPoints( final Blackhole blackhole ) {
+        blackhole.consume( extents.getMinimumPoint() );
+        blackhole.consume( extents.getMaximumPoint() );
+    }
+
+    @Benchmark
+    public Extents2D snapshot() {
+        return extents.snapshot();
+    }
+
+    @Benchmark
+    public int snapshotHashCodeAfterEdit() {
+        offset += 1.0d;
+        extents.setWidth( offset );
+        return extents.snapshot().hashCode();
+    }
+}
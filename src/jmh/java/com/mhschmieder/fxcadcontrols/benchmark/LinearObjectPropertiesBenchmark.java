@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxCadControls Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxCadControls Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxcadcontrols
+ */
+package com.mhschmieder.fxcadcontrols.benchmark;
+
+import com.mhschmieder.fxcadcontrols.model.LinearObjectProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for construction of {@link LinearObjectProperties}, and for
+ * reading and writing its Number of Projection Zones.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LinearObjectPropertiesBenchmark {
+
+    private LinearObjectProperties linearObjectProperties;
+    private int                    numberOfProjectionZones;
+
+    @Setup
+    public void setup() {
+        linearObjectProperties = new LinearObjectProperties( "Line", "Layer 0", true, 4 ); //$NON-NLS-1$ //$NON-NLS-2$
+        numberOfProjectionZones = 1;
+    }
+
+    @Benchmark
+    public LinearObjectProperties construct() {
+        return new LinearObjectProperties( "Line", "Layer 0", true, 4 ); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    @Benchmark
+    public int getNumberOfProjectionZones() {
+        return linearObjectProperties.getNumberOfProjectionZones();
+    }
+
+    @Benchmark
+    public void setNumberOfProjectionZones() {
+        numberOfProjectionZones = ( numberOfProjectionZones % 12 ) + 1;
+        linearObjectProperties.setNumberOfProjectionZones( numberOfProjectionZones );
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxCadControls Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxCadControls Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxcadcontrols
+ */
+package com.mhschmieder.fxcadcontrols.benchmark;
+
+import com.mhschmieder.fxcadcontrols.model.Region2DProperties;
+import com.mhschmieder.fxcadcontrols.model.SurfaceProperties;
+import com.mhschmieder.fxgraphics.geometry.SurfaceMaterial;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for construction and copying of {@link Region2DProperties} as
+ * the number of surfaces grows, and for the cost of dirty-flag invalidation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Region2DPropertiesBenchmark {
+
+    @Param({ "4", "64", "512" })
+    public int                 numberOfSurfaces;
+
+    private Region2DProperties region;
+    private SurfaceProperties  editedSurface;
+    private boolean            bypassed;
+    private double             offset;
+
+    @Setup
+    public void setup() {
+        region = new Region2DProperties( 0.0d, 0.0d, 40.0d, 20.0d, numberOfSurfaces );
+        editedSurface = region.getSurfaceProperties().get( numberOfSurfaces / 2 );
+        bypassed = false;
+        offset = 0.0d;
+    }
+
+    @Benchmark
+    public Region2DProperties construct() {
+        return new Region2DProperties( 0.0d, 0.0d, 40.0d, 20.0d, numberOfSurfaces );
+    }
+
+    @Benchmark
+    public Region2DProperties copy() {
+        return new Region2DProperties( region );
+    }
+
+    @Benchmark
+    public void setRegion2D() {
+        region.setRegion2D( region );
+    }
+
+    @Benchmark
+    public boolean invalidateSurfaceValue() {
+        bypassed = !bypassed;
+        editedSurface.setSurfaceBypassed( bypassed );
+        editedSurface.setSurfaceMaterial( bypassed
+            ? SurfaceMaterial.RIGID
+            : SurfaceMaterial.defaultValue() );
+        final boolean surfaceValueChanged = region.isSurfaceValueChanged();
+        region.clearSurfaceChanges();
+        return surfaceValueChanged;
+    }
+
+    @Benchmark
+    public boolean invalidateRegionBoundary() {
+        offset += 1.0d;
+        region.setExtents( offset, offset, 40.0d, 20.0d );
+        return region.isRegionBoundaryChanged();
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxCadControls Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxCadControls Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxcadcontrols
+ */
+package com.mhschmieder.fxcadcontrols.benchmark;
+
+import com.mhschmieder.fxcadcontrols.model.Region2DProperties;
+import com.mhschmieder.fxcadcontrols.model.SurfaceProperties;
+import com.mhschmieder.fxcadcontrols.util.SurfaceNameIndex;
+import com.mhschmieder.fxcadcontrols.util.SurfacePropertiesNameManager;
+import com.mhschmieder.fxgraphics.geometry.Surface;
+import com.mhschmieder.jcommons.text.NumberFormatUtilities;
+import javafx.collections.ObservableList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.text.NumberFormat;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for Surface Name uniquification as the number of Surfaces that
+ * share a base name grows, comparing the static manager to the name index.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SurfaceNameBenchmark {
+
+    private static final String                 SURFACE_NAME_BASE = "Wall"; //$NON-NLS-1$
+
+    @Param({ "10", "100", "1000" })
+    public int                                  numberOfSurfaces;
+
+    private ObservableList< SurfaceProperties > surfacePropertiesList;
+    private SurfaceProperties                   surfacePropertiesToExclude;
+    private NumberFormat                        uniquefierNumberFormat;
+    private SurfaceNameIndex                    surfaceNameIndex;
+
+    @Setup
+    public void setup() {
+        uniquefierNumberFormat = NumberFormatUtilities.getUniquefierNumberFormat( Locale.US );
+
+        // Give every Surface a uniquified variant of the same base name, so
+        // that all uniquefier numbers below the number of Surfaces are taken.
+        final Region2DProperties region = new Region2DProperties(
+                0.0d, 0.0d, 40.0d, 20.0d, numberOfSurfaces );
+        surfacePropertiesList = region.getSurfaceProperties();
+        for ( final SurfaceProperties surfaceProperties : surfacePropertiesList ) {
+            surfaceProperties.setSurfaceName( SurfacePropertiesNameManager.getUniqueSurfaceName(
+                    surfacePropertiesList,
+                    surfaceProperties,
+                    SURFACE_NAME_BASE,
+                    uniquefierNumberFormat ) );
+        }
+
+        // Name a new Surface that is not yet in the list, so that none of the
+        // taken variants are excused and a search has to step over all of them.
+        surfacePropertiesToExclude = new SurfaceProperties(
+                numberOfSurfaces + 1,
+                SurfacePropertiesNameManager.getSurfaceNameDefault( numberOfSurfaces + 1 ),
+                Surface.SURFACE_BYPASSED_DEFAULT,
+                Surface.SURFACE_MATERIAL_DEFAULT );
+
+        surfaceNameIndex = new SurfaceNameIndex( surfacePropertiesList, uniquefierNumberFormat );
+    }
+
+    @TearDown
+    public void tearDown() {
+        surfaceNameIndex.dispose();
+    }
+
+    @Benchmark
+    public String getUniqueSurfaceName() {
+        return SurfacePropertiesNameManager.getUniqueSurfaceName(
+                surfacePropertiesList,
+                surfacePropertiesToExclude,
+                SURFACE_NAME_BASE,
+                uniquefierNumberFormat );
+    }
+
+    @Benchmark
+    public String getUniqueSurfaceNameIndexed() {
+        return surfaceNameIndex.getUniqueSurfaceName(
+                surfacePropertiesToExclude,
+                SURFACE_NAME_BASE );
+    }
+}
@@ -30,42 +30,78 @@
  */
 package com.mhschmieder.fxcadcontrols.action;
 
+import com.mhschmieder.fxcadcontrols.util.CadResourceCache;
 import com.mhschmieder.fxcontrols.action.ActionFactory;
 import com.mhschmieder.fxcontrols.action.XAction;
 import com.mhschmieder.jcommons.util.ClientProperties;
 
+import java.util.ResourceBundle;
+
 /**
  * This is a utility class for making labeled actions for CAD.
  */
 public final class CadLabeledActionFactory {
 
     // NOTE: We must substitute "." for resource directory tree delimiters.
-    public static final String BUNDLE_NAME = "properties.CadActionLabels";
+    public static final String BUNDLE_NAME = CadResourceCache.ACTION_LABELS_BUNDLE_NAME;
 
+    /**
+     * Returns the localized title for a menu, with its mnemonic marked in
+     * JavaFX syntax, so that the menu can be shown before its actions exist.
+     *
+     * @param pClientProperties
+     *            The client properties, for the locale
+     * @param menuName
+     *            The name of the menu, such as "file"
+     * @return The localized menu title
+     */
     @SuppressWarnings("nls")
-    public static XAction getViewDrawingLimitsAction( final ClientProperties clientProperties ) {
-        return ActionFactory.makeAction( clientProperties,
+    public static String getMenuLabel( final ClientProperties pClientProperties,
+                                       final String menuName ) {
+        final ResourceBundle resourceBundle = CadResourceCache
+                .getActionLabelsBundle( pClientProperties.locale );
+        final String label = resourceBundle.getString( "menu." + menuName + ".label" );
+
+        // Convert the "&" mnemonic marker used by the action resources.
+        return label.replace( "_", "__" ).replace( '&', '_' );
+    }
+
+    /*
+     * NOTE: The action labels and icons are resolved by the generic action
+     *  factory; only the menu titles come from the shared resource cache.
+     */
+    private static XAction makeAction( final ClientProperties pClientProperties,
+                                       final String groupName,
+                                       final String itemName,
+                                       final String iconPath ) {
+        return ActionFactory.makeAction( pClientProperties,
                                          BUNDLE_NAME,
-                                         "view",
-                                         "drawingLimits",
-                                         "/icons/led24/RulerCrop16.png" );
+                                         groupName,
+                                         itemName,
+                                         iconPath );
+    }
+
+    @SuppressWarnings("nls")
+    public static XAction getViewDrawingLimitsAction( final ClientProperties clientProperties ) {
+        return makeAction( clientProperties,
+                           "view",
+                           "drawingLimits",
+                           "/icons/led24/RulerCrop16.png" );
     }
 
     @SuppressWarnings("nls")
     public static XAction getViewZoomToDrawingLimitsAction( final ClientProperties pClientProperties ) {
-        return ActionFactory.makeAction( pClientProperties,
-                                         BUNDLE_NAME,
-                                         "view",
-                                         "zoomToDrawingLimits",
-                                         "/icons/everaldo/ViewMagFit16.png" );
+        return makeAction( pClientProperties,
+                           "view",
+                           "zoomToDrawingLimits",
+                           "/icons/everaldo/ViewMagFit16.png" );
     }
 
     @SuppressWarnings("nls")
     public static XAction getViewZoomToReferencePlaneAction( final ClientProperties pClientProperties ) {
-        return ActionFactory.makeAction( pClientProperties,
-                                         BUNDLE_NAME,
-                                         "view",
-                                         "zoomToReferencePlane",
-                                         "/icons/everaldo/ViewMagToReference16.png" );
+        return makeAction( pClientProperties,
+                           "view",
+                           "zoomToReferencePlane",
+                           "/icons/everaldo/ViewMagToReference16.png" );
     }
 }
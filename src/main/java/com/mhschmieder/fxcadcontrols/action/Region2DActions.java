@@ -42,60 +42,169 @@ import org.controlsfx.control.action.Action;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Iterator;
 
 /**
- * This is a struct-like container for actions used by Region2D.
+ * This is a container for actions used by Region2D.
+ * <p>
+ * Each action container is only built the first time it is requested through
+ * its getter, as building them loads labels and icons, and an application
+ * with several Region2D editors rarely uses every container of every editor
+ * before the first window is shown.
+ * <p>
+ * NOTE: The public fields are kept for source compatibility with code written
+ *  when this was a struct-like container, but they are deprecated as they are
+ *  now {@code null} until the matching getter is first called; reading a field
+ *  directly no longer builds anything.
  */
 public final class Region2DActions {
 
+    /** @deprecated Use {@link #getFileActions()}, as this is built on demand. */
+    @Deprecated
     public FileActions fileActions;
+
+    /** @deprecated Use {@link #getSettingsActions()}, as this is built on demand. */
+    @Deprecated
     public SettingsActions settingsActions;
+
+    /** @deprecated Use {@link #getSimulationActions()}, as this is built on demand. */
+    @Deprecated
     public SimulationActions simulationActions;
 
+    /** @deprecated Use {@link #getResetAction()}, as this is built on demand. */
+    @Deprecated
     public XAction resetAction;
 
+    private final ClientProperties clientProperties;
+    private final String           propertiesCategory;
+
+    // The Predict and Clear actions, which are routed to the scheduler.
+    // NOTE: These are only known once the Simulation actions are built.
+    private XAction predictAction;
+    private XAction clearAction;
+
+    // The scheduler that Predict and Clear are routed to, if any.
+    private Region2DSimulationScheduler< ? > simulationScheduler;
+
     public Region2DActions( final ClientProperties pClientProperties,
-                            final String propertiesCategory ) {
-        fileActions = new FileActions( pClientProperties );
-        settingsActions = new SettingsActions( pClientProperties );
-        simulationActions = new SimulationActions( pClientProperties );
+                            final String pPropertiesCategory ) {
+        clientProperties = pClientProperties;
+        propertiesCategory = pPropertiesCategory;
+
+        simulationScheduler = null;
+    }
+
+    private static XAction nextXAction( final Iterator< Action > actionIterator ) {
+        final Action action = actionIterator.hasNext() ? actionIterator.next() : null;
+        return ( action instanceof XAction ) ? ( XAction ) action : null;
+    }
+
+    public FileActions getFileActions() {
+        if ( fileActions == null ) {
+            fileActions = new FileActions( clientProperties );
+        }
+        return fileActions;
+    }
+
+    public SettingsActions getSettingsActions() {
+        if ( settingsActions == null ) {
+            settingsActions = new SettingsActions( clientProperties );
+        }
+        return settingsActions;
+    }
+
+    public SimulationActions getSimulationActions() {
+        if ( simulationActions == null ) {
+            simulationActions = new SimulationActions( clientProperties );
+
+            // NOTE: The Simulation actions are listed as Predict, then Clear.
+            final Iterator< Action > simulationActionIterator = simulationActions
+                    .getSimulationActionCollection( clientProperties ).iterator();
+            predictAction = nextXAction( simulationActionIterator );
+            clearAction = nextXAction( simulationActionIterator );
+
+            // Apply any scheduler that was set before these actions existed.
+            routeSimulationActions();
+        }
+        return simulationActions;
+    }
+
+    public XAction getResetAction() {
+        if ( resetAction == null ) {
+            resetAction = LabeledActionFactory.getResetAction( clientProperties );
+
+            // The tool tip for "Reset" is unique per context so isn't in the
+            // locale-sensitive resources for the generic action lookup.
+            final String toolTipText 
+                    = "Reset " + propertiesCategory + " to Default Values";
+            resetAction.setLongText( toolTipText );
+        }
+        return resetAction;
+    }
 
-        resetAction = LabeledActionFactory.getResetAction( pClientProperties );
+    /**
+     * Routes the Predict and Clear actions to a background simulation
+     * scheduler, so that wherever they are fired from (the tool bar, the menu
+     * or an accelerator), the simulation never runs on the JavaFX Application
+     * Thread.
+     * <p>
+     * NOTE: This replaces any event handlers set on those actions before, and
+     *  once routed, they do nothing while no scheduler is set. If the
+     *  Simulation actions are not built yet, they are routed when they are.
+     *
+     * @param pSimulationScheduler
+     *            The scheduler to route to, or {@code null} to detach
+     */
+    public void setSimulationScheduler(
+            final Region2DSimulationScheduler< ? > pSimulationScheduler ) {
+        simulationScheduler = pSimulationScheduler;
+
+        routeSimulationActions();
+    }
+
+    private void routeSimulationActions() {
+        if ( ( simulationScheduler != null ) && ( predictAction != null )
+                && ( clearAction != null ) ) {
+            predictAction.setEventHandler( event -> {
+                if ( simulationScheduler != null ) {
+                    simulationScheduler.predict();
+                }
+            } );
+            clearAction.setEventHandler( event -> {
+                if ( simulationScheduler != null ) {
+                    simulationScheduler.clear();
+                }
+            } );
+        }
+    }
 
-        // The tool tip for "Reset" is unique per context so isn't in the
-        // locale-sensitive resources for the generic action lookup.
-        final String toolTipText 
-                = "Reset " + propertiesCategory + " to Default Values";
-        resetAction.setLongText( toolTipText );
+    public Region2DSimulationScheduler< ? > getSimulationScheduler() {
+        return simulationScheduler;
     }
 
     public Collection< Action > getBackgroundColorChoiceCollection() {
         // Forward this method to the Settings actions container.
-        return settingsActions.getBackgroundColorChoiceCollection();
+        return getSettingsActions().getBackgroundColorChoiceCollection();
     }
 
     public Collection< Action > getExportActionCollection() {
         // Forward this method to the File actions container.
-        return fileActions.getExportActionCollection( true, false );
+        return getFileActions().getExportActionCollection( true, false );
     }
 
     public Collection< Action > getFileActionCollection( final ClientProperties pClientProperties,
                                                          final boolean vectorGraphicsSupported ) {
         // Forward this method to the File actions container.
-        return fileActions
+        return getFileActions()
                 .getFileActionCollection( pClientProperties, vectorGraphicsSupported, false );
     }
 
     public Collection< Action > getRegion2DMenuBarActionCollection( final ClientProperties pClientProperties,
                                                                     final boolean vectorGraphicsSupported ) {
-        final XActionGroup fileActionGroup = LabeledActionFactory
-                .getFileActionGroup( pClientProperties, fileActions, vectorGraphicsSupported, false );
-
-        final XActionGroup settingsActionGroup = LabeledActionFactory
-                .getSettingsActionGroup( pClientProperties, settingsActions, true );
-
-        final XActionGroup simulationActionGroup = LabeledActionFactory
-                .getSimulationActionGroup( pClientProperties, simulationActions );
+        final XActionGroup fileActionGroup = getFileActionGroup( pClientProperties,
+                                                                 vectorGraphicsSupported );
+        final XActionGroup settingsActionGroup = getSettingsActionGroup( pClientProperties );
+        final XActionGroup simulationActionGroup = getSimulationActionGroup( pClientProperties );
 
         final Collection< Action > region2DMenuBarActionCollection = Arrays
                 .asList( fileActionGroup, settingsActionGroup, simulationActionGroup );
@@ -103,30 +212,49 @@ public final class Region2DActions {
         return region2DMenuBarActionCollection;
     }
 
+    public XActionGroup getFileActionGroup( final ClientProperties pClientProperties,
+                                            final boolean vectorGraphicsSupported ) {
+        return LabeledActionFactory.getFileActionGroup( pClientProperties,
+                                                        getFileActions(),
+                                                        vectorGraphicsSupported,
+                                                        false );
+    }
+
+    public XActionGroup getSettingsActionGroup( final ClientProperties pClientProperties ) {
+        return LabeledActionFactory.getSettingsActionGroup( pClientProperties,
+                                                            getSettingsActions(),
+                                                            true );
+    }
+
+    public XActionGroup getSimulationActionGroup( final ClientProperties pClientProperties ) {
+        return LabeledActionFactory.getSimulationActionGroup( pClientProperties,
+                                                              getSimulationActions() );
+    }
+
     public String getSelectedBackgroundColorName() {
         // Forward this method to the Settings actions container.
-        return settingsActions.getSelectedBackgroundColorName();
+        return getSettingsActions().getSelectedBackgroundColorName();
     }
 
     public Collection< Action > getSettingsActionCollection( 
             final ClientProperties pClientProperties ) {
         // Forward this method to the File actions container.
-        return settingsActions.getSettingsActionCollection( pClientProperties, true );
+        return getSettingsActions().getSettingsActionCollection( pClientProperties, true );
     }
 
     public Collection< Action > getSimulationActionCollection( 
             final ClientProperties pClientProperties ) {
         // Forward this method to the Simulation actions container.
-        return simulationActions.getSimulationActionCollection( pClientProperties );
+        return getSimulationActions().getSimulationActionCollection( pClientProperties );
     }
 
     public Collection< Action > getWindowSizeActionCollection() {
         // Forward this method to the Settings actions container.
-        return settingsActions.getWindowSizeActionCollection( true );
+        return getSettingsActions().getWindowSizeActionCollection( true );
     }
 
     public Color selectBackgroundColor( final String backgroundColorName ) {
         // Forward this method to the Settings actions container.
-        return settingsActions.selectBackgroundColor( backgroundColorName );
+        return getSettingsActions().selectBackgroundColor( backgroundColorName );
     }
 }
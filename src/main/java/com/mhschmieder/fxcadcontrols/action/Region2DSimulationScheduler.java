@@ -0,0 +1,374 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxCadControls Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxCadControls Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxcadcontrols
+ */
+package com.mhschmieder.fxcadcontrols.action;
+
+import com.mhschmieder.fxcadcontrols.model.Region2DProperties;
+import com.mhschmieder.fxcadcontrols.util.CoalescingFxUpdater;
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.binding.BooleanBinding;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.scene.control.ProgressIndicator;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This is a scheduler that runs Region2D simulations on a worker pool, so
+ * that a heavy prediction never freezes the JavaFX Application Thread.
+ * <p>
+ * Each run works on a copy of the Region taken when it starts, and belongs to
+ * a generation; a Clear, or any change to the Region's boundary or Surface
+ * values, starts a new generation, which cancels the stale run and discards
+ * anything it still reports. Repeated Predict requests while a current run is
+ * in progress are coalesced into that run. Progress and results are delivered
+ * on the JavaFX Application Thread through read-only properties, with
+ * progress updates coalesced so that workers cannot flood the event queue.
+ * <p>
+ * NOTE: All methods other than those of {@link Progress} must be called on
+ *  the JavaFX Application Thread.
+ *
+ * @param <R>
+ *            The type of the simulation result
+ */
+public final class Region2DSimulationScheduler< R > {
+
+    /**
+     * This is the computation that a scheduler runs for each prediction.
+     *
+     * @param <R>
+     *            The type of the simulation result
+     */
+    @FunctionalInterface
+    public interface Simulation< R > {
+
+        /**
+         * Runs the simulation on a worker thread.
+         *
+         * @param region2DProperties
+         *            A private copy of the Region to simulate
+         * @param progress
+         *            The progress reporter, which should also be polled for
+         *            cancellation
+         * @return The simulation result
+         * @throws Exception
+         *             If the simulation fails
+         */
+        R simulate( Region2DProperties region2DProperties, Progress progress ) throws Exception;
+    }
+
+    /**
+     * This is the progress reporter handed to a running simulation.
+     */
+    public interface Progress {
+
+        /**
+         * Returns whether the run has been superseded, in which case the
+         * simulation should stop as soon as possible.
+         *
+         * @return {@code true} if the run is stale
+         */
+        boolean isCancelled();
+
+        /**
+         * Reports the fraction of the run that is complete.
+         *
+         * @param fraction
+         *            The completed fraction, from 0 to 1
+         */
+        void updateProgress( double fraction );
+    }
+
+    // The worker pool, and whether this scheduler created it.
+    private final ExecutorService                  workerPool;
+    private final boolean                          ownsWorkerPool;
+
+    // The current generation; any run from an earlier one is stale.
+    private final AtomicLong                       generation;
+
+    private Simulation< R >                        simulation;
+    private Region2DProperties                     region2DProperties;
+    private final InvalidationListener             regionChangeListener;
+    private Future< ? >                            currentRun;
+
+    private final ReadOnlyBooleanWrapper           running;
+    private final ReadOnlyDoubleWrapper            progress;
+    private final ReadOnlyObjectWrapper< R >       result;
+    private final ReadOnlyObjectWrapper< Throwable > exception;
+
+    /**
+     * Constructs a scheduler with its own pool of daemon worker threads.
+     *
+     * @param numberOfThreads
+     *            The number of worker threads
+     */
+    public Region2DSimulationScheduler( final int numberOfThreads ) {
+        this( makeWorkerPool( numberOfThreads ), true );
+    }
+
+    /**
+     * Constructs a scheduler that runs on a shared worker pool, which the
+     * caller remains responsible for shutting down.
+     *
+     * @param pWorkerPool
+     *            The worker pool to run simulations on
+     */
+    public Region2DSimulationScheduler( final ExecutorService pWorkerPool ) {
+        this( pWorkerPool, false );
+    }
+
+    private Region2DSimulationScheduler( final ExecutorService pWorkerPool,
+                                         final boolean pOwnsWorkerPool ) {
+        workerPool = pWorkerPool;
+        ownsWorkerPool = pOwnsWorkerPool;
+        generation = new AtomicLong();
+
+        simulation = null;
+        region2DProperties = null;
+        currentRun = null;
+
+        running = new ReadOnlyBooleanWrapper( this, "running", false ); //$NON-NLS-1$
+        progress = new ReadOnlyDoubleWrapper( this, "progress", 0.0d ); //$NON-NLS-1$
+        result = new ReadOnlyObjectWrapper<>( this, "result", null ); //$NON-NLS-1$
+        exception = new ReadOnlyObjectWrapper<>( this, "exception", null ); //$NON-NLS-1$
+
+        // NOTE: Bindings only notify invalidation listeners when going from
+        //  valid to invalid, so we must read the new value in order to be
+        //  notified about the next change.
+        regionChangeListener = observable -> {
+            ( ( BooleanBinding ) observable ).get();
+            cancel();
+        };
+    }
+
+    private static ExecutorService makeWorkerPool( final int numberOfThreads ) {
+        final AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool( Math.max( 1, numberOfThreads ), runnable -> {
+            final Thread thread = new Thread( runnable,
+                                              "region2d-simulation-" //$NON-NLS-1$
+                                                      + threadNumber.incrementAndGet() );
+            thread.setDaemon( true );
+            return thread;
+        } );
+    }
+
+    public Simulation< R > getSimulation() {
+        return simulation;
+    }
+
+    public void setSimulation( final Simulation< R > pSimulation ) {
+        cancel();
+        simulation = pSimulation;
+    }
+
+    public Region2DProperties getRegion2DProperties() {
+        return region2DProperties;
+    }
+
+    /**
+     * Sets the Region to simulate, cancelling any run for the previous Region,
+     * and watches it so that boundary or Surface value changes cancel a stale
+     * run.
+     *
+     * @param pRegion2DProperties
+     *            The Region to simulate
+     */
+    public void setRegion2DProperties( final Region2DProperties pRegion2DProperties ) {
+        if ( region2DProperties != null ) {
+            region2DProperties.regionBoundaryChangedProperty()
+                    .removeListener( regionChangeListener );
+            region2DProperties.surfaceValueChangedProperty()
+                    .removeListener( regionChangeListener );
+        }
+
+        cancel();
+        region2DProperties = pRegion2DProperties;
+
+        if ( region2DProperties != null ) {
+            region2DProperties.regionBoundaryChangedProperty()
+                    .addListener( regionChangeListener );
+            region2DProperties.surfaceValueChangedProperty()
+                    .addListener( regionChangeListener );
+
+            // Validate the bindings, so that the next change notifies us.
+            region2DProperties.regionBoundaryChangedProperty().get();
+            region2DProperties.surfaceValueChangedProperty().get();
+        }
+    }
+
+    /**
+     * Requests a prediction for the current Region. If a run for the current
+     * Region is already in progress, the request is coalesced into it.
+     */
+    public void predict() {
+        if ( isRunning() || ( simulation == null ) || ( region2DProperties == null ) ) {
+            return;
+        }
+
+        final long runGeneration = generation.incrementAndGet();
+        final Simulation< R > runSimulation = simulation;
+        final Region2DProperties regionCopy = new Region2DProperties( region2DProperties );
+
+        final CoalescingFxUpdater< Double > progressUpdater = new CoalescingFxUpdater<>(
+                fraction -> {
+                    if ( runGeneration == generation.get() ) {
+                        progress.set( fraction );
+                    }
+                } );
+        final Progress runProgress = new Progress() {
+            @Override
+            public boolean isCancelled() {
+                return ( runGeneration != generation.get() )
+                        || Thread.currentThread().isInterrupted();
+            }
+
+            @Override
+            public void updateProgress( final double fraction ) {
+                if ( !isCancelled() ) {
+                    progressUpdater.post( Math.max( 0.0d, Math.min( 1.0d, fraction ) ) );
+                }
+            }
+        };
+
+        exception.set( null );
+        progress.set( ProgressIndicator.INDETERMINATE_PROGRESS );
+        running.set( true );
+
+        currentRun = workerPool.submit( () -> {
+            try {
+                final R runResult = runSimulation.simulate( regionCopy, runProgress );
+                Platform.runLater( () -> finish( runGeneration, runResult, null ) );
+            }
+            catch ( final Throwable t ) {
+                Platform.runLater( () -> finish( runGeneration, null, t ) );
+            }
+        } );
+    }
+
+    /**
+     * Cancels the current run, if any, keeping the last result.
+     */
+    public void cancel() {
+        generation.incrementAndGet();
+
+        if ( currentRun != null ) {
+            currentRun.cancel( true );
+            currentRun = null;
+        }
+
+        if ( isRunning() ) {
+            running.set( false );
+            progress.set( 0.0d );
+        }
+    }
+
+    /**
+     * Cancels the current run, if any, and clears the last result.
+     */
+    public void clear() {
+        cancel();
+
+        result.set( null );
+        exception.set( null );
+        progress.set( 0.0d );
+    }
+
+    /**
+     * Cancels any run, stops watching the Region, and shuts down the worker
+     * pool if this scheduler created it.
+     */
+    public void dispose() {
+        setRegion2DProperties( null );
+        if ( ownsWorkerPool ) {
+            workerPool.shutdownNow();
+        }
+    }
+
+    private void finish( final long runGeneration,
+                         final R runResult,
+                         final Throwable runException ) {
+        // Results from a stale run are discarded.
+        if ( runGeneration != generation.get() ) {
+            return;
+        }
+
+        currentRun = null;
+        running.set( false );
+
+        if ( runException != null ) {
+            progress.set( 0.0d );
+            exception.set( runException );
+        }
+        else {
+            progress.set( 1.0d );
+            result.set( runResult );
+        }
+    }
+
+    public ReadOnlyBooleanProperty runningProperty() {
+        return running.getReadOnlyProperty();
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * Returns the progress of the current run, which is indeterminate until
+     * the simulation first reports progress.
+     *
+     * @return The progress property, suitable for binding to a
+     *         {@link ProgressIndicator}
+     */
+    public ReadOnlyDoubleProperty progressProperty() {
+        return progress.getReadOnlyProperty();
+    }
+
+    public ReadOnlyObjectProperty< R > resultProperty() {
+        return result.getReadOnlyProperty();
+    }
+
+    public R getResult() {
+        return result.get();
+    }
+
+    public ReadOnlyObjectProperty< Throwable > exceptionProperty() {
+        return exception.getReadOnlyProperty();
+    }
+}
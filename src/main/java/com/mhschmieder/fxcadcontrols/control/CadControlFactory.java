@@ -30,35 +30,59 @@
  */
 package com.mhschmieder.fxcadcontrols.control;
 
+import com.mhschmieder.fxcadcontrols.model.MaterialCatalog;
 import com.mhschmieder.fxgraphics.geometry.SurfaceMaterial;
 import com.mhschmieder.fxcontrols.control.IntegerSelector;
-import com.mhschmieder.fxcontrols.control.ListViewUtilities;
 import com.mhschmieder.fxcontrols.control.XComboBox;
 import com.mhschmieder.jcommons.util.ClientProperties;
+import javafx.scene.control.Tooltip;
 
 public final class CadControlFactory {
 
+    /**
+     * Returns a copy of the supported Surface Materials.
+     *
+     * @return The supported Surface Materials
+     */
+    public static SurfaceMaterial[] getSupportedSurfaceMaterials() {
+        return SurfaceMaterialItems.getSupportedSurfaceMaterials();
+    }
+
+    /*
+     * NOTE: The selector is built directly on the shared, pre-sorted items and
+     *  label converter for the client locale, rather than on its own copy of
+     *  the Material list.
+     */
     public static XComboBox< SurfaceMaterial > getSurfaceMaterialSelector(
             final ClientProperties pClientProperties,
             final String tooltipText,
             final boolean applyToolkitCss ) {
-        final SurfaceMaterial[] supportedValues = {
-                SurfaceMaterial.ACOUSTIC_TILE_ON_RIGID_SURF_KF,
-                SurfaceMaterial.BRICK_WALL_PAINTED_LB,
-                SurfaceMaterial.BRICK_WALL_UNPAINTED_LB,
-                SurfaceMaterial.CARPET_HEAVY_ON_CONCRETE_CH,
-                SurfaceMaterial.CONCRETE_BLOCK_PAINTED_CH,
-                SurfaceMaterial.CONCRETE_BLOCK_UNPAINTED_CH,
-                SurfaceMaterial.PLASTER_ON_LATHE_CH,
-                SurfaceMaterial.POURED_CONCRETE_PAINTED_LB,
-                SurfaceMaterial.POURED_CONCRETE_UNPAINTED_LB,
-                SurfaceMaterial.RIGID,
-                SurfaceMaterial.VELOUR_TEN_OZ_PER_YARD_SQR_TOUCHING_WALL_CH };
-        return ListViewUtilities.makeLabeledSelector(
-                pClientProperties,
-                supportedValues,
-                tooltipText,
-                SurfaceMaterial.defaultValue() );
+        final XComboBox< SurfaceMaterial > surfaceMaterialSelector = new XComboBox<>();
+        surfaceMaterialSelector.setItems(
+                SurfaceMaterialItems.getItems( pClientProperties.locale ) );
+        surfaceMaterialSelector.setConverter(
+                SurfaceMaterialItems.getConverter( pClientProperties.locale ) );
+        surfaceMaterialSelector.setTooltip( new Tooltip( tooltipText ) );
+        surfaceMaterialSelector.setValue( SurfaceMaterial.defaultValue() );
+        return surfaceMaterialSelector;
+    }
+
+    /*
+     * NOTE: Once a materials catalog is loaded, the Surface Material selector
+     *  searches the catalog rather than listing the fixed Materials; bind its
+     *  value to the Surface's Catalog Material property.
+     */
+    public static MaterialCatalogSelector getSurfaceMaterialSelector(
+            final ClientProperties pClientProperties,
+            final String tooltipText,
+            final boolean applyToolkitCss,
+            final MaterialCatalog materialCatalog ) {
+        final MaterialCatalogSelector surfaceMaterialSelector
+                = new MaterialCatalogSelector( materialCatalog );
+        if ( tooltipText != null ) {
+            surfaceMaterialSelector.setTooltip( new Tooltip( tooltipText ) );
+        }
+        return surfaceMaterialSelector;
     }
 
     public static IntegerSelector getProjectionZonesSelector( final ClientProperties pClientProperties,   
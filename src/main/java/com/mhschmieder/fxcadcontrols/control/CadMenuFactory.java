@@ -30,27 +30,206 @@
  */
 package com.mhschmieder.fxcadcontrols.control;
 
+import com.mhschmieder.fxcadcontrols.action.CadLabeledActionFactory;
 import com.mhschmieder.fxcadcontrols.action.Region2DActions;
 import com.mhschmieder.fxcontrols.action.XActionUtilities;
 import com.mhschmieder.jcommons.util.ClientProperties;
+import javafx.application.Platform;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.event.ActionEvent;
+import javafx.scene.Scene;
+import javafx.scene.control.Menu;
 import javafx.scene.control.MenuBar;
+import javafx.scene.control.MenuItem;
+import javafx.scene.input.KeyCombination;
 import org.controlsfx.control.action.Action;
+import org.controlsfx.control.action.ActionGroup;
 
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * This is a factory class for generating Menus for CAD.
  */
 public final class CadMenuFactory {
 
+    // The key under which a lazy menu keeps its content in its properties.
+    private static final String LAZY_MENU_CONTENT_KEY = "lazyMenuContent"; //$NON-NLS-1$
+
+    /*
+     * NOTE: Only the menu titles are made up front. Each menu's action group
+     *  (with its labels and icons) is built on the JavaFX Application Thread
+     *  just after the menu bar is first placed in a scene, so that the
+     *  accelerators work straight away without holding up the first window,
+     *  and the menu items are only made when each menu is first shown.
+     */
     public static MenuBar getRegion2DMenuBar( final ClientProperties pClientProperties,
                                               final Region2DActions region2DActions,
                                               final boolean vectorGraphicsSupported ) {
-        final Collection< Action > region2DMenuBarActionCollection = region2DActions
-                .getRegion2DMenuBarActionCollection( pClientProperties, vectorGraphicsSupported );
-        final MenuBar region2DMenuBar = XActionUtilities
-                .createMenuBar( region2DMenuBarActionCollection );
+        final MenuBar region2DMenuBar = new MenuBar();
+        region2DMenuBar.getMenus().addAll(
+                makeLazyMenu( CadLabeledActionFactory.getMenuLabel( pClientProperties, "file" ), //$NON-NLS-1$
+                              () -> region2DActions.getFileActionGroup( pClientProperties,
+                                                                        vectorGraphicsSupported ) ),
+                makeLazyMenu( CadLabeledActionFactory.getMenuLabel( pClientProperties, "settings" ), //$NON-NLS-1$
+                              () -> region2DActions.getSettingsActionGroup( pClientProperties ) ),
+                makeLazyMenu( CadLabeledActionFactory.getMenuLabel( pClientProperties, "simulation" ), //$NON-NLS-1$
+                              () -> region2DActions.getSimulationActionGroup( pClientProperties ) ) );
+        installLazyAccelerators( region2DMenuBar );
         return region2DMenuBar;
     }
 
+    /**
+     * Makes a menu whose action group is only built when it is first needed,
+     * and whose items are only made when it is first shown.
+     * <p>
+     * NOTE: The group is built on the JavaFX Application Thread, as the
+     *  actions' icons are nodes. If building it fails, the menu keeps its
+     *  placeholder and tries again the next time it is shown.
+     *
+     * @param menuText
+     *            The menu title, with its mnemonic marked in JavaFX syntax
+     * @param actionGroupSupplier
+     *            The supplier of the action group, which is called until it
+     *            first succeeds
+     * @return The menu, which is populated when first shown
+     */
+    public static Menu makeLazyMenu( final String menuText,
+                                     final Supplier< ? extends Action > actionGroupSupplier ) {
+        final Menu menu = new Menu( menuText );
+        menu.setMnemonicParsing( true );
+
+        // NOTE: A menu with no items is never shown, so it needs a placeholder
+        //  until it is populated.
+        final MenuItem placeholderItem = new MenuItem();
+        placeholderItem.setDisable( true );
+        menu.getItems().add( placeholderItem );
+
+        final LazyMenuContent lazyMenuContent = new LazyMenuContent( menu,
+                                                                     placeholderItem,
+                                                                     actionGroupSupplier );
+        menu.getProperties().put( LAZY_MENU_CONTENT_KEY, lazyMenuContent );
+        menu.setOnShowing( event -> lazyMenuContent.populate() );
+
+        return menu;
+    }
+
+    /**
+     * Registers the accelerators of every lazy menu in a menu bar with the
+     * scene, once the menu bar is first placed in one, without making the menu
+     * items. The action groups are built in a later pulse, so that they do
+     * not hold up showing the window.
+     * <p>
+     * NOTE: Once a menu is populated, its items register the same
+     *  accelerators in the usual way, which simply take over from these.
+     *
+     * @param menuBar
+     *            The menu bar whose lazy menus need accelerators
+     */
+    public static void installLazyAccelerators( final MenuBar menuBar ) {
+        menuBar.sceneProperty().addListener( new ChangeListener< Scene >() {
+            @Override
+            public void changed( final ObservableValue< ? extends Scene > observable,
+                                 final Scene oldScene,
+                                 final Scene newScene ) {
+                if ( newScene == null ) {
+                    return;
+                }
+
+                observable.removeListener( this );
+                Platform.runLater( () -> {
+                    for ( final Menu menu : menuBar.getMenus() ) {
+                        final Object lazyMenuContent = menu.getProperties()
+                                .get( LAZY_MENU_CONTENT_KEY );
+                        if ( lazyMenuContent instanceof LazyMenuContent ) {
+                            ( ( LazyMenuContent ) lazyMenuContent )
+                                    .registerAccelerators( newScene.getAccelerators() );
+                        }
+                    }
+                } );
+            }
+        } );
+    }
+
+    /**
+     * This is the on-demand content of a lazy menu.
+     */
+    private static final class LazyMenuContent {
+
+        private final Menu                          menu;
+        private final MenuItem                      placeholderItem;
+        private final Supplier< ? extends Action >  actionGroupSupplier;
+
+        // NOTE: This is only set once the supplier succeeds.
+        private Action                              actionGroup;
+
+        LazyMenuContent( final Menu pMenu,
+                         final MenuItem pPlaceholderItem,
+                         final Supplier< ? extends Action > pActionGroupSupplier ) {
+            menu = pMenu;
+            placeholderItem = pPlaceholderItem;
+            actionGroupSupplier = pActionGroupSupplier;
+            actionGroup = null;
+        }
+
+        Action getActionGroup() {
+            if ( actionGroup == null ) {
+                actionGroup = actionGroupSupplier.get();
+            }
+            return actionGroup;
+        }
+
+        void registerAccelerators( final Map< KeyCombination, Runnable > accelerators ) {
+            try {
+                registerAccelerators( accelerators, getActionGroup() );
+            }
+            catch ( final RuntimeException re ) {
+                // The menu tries again when shown, so the other menus carry on.
+                re.printStackTrace();
+            }
+        }
+
+        private void registerAccelerators( final Map< KeyCombination, Runnable > accelerators,
+                                           final Action action ) {
+            if ( action instanceof ActionGroup ) {
+                for ( final Action childAction : ( ( ActionGroup ) action ).getActions() ) {
+                    registerAccelerators( accelerators, childAction );
+                }
+                return;
+            }
+
+            final KeyCombination accelerator = ( action != null )
+                ? action.getAccelerator()
+                : null;
+            if ( accelerator != null ) {
+                // NOTE: A menu item that is already registered keeps its own.
+                accelerators.putIfAbsent( accelerator, () -> {
+                    if ( !action.isDisabled() ) {
+                        action.handle( new ActionEvent() );
+                    }
+                } );
+            }
+        }
+
+        void populate() {
+            if ( !menu.getItems().contains( placeholderItem ) ) {
+                return;
+            }
+
+            // Build the menu the same way as for an eager menu bar, and then
+            // move its items over.
+            final MenuBar menuBar = XActionUtilities.createMenuBar(
+                    Collections.singletonList( getActionGroup() ) );
+            final List< MenuItem > menuItems = new ArrayList<>();
+            for ( final Menu builtMenu : menuBar.getMenus() ) {
+                menuItems.addAll( builtMenu.getItems() );
+                builtMenu.getItems().clear();
+            }
+            menu.getItems().setAll( menuItems );
+        }
+    }
 }
@@ -30,20 +30,39 @@
  */
 package com.mhschmieder.fxcadcontrols.control;
 
+import com.mhschmieder.fxcadcontrols.util.GraphicalObjectLabelRegistry;
+import com.mhschmieder.fxgraphics.LabelAssignable;
 import com.mhschmieder.fxgraphics.geometry.GraphicalObject;
 import com.mhschmieder.fxgraphics.collections.GraphicalObjectCollection;
 import com.mhschmieder.fxcontrols.control.TextEditor;
 import com.mhschmieder.jcommons.text.NumberFormatUtilities;
 import com.mhschmieder.jcommons.util.ClientProperties;
+import javafx.animation.PauseTransition;
+import javafx.beans.InvalidationListener;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.collections.ObservableList;
+import javafx.util.Duration;
 
 import java.text.NumberFormat;
 
 /**
  * This is a specialized label textField for Graphical Objects, that guarantees
  * name uniqueness, among other special contracts.
+ * <p>
+ * When a {@link GraphicalObjectLabelRegistry} is attached to the editor, label
+ * uniqueness is resolved against the registry's incrementally maintained index
+ * rather than by asking the collection to scan its members, which keeps the
+ * JavaFX Application Thread responsive for large collections. The simplest way
+ * to get one is {@link #attachLabelRegistry(ObservableList)}, with the
+ * observable list that backs the collection; the editor then owns the registry
+ * and detaches it when it is replaced.
  */
 public final class GraphicalObjectLabelEditor extends TextEditor {
 
+    // Default delay after the last keystroke before validating the label.
+    public static final double VALIDATION_DELAY_MILLISECONDS_DEFAULT = 150.0d;
+
     // Declare a default base label for new Graphical Objects.
     private final String                                             _graphicalObjectLabelDefault;
 
@@ -54,6 +73,21 @@ public final class GraphicalObjectLabelEditor extends TextEditor {
     // uniquefier appendices.
     public NumberFormat                                              _uniquefierNumberFormat;
 
+    // Optional index of the labels in the collection, for fast uniqueness.
+    private GraphicalObjectLabelRegistry< ? >                        _labelRegistry;
+
+    // Whether the label registry was made by this editor, which disposes it.
+    private boolean                                                  _labelRegistryOwned;
+
+    // Observable result of the most recent validate-as-you-type check.
+    private final ReadOnlyBooleanWrapper                             _labelUnique;
+
+    // Timer that coalesces keystrokes before validating the label.
+    private PauseTransition                                          _validationTimer;
+
+    // Listener that restarts the validation timer on every text change.
+    private InvalidationListener                                     _textListener;
+
     public GraphicalObjectLabelEditor( final ClientProperties pClientProperties,
                                        final String graphicalObjectLabelDefault,
                                        final GraphicalObjectCollection< ? extends GraphicalObject > graphicalObjectCollection ) {
@@ -85,6 +119,9 @@ public final class GraphicalObjectLabelEditor extends TextEditor {
 
         _graphicalObjectLabelDefault = graphicalObjectLabelDefault;
         _graphicalObjectCollection = graphicalObjectCollection;
+        _labelRegistry = null;
+        _labelRegistryOwned = false;
+        _labelUnique = new ReadOnlyBooleanWrapper( this, "labelUnique", true ); //$NON-NLS-1$
 
         try {
             initEditor();
@@ -114,9 +151,52 @@ public final class GraphicalObjectLabelEditor extends TextEditor {
     }
 
     public String getNewGraphicalObjectLabelDefault() {
+        if ( _labelRegistry != null ) {
+            return _labelRegistry.getNewLabelDefault( _graphicalObjectLabelDefault );
+        }
+
         return _graphicalObjectCollection.getNewLabelDefault( _graphicalObjectLabelDefault );
     }
 
+    public GraphicalObjectLabelRegistry< ? > getLabelRegistry() {
+        return _labelRegistry;
+    }
+
+    /**
+     * Attaches a label registry for the Graphical Object Collection, so that
+     * uniqueness checks no longer need to scan the collection. Pass
+     * {@code null} to revert to querying the collection directly.
+     *
+     * @param labelRegistry
+     *            The registry of labels used by the collection
+     */
+    public void setLabelRegistry( final GraphicalObjectLabelRegistry< ? > labelRegistry ) {
+        if ( _labelRegistryOwned ) {
+            _labelRegistry.dispose();
+            _labelRegistryOwned = false;
+        }
+
+        _labelRegistry = labelRegistry;
+    }
+
+    /**
+     * Makes and attaches a label registry for the observable list that backs
+     * the Graphical Object Collection, replacing any registry already attached.
+     * The registry is owned by this editor, and is detached from the list when
+     * it is replaced or when {@link #setLabelRegistry} is called with
+     * {@code null}.
+     *
+     * @param labeledObjects
+     *            The observable list of labeled objects in the collection
+     * @param <T>
+     *            The type of labeled object in the collection
+     */
+    public < T extends LabelAssignable > void attachLabelRegistry( final ObservableList< T > labeledObjects ) {
+        setLabelRegistry( new GraphicalObjectLabelRegistry<>( labeledObjects,
+                                                              _uniquefierNumberFormat ) );
+        _labelRegistryOwned = true;
+    }
+
     // Get a unique Graphical Object Label from the candidate label.
     // NOTE: The default label is only used when the edited label is blank.
     public String getUniqueGraphicalObjectLabel( final String graphicalObjectLabelCandidate ) {
@@ -127,6 +207,18 @@ public final class GraphicalObjectLabelEditor extends TextEditor {
     // NOTE: The default label is only used when the edited label is blank.
     public String getUniqueGraphicalObjectLabel( final String graphicalObjectLabelCandidate,
                                                  final String graphicalObjectLabelCurrent ) {
+        if ( _labelRegistry != null ) {
+            // NOTE: The default is only computed when it is actually needed.
+            final boolean candidateBlank = ( graphicalObjectLabelCandidate == null )
+                    || graphicalObjectLabelCandidate.trim().isEmpty();
+            final String graphicalObjectLabelDefault = candidateBlank
+                ? _labelRegistry.getNewLabelDefault( _graphicalObjectLabelDefault )
+                : _graphicalObjectLabelDefault;
+            return _labelRegistry.getUniqueLabel( graphicalObjectLabelCandidate,
+                                                  graphicalObjectLabelDefault,
+                                                  graphicalObjectLabelCurrent );
+        }
+
         final String graphicalObjectLabelDefault = getNewGraphicalObjectLabelDefault();
         return _graphicalObjectCollection.getUniqueLabel( graphicalObjectLabelCandidate,
                                                           graphicalObjectLabelDefault,
@@ -136,7 +228,75 @@ public final class GraphicalObjectLabelEditor extends TextEditor {
 
     // Find out if the candidate label is unique.
     public boolean isGraphicalObjectLabelUnique( final String graphicalObjectLabelCandidate ) {
+        if ( _labelRegistry != null ) {
+            return _labelRegistry.isLabelUnique( graphicalObjectLabelCandidate );
+        }
+
         return _graphicalObjectCollection.isLabelUnique( graphicalObjectLabelCandidate );
     }
 
+    public ReadOnlyBooleanProperty labelUniqueProperty() {
+        return _labelUnique.getReadOnlyProperty();
+    }
+
+    public boolean isLabelUnique() {
+        return _labelUnique.get();
+    }
+
+    public boolean isValidateAsYouType() {
+        return _textListener != null;
+    }
+
+    /**
+     * Turns on or off validation of the label while the user is typing, with
+     * the result published to {@link #labelUniqueProperty()}.
+     * <p>
+     * Keystrokes are coalesced by a short timer, so the check runs once when
+     * typing pauses rather than on every keystroke, and it never blocks
+     * rendering. This is intended for use with a label registry, as otherwise
+     * each check still asks the collection to scan its members.
+     *
+     * @param validateAsYouType
+     *            {@code true} if the label should be validated while typing
+     */
+    public void setValidateAsYouType( final boolean validateAsYouType ) {
+        if ( validateAsYouType == isValidateAsYouType() ) {
+            return;
+        }
+
+        if ( validateAsYouType ) {
+            _validationTimer = new PauseTransition(
+                    Duration.millis( VALIDATION_DELAY_MILLISECONDS_DEFAULT ) );
+            _validationTimer.setOnFinished( evt -> validateLabel() );
+
+            _textListener = observable -> _validationTimer.playFromStart();
+            textProperty().addListener( _textListener );
+
+            validateLabel();
+        }
+        else {
+            textProperty().removeListener( _textListener );
+            _textListener = null;
+
+            _validationTimer.stop();
+            _validationTimer = null;
+
+            _labelUnique.set( true );
+        }
+    }
+
+    private void validateLabel() {
+        // The object being edited may keep its own label, so compare against
+        // the most recent committed value.
+        final String text = getText();
+        final String currentValue = getValue();
+        final boolean labelUnique = ( text == null )
+                || text.trim().isEmpty()
+                || text.trim().equals( currentValue )
+                || ( ( _labelRegistry != null )
+                    ? _labelRegistry.isLabelUnique( text.trim(), currentValue )
+                    : isGraphicalObjectLabelUnique( text.trim() ) );
+        _labelUnique.set( labelUnique );
+    }
+
 }
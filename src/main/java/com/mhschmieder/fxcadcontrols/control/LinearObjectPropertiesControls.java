@@ -30,6 +30,7 @@
  */
 package com.mhschmieder.fxcadcontrols.control;
 
+import com.mhschmieder.fxgraphics.LabelAssignable;
 import com.mhschmieder.fxgraphics.collections.GraphicalObjectCollection;
 import com.mhschmieder.fxgraphics.geometry.LinearObject;
 import com.mhschmieder.fxcontrols.control.ControlUtilities;
@@ -38,6 +39,7 @@ import com.mhschmieder.fxgui.util.GuiUtilities;
 import com.mhschmieder.fxlayercontrols.control.LayerSelector;
 import com.mhschmieder.fxgraphics.layers.Layer;
 import com.mhschmieder.jcommons.util.ClientProperties;
+import javafx.collections.ObservableList;
 import javafx.scene.control.CheckBox;
 import javafx.scene.layout.GridPane;
 
@@ -50,6 +52,27 @@ public final class LinearObjectPropertiesControls {
     public CheckBox                   _useAsProjectorCheckBox;
     public IntegerSelector            _projectionZonesSelector;
 
+    // Constructor that keeps labels unique via an index of the labeled objects,
+    // rather than by scanning the collection on every edit.
+    public LinearObjectPropertiesControls( final ClientProperties pClientProperties,
+                                        final boolean applyToolkitCss,
+                                        final String linearObjectLabelDefault,
+                                        final GraphicalObjectCollection< ? extends LinearObject > linearObjectCollection,
+                                        final ObservableList< ? extends LabelAssignable > linearObjects,
+                                        final String projectorType,
+                                        final String projectionZonesType,
+                                        final String projectionZonesUsageContext ) {
+        this( pClientProperties,
+              applyToolkitCss,
+              linearObjectLabelDefault,
+              linearObjectCollection,
+              projectorType,
+              projectionZonesType,
+              projectionZonesUsageContext );
+
+        _linearObjectLabelEditor.attachLabelRegistry( linearObjects );
+    }
+
     // Default constructor
     public LinearObjectPropertiesControls( final ClientProperties pClientProperties,
                                         final boolean applyToolkitCss,
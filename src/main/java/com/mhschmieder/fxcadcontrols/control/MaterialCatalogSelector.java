@@ -0,0 +1,250 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxCadControls Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxCadControls Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxcadcontrols
+ */
+package com.mhschmieder.fxcadcontrols.control;
+
+import com.mhschmieder.fxcadcontrols.model.CatalogMaterial;
+import com.mhschmieder.fxcadcontrols.model.MaterialCatalog;
+import com.mhschmieder.fxcadcontrols.util.CadMessageFactory;
+import com.mhschmieder.fxcontrols.control.XComboBox;
+import javafx.animation.AnimationTimer;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.control.Tooltip;
+import javafx.util.StringConverter;
+
+import java.util.List;
+
+/**
+ * Material Catalog Selector is an editable, filtering selector for the
+ * materials in a {@link MaterialCatalog}, which can hold thousands of entries.
+ * <p>
+ * As the user types, the catalog is searched incrementally, spending at most
+ * a fixed time budget per animation frame, and the drop-down list grows as
+ * matches are found; a new keystroke abandons the previous search. Only a
+ * bounded number of matches is ever listed, as no one scrolls through
+ * thousands of them. The selected material and the text being typed are kept
+ * while the matches change, even when the material is no longer listed.
+ * <p>
+ * To edit the material of a Surface, bind the value bidirectionally to
+ * {@link com.mhschmieder.fxcadcontrols.model.SurfaceProperties#catalogMaterialProperty()}.
+ */
+public final class MaterialCatalogSelector extends XComboBox< CatalogMaterial > {
+
+    // Time to spend searching per animation frame, in nanoseconds.
+    public static final long SEARCH_BUDGET_NANOS_DEFAULT   = 4_000_000L;
+
+    // Maximum number of matches to list.
+    public static final int  MAXIMUM_NUMBER_OF_MATCHES_DEFAULT = 200;
+
+    // The catalog to search, which may be replaced.
+    private MaterialCatalog                  _materialCatalog;
+
+    // The matches listed so far, which is the item list of this selector.
+    private final ObservableList< CatalogMaterial > _matches;
+
+    // The search in progress, if any, and how many of its matches are listed.
+    private MaterialCatalog.Search           _search;
+    private int                              _numberOfListedMatches;
+
+    // Pulse-driven stepper for the search in progress.
+    private final AnimationTimer             _searchTimer;
+
+    // Flag for whether the matches are being changed, during which the value
+    // and text changes that the item list causes are undone.
+    private boolean                          _updatingMatches;
+
+    public MaterialCatalogSelector( final MaterialCatalog materialCatalog ) {
+        super();
+
+        _materialCatalog = materialCatalog;
+        _matches = FXCollections.observableArrayList();
+        _search = null;
+        _numberOfListedMatches = 0;
+        _updatingMatches = false;
+
+        _searchTimer = new AnimationTimer() {
+            @Override
+            public void handle( final long now ) {
+                advanceSearch();
+            }
+        };
+
+        try {
+            initSelector();
+        }
+        catch ( final Exception ex ) {
+            ex.printStackTrace();
+        }
+    }
+
+    private void initSelector() {
+        setEditable( true );
+        setItems( _matches );
+        setTooltip( new Tooltip( CadMessageFactory.getMaterialCatalogSelectorTooltip() ) );
+
+        setConverter( new StringConverter< CatalogMaterial >() {
+            @Override
+            public String toString( final CatalogMaterial material ) {
+                return ( material != null ) ? material.getName() : ""; //$NON-NLS-1$
+            }
+
+            @Override
+            public CatalogMaterial fromString( final String name ) {
+                return ( _materialCatalog != null )
+                    ? _materialCatalog.getMaterial( name )
+                    : null;
+            }
+        } );
+
+        // Restart the search whenever the user edits the text, but not when
+        // the text merely reflects a newly selected material.
+        getEditor().textProperty().addListener( ( observable, oldText, newText ) -> {
+            if ( _updatingMatches ) {
+                return;
+            }
+            final CatalogMaterial material = getValue();
+            if ( ( material != null ) && material.getName().equals( newText ) ) {
+                return;
+            }
+            startSearch( newText );
+        } );
+
+        startSearch( "" ); //$NON-NLS-1$
+    }
+
+    public MaterialCatalog getMaterialCatalog() {
+        return _materialCatalog;
+    }
+
+    public void setMaterialCatalog( final MaterialCatalog materialCatalog ) {
+        // Keep the selected material if the new catalog has one by that name.
+        final CatalogMaterial material = getValue();
+        _materialCatalog = materialCatalog;
+        setValue( ( ( material != null ) && ( materialCatalog != null ) )
+            ? materialCatalog.getMaterial( material.getName() )
+            : null );
+        startSearch( getEditor().getText() );
+    }
+
+    /**
+     * Starts a new search for the supplied text, abandoning any search that is
+     * still in progress.
+     *
+     * @param text
+     *            The text to search the catalog for
+     */
+    public void startSearch( final String text ) {
+        _searchTimer.stop();
+        setMatches( 0, null );
+
+        if ( _materialCatalog == null ) {
+            _search = null;
+            return;
+        }
+
+        _search = _materialCatalog.newSearch( text );
+
+        // Take the first step right away, as small catalogs finish in one.
+        if ( !advanceSearch() ) {
+            _searchTimer.start();
+        }
+    }
+
+    public boolean isSearching() {
+        return ( _search != null ) && !_search.isDone();
+    }
+
+    /*
+     * Advances the current search by one time budget, and lists whatever new
+     * matches were found.
+     */
+    private boolean advanceSearch() {
+        if ( _search == null ) {
+            _searchTimer.stop();
+            return true;
+        }
+
+        final boolean done = _search.advance( SEARCH_BUDGET_NANOS_DEFAULT,
+                                              MAXIMUM_NUMBER_OF_MATCHES_DEFAULT );
+
+        final List< CatalogMaterial > matches = _search.getMatches();
+        if ( matches.size() > _numberOfListedMatches ) {
+            setMatches( _numberOfListedMatches, matches );
+        }
+
+        if ( done ) {
+            _searchTimer.stop();
+
+            // Bring up the list of matches if the user is typing.
+            if ( isFocused() && !isShowing() && !_matches.isEmpty() ) {
+                show();
+            }
+        }
+
+        return done;
+    }
+
+    /*
+     * Replaces the listed matches from the supplied position onwards with the
+     * rest of the supplied matches, or removes them if there are none.
+     * <p>
+     * NOTE: Removing the selected material from the items would otherwise
+     *  clear the value, which in turn resets the text that is being typed.
+     */
+    private void setMatches( final int fromIndex, final List< CatalogMaterial > matches ) {
+        final CatalogMaterial value = getValue();
+        final String text = getEditor().getText();
+        final int caretPosition = getEditor().getCaretPosition();
+
+        _updatingMatches = true;
+        try {
+            if ( matches == null ) {
+                _matches.remove( fromIndex, _matches.size() );
+                _numberOfListedMatches = fromIndex;
+            }
+            else {
+                _matches.addAll( matches.subList( fromIndex, matches.size() ) );
+                _numberOfListedMatches = matches.size();
+            }
+
+            if ( getValue() != value ) {
+                setValue( value );
+            }
+            if ( ( text != null ) && !text.equals( getEditor().getText() ) ) {
+                getEditor().setText( text );
+                getEditor().positionCaret( caretPosition );
+            }
+        }
+        finally {
+            _updatingMatches = false;
+        }
+    }
+}
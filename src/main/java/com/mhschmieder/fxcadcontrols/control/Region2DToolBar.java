@@ -31,10 +31,12 @@
 package com.mhschmieder.fxcadcontrols.control;
 
 import com.mhschmieder.fxcadcontrols.action.Region2DActions;
+import com.mhschmieder.fxcadcontrols.action.Region2DSimulationScheduler;
 import com.mhschmieder.fxcontrols.control.LabeledControlFactory;
 import com.mhschmieder.fxcontrols.control.PredictButtons;
 import com.mhschmieder.jcommons.util.ClientProperties;
 import javafx.scene.control.Button;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.ToolBar;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Priority;
@@ -43,8 +45,14 @@ import javafx.scene.layout.Region;
 public final class Region2DToolBar extends ToolBar {
 
     // Declare tool bar buttons for shortcuts, etc.
-    public PredictButtons _predictButtons;
-    public Button         _resetButton;
+    public PredictButtons    _predictButtons;
+    public Button            _resetButton;
+
+    // Progress indicator for a prediction that is running in the background.
+    public ProgressIndicator _simulationProgressIndicator;
+
+    // The actions behind the buttons, which own the simulation routing.
+    private final Region2DActions _region2DActions;
 
     // Default constructor
     public Region2DToolBar( final ClientProperties pClientProperties,
@@ -52,6 +60,8 @@ public final class Region2DToolBar extends ToolBar {
         // Always call the superclass constructor first!
         super();
 
+        _region2DActions = region2DActions;
+
         try {
             initToolBar( pClientProperties, region2DActions );
         }
@@ -63,9 +73,16 @@ public final class Region2DToolBar extends ToolBar {
     private void initToolBar( final ClientProperties pClientProperties,
                               final Region2DActions region2DActions ) {
         // Make the Nodes for the Tool Bar.
-        _predictButtons = new PredictButtons( pClientProperties, region2DActions.simulationActions );
+        _predictButtons = new PredictButtons( pClientProperties,
+                                              region2DActions.getSimulationActions() );
         _resetButton = LabeledControlFactory.getResetButton( pClientProperties,
-                                                             region2DActions.resetAction );
+                                                             region2DActions.getResetAction() );
+
+        _simulationProgressIndicator = new ProgressIndicator( 0.0d );
+        _simulationProgressIndicator.setPrefSize( 24.0d, 24.0d );
+        _simulationProgressIndicator.setVisible( false );
+        _simulationProgressIndicator.managedProperty().bind(
+                _simulationProgressIndicator.visibleProperty() );
 
         // Add a spacer to separate logical groupings.
         // NOTE: We also force the Reset Button to right-justify, and to stay
@@ -76,8 +93,39 @@ public final class Region2DToolBar extends ToolBar {
         // Add all the Nodes to the Tool Bar.
         getItems().addAll( _predictButtons.predictButton,
                            _predictButtons.clearButton,
+                           _simulationProgressIndicator,
                            spacer1,
                            _resetButton );
     }
 
+    /**
+     * Routes the Predict and Clear actions to a background simulation
+     * scheduler, via {@link Region2DActions#setSimulationScheduler}, and shows
+     * its progress while a prediction runs.
+     *
+     * @param simulationScheduler
+     *            The scheduler to route to, or {@code null} to detach
+     */
+    public void setSimulationScheduler(
+            final Region2DSimulationScheduler< ? > simulationScheduler ) {
+        _simulationProgressIndicator.visibleProperty().unbind();
+        _simulationProgressIndicator.progressProperty().unbind();
+
+        _region2DActions.setSimulationScheduler( simulationScheduler );
+
+        if ( simulationScheduler != null ) {
+            _simulationProgressIndicator.visibleProperty().bind(
+                    simulationScheduler.runningProperty() );
+            _simulationProgressIndicator.progressProperty().bind(
+                    simulationScheduler.progressProperty() );
+        }
+        else {
+            _simulationProgressIndicator.setVisible( false );
+        }
+    }
+
+    public Region2DSimulationScheduler< ? > getSimulationScheduler() {
+        return _region2DActions.getSimulationScheduler();
+    }
+
 }
@@ -0,0 +1,261 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxCadControls Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxCadControls Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxcadcontrols
+ */
+package com.mhschmieder.fxcadcontrols.control;
+
+import com.mhschmieder.fxgraphics.geometry.SurfaceMaterial;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.util.StringConverter;
+
+import java.text.Collator;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.function.BiFunction;
+
+/**
+ * Surface Material Items is the shared item model for all Surface Material
+ * selectors, so that each selector references one immutable list rather than
+ * building its own.
+ * <p>
+ * For each locale, the labels are computed once, from the Surface Material
+ * resource bundle by default, and the supported Materials are sorted once by
+ * label using that locale's collation rules. The supported
+ * Materials can be replaced, along with the labels to show for them, such as
+ * after loading a materials catalog, which simply discards the cached models;
+ * selectors that already exist keep the list they were given.
+ * <p>
+ * NOTE: This class is intended to be used from the JavaFX Application Thread,
+ *  but is synchronized as it may also be warmed up from a background thread.
+ */
+public final class SurfaceMaterialItems {
+
+    // The Surface Materials from Olsen's acoustic textbook, in default order.
+    private static final SurfaceMaterial[] SURFACE_MATERIALS_DEFAULT = {
+            SurfaceMaterial.ACOUSTIC_TILE_ON_RIGID_SURF_KF,
+            SurfaceMaterial.BRICK_WALL_PAINTED_LB,
+            SurfaceMaterial.BRICK_WALL_UNPAINTED_LB,
+            SurfaceMaterial.CARPET_HEAVY_ON_CONCRETE_CH,
+            SurfaceMaterial.CONCRETE_BLOCK_PAINTED_CH,
+            SurfaceMaterial.CONCRETE_BLOCK_UNPAINTED_CH,
+            SurfaceMaterial.PLASTER_ON_LATHE_CH,
+            SurfaceMaterial.POURED_CONCRETE_PAINTED_LB,
+            SurfaceMaterial.POURED_CONCRETE_UNPAINTED_LB,
+            SurfaceMaterial.RIGID,
+            SurfaceMaterial.VELOUR_TEN_OZ_PER_YARD_SQR_TOUCHING_WALL_CH };
+
+    /** The resource bundle with the default label for each Surface Material. */
+    public static final String SURFACE_MATERIAL_LABELS_BUNDLE_NAME
+            = "properties.SurfaceMaterialLabels"; //$NON-NLS-1$
+
+    // Surface Materials are labeled from the resource bundle by default.
+    private static final BiFunction< SurfaceMaterial, Locale, String > LABELER_DEFAULT
+            = SurfaceMaterialItems::getBundleLabel;
+
+    // The currently supported Surface Materials, in no particular order.
+    private static SurfaceMaterial[] supportedSurfaceMaterials = SURFACE_MATERIALS_DEFAULT;
+
+    // The labels to show for the currently supported Surface Materials.
+    private static BiFunction< ? super SurfaceMaterial, ? super Locale, String > labeler
+            = LABELER_DEFAULT;
+
+    // The item models built so far, keyed by locale.
+    private static final Map< Locale, LocalizedItems > ITEMS_BY_LOCALE = new HashMap<>();
+
+    /**
+     * The default constructor is disabled, as this is a static utilities class.
+     */
+    private SurfaceMaterialItems() {}
+
+    /**
+     * Returns the shared, unmodifiable list of supported Surface Materials,
+     * sorted by their labels for the supplied locale.
+     *
+     * @param locale
+     *            The locale to use for labels and sorting
+     * @return The shared Surface Material items for the locale
+     */
+    public static ObservableList< SurfaceMaterial > getItems( final Locale locale ) {
+        return getLocalizedItems( locale ).items;
+    }
+
+    /**
+     * Returns the shared label converter for the supplied locale, which looks
+     * up the pre-computed labels rather than formatting them for every cell.
+     *
+     * @param locale
+     *            The locale to use for labels
+     * @return The shared Surface Material label converter for the locale
+     */
+    public static StringConverter< SurfaceMaterial > getConverter( final Locale locale ) {
+        return getLocalizedItems( locale ).converter;
+    }
+
+    public static String getLabel( final Locale locale,
+                                   final SurfaceMaterial surfaceMaterial ) {
+        return getLocalizedItems( locale ).converter.toString( surfaceMaterial );
+    }
+
+    public static synchronized SurfaceMaterial[] getSupportedSurfaceMaterials() {
+        return supportedSurfaceMaterials.clone();
+    }
+
+    /**
+     * Replaces the supported Surface Materials, such as after loading a
+     * materials catalog, and discards all cached item models. The Materials
+     * keep their default localized labels.
+     *
+     * @param surfaceMaterials
+     *            The new supported Surface Materials, in any order
+     */
+    public static void setSupportedSurfaceMaterials(
+            final Collection< ? extends SurfaceMaterial > surfaceMaterials ) {
+        setSupportedSurfaceMaterials( surfaceMaterials, LABELER_DEFAULT );
+    }
+
+    /**
+     * Replaces the supported Surface Materials and the labels shown for them,
+     * such as the names used by a materials catalog, and discards all cached
+     * item models.
+     *
+     * @param surfaceMaterials
+     *            The new supported Surface Materials, in any order
+     * @param surfaceMaterialLabeler
+     *            The function that supplies the label for each Material in
+     *            the given locale
+     */
+    public static synchronized void setSupportedSurfaceMaterials(
+            final Collection< ? extends SurfaceMaterial > surfaceMaterials,
+            final BiFunction< ? super SurfaceMaterial, ? super Locale, String > surfaceMaterialLabeler ) {
+        supportedSurfaceMaterials = surfaceMaterials
+                .toArray( new SurfaceMaterial[ surfaceMaterials.size() ] );
+        labeler = surfaceMaterialLabeler;
+        ITEMS_BY_LOCALE.clear();
+    }
+
+    /**
+     * Restores the default supported Surface Materials and their labels.
+     */
+    public static synchronized void resetSupportedSurfaceMaterials() {
+        supportedSurfaceMaterials = SURFACE_MATERIALS_DEFAULT;
+        labeler = LABELER_DEFAULT;
+        ITEMS_BY_LOCALE.clear();
+    }
+
+    /**
+     * Returns the label for a Surface Material from the resource bundle for
+     * the supplied locale, falling back to the Material's own name if the
+     * bundle has no label for it.
+     *
+     * @param surfaceMaterial
+     *            The Surface Material to label
+     * @param locale
+     *            The locale to use for the label
+     * @return The localized label for the Surface Material
+     */
+    public static String getBundleLabel( final SurfaceMaterial surfaceMaterial,
+                                         final Locale locale ) {
+        try {
+            final ResourceBundle resourceBundle = ResourceBundle.getBundle(
+                    SURFACE_MATERIAL_LABELS_BUNDLE_NAME, locale );
+            return resourceBundle.getString( surfaceMaterial.name() );
+        }
+        catch ( final MissingResourceException mre ) {
+            return surfaceMaterial.toString();
+        }
+    }
+
+    private static synchronized LocalizedItems getLocalizedItems( final Locale locale ) {
+        final Locale itemsLocale = ( locale != null ) ? locale : Locale.getDefault();
+        LocalizedItems localizedItems = ITEMS_BY_LOCALE.get( itemsLocale );
+        if ( localizedItems == null ) {
+            localizedItems = new LocalizedItems( itemsLocale,
+                                                 supportedSurfaceMaterials,
+                                                 labeler );
+            ITEMS_BY_LOCALE.put( itemsLocale, localizedItems );
+        }
+        return localizedItems;
+    }
+
+    /**
+     * This is the pre-built item model for a single locale.
+     */
+    private static final class LocalizedItems {
+
+        final ObservableList< SurfaceMaterial >   items;
+        final StringConverter< SurfaceMaterial >  converter;
+
+        LocalizedItems( final Locale locale,
+                        final SurfaceMaterial[] surfaceMaterials,
+                        final BiFunction< ? super SurfaceMaterial, ? super Locale, String > labeler ) {
+            // Compute each label once, and map labels back to Materials for
+            // parsing edited text.
+            final Map< SurfaceMaterial, String > labels
+                    = new HashMap<>( 2 * surfaceMaterials.length );
+            final Map< String, SurfaceMaterial > materialsByLabel
+                    = new HashMap<>( 2 * surfaceMaterials.length );
+            for ( final SurfaceMaterial surfaceMaterial : surfaceMaterials ) {
+                final String label = labeler.apply( surfaceMaterial, locale );
+                labels.put( surfaceMaterial, label );
+                materialsByLabel.putIfAbsent( label, surfaceMaterial );
+            }
+
+            final Collator collator = Collator.getInstance( locale );
+            final SurfaceMaterial[] sortedValues = surfaceMaterials.clone();
+            Arrays.sort( sortedValues,
+                         Comparator.comparing( labels::get, collator ) );
+
+            items = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList( sortedValues ) );
+
+            converter = new StringConverter< SurfaceMaterial >() {
+                @Override
+                public String toString( final SurfaceMaterial surfaceMaterial ) {
+                    if ( surfaceMaterial == null ) {
+                        return ""; //$NON-NLS-1$
+                    }
+                    final String label = labels.get( surfaceMaterial );
+                    return ( label != null ) ? label : surfaceMaterial.toString();
+                }
+
+                @Override
+                public SurfaceMaterial fromString( final String label ) {
+                    return materialsByLabel.get( label );
+                }
+            };
+        }
+    }
+}
@@ -43,6 +43,9 @@ import javafx.scene.layout.GridPane;
  * Surface Selector Controls is a set of controls used for enabling individual
  * Surfaces and setting their Materials according to the pre-configured list
  * from Olsen's acoustic textbook.
+ * <p>
+ * NOTE: These controls are made per Surface and stay live, so for Regions with
+ *  many Surfaces, {@link SurfaceTableView} should be used instead.
  */
 public final class SurfaceSelectorControls {
 
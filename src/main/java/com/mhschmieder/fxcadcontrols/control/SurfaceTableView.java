@@ -0,0 +1,249 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxCadControls Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxCadControls Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxcadcontrols
+ */
+package com.mhschmieder.fxcadcontrols.control;
+
+import com.mhschmieder.fxcadcontrols.model.Region2DProperties;
+import com.mhschmieder.fxcadcontrols.model.SurfaceProperties;
+import com.mhschmieder.fxcadcontrols.util.CadMessageFactory;
+import com.mhschmieder.fxcadcontrols.util.SurfaceNameIndex;
+import com.mhschmieder.fxgraphics.geometry.SurfaceMaterial;
+import com.mhschmieder.jcommons.text.NumberFormatUtilities;
+import com.mhschmieder.jcommons.util.ClientProperties;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.FXCollections;
+import javafx.scene.control.ContentDisplay;
+import javafx.scene.control.TableCell;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.control.ToggleButton;
+import javafx.scene.control.cell.ComboBoxTableCell;
+import javafx.scene.control.cell.TextFieldTableCell;
+
+import java.text.NumberFormat;
+import java.util.Locale;
+
+/**
+ * Surface Table View is a virtualized editor for all of the Surfaces of a
+ * Region, which replaces a row of {@link SurfaceSelectorControls} per Surface.
+ * <p>
+ * Only the visible rows have cells, and those cells are reused as the table is
+ * scrolled, so the scene graph size is independent of the number of Surfaces.
+ * The Surface Material combo box is only instantiated when a Material cell
+ * starts editing, and Surface Name edits are made unique on commit.
+ */
+public final class SurfaceTableView extends TableView< SurfaceProperties > {
+
+    // Fixed row height, which spares the table from measuring every row.
+    public static final double ROW_HEIGHT_DEFAULT = 30.0d;
+
+    // Locale used for Material labels and sort order.
+    private final Locale        _locale;
+
+    // Number format used for locale-specific uniquefier appendices.
+    private final NumberFormat  _uniquefierNumberFormat;
+
+    // Index of the Surface Names in the current Region, for uniqueness checks.
+    private SurfaceNameIndex    _surfaceNameIndex;
+
+    public SurfaceTableView( final ClientProperties pClientProperties ) {
+        super();
+
+        _locale = pClientProperties.locale;
+        _uniquefierNumberFormat = NumberFormatUtilities
+                .getUniquefierNumberFormat( pClientProperties.locale );
+        _surfaceNameIndex = null;
+
+        try {
+            initTable();
+        }
+        catch ( final Exception ex ) {
+            ex.printStackTrace();
+        }
+    }
+
+    private void initTable() {
+        setEditable( true );
+        setFixedCellSize( ROW_HEIGHT_DEFAULT );
+        setColumnResizePolicy( CONSTRAINED_RESIZE_POLICY );
+
+        final TableColumn< SurfaceProperties, Number > surfaceIdColumn
+                = new TableColumn<>( CadMessageFactory.getSurfaceIdColumnHeader() );
+        surfaceIdColumn.setCellValueFactory( cellData -> cellData.getValue()
+                .surfaceNumberProperty() );
+        surfaceIdColumn.setCellFactory( column -> new SurfaceIdTableCell() );
+        surfaceIdColumn.setEditable( false );
+        surfaceIdColumn.setSortable( false );
+        surfaceIdColumn.setPrefWidth( 80.0d );
+
+        final TableColumn< SurfaceProperties, String > surfaceNameColumn
+                = new TableColumn<>( CadMessageFactory.getSurfaceNameColumnHeader() );
+        surfaceNameColumn.setCellValueFactory( cellData -> cellData.getValue()
+                .surfaceNameProperty() );
+        surfaceNameColumn.setCellFactory( TextFieldTableCell.forTableColumn() );
+        surfaceNameColumn.setOnEditCommit( event -> commitSurfaceName(
+                event.getRowValue(), event.getNewValue() ) );
+        surfaceNameColumn.setSortable( false );
+        surfaceNameColumn.setPrefWidth( 180.0d );
+
+        final TableColumn< SurfaceProperties, Boolean > surfaceStatusColumn
+                = new TableColumn<>( CadMessageFactory.getSurfaceStatusColumnHeader() );
+        surfaceStatusColumn.setCellValueFactory( cellData -> cellData.getValue()
+                .surfaceBypassedProperty() );
+        surfaceStatusColumn.setCellFactory( column -> new SurfaceStatusTableCell() );
+        surfaceStatusColumn.setSortable( false );
+        surfaceStatusColumn.setPrefWidth( 120.0d );
+
+        // NOTE: ComboBoxTableCell only makes its combo box when editing starts,
+        //  and all cells share the one list of supported Materials.
+        final TableColumn< SurfaceProperties, SurfaceMaterial > surfaceMaterialColumn
+                = new TableColumn<>( CadMessageFactory.getSurfaceMaterialColumnHeader() );
+        surfaceMaterialColumn.setCellValueFactory( cellData -> cellData.getValue()
+                .surfaceMaterialProperty() );
+        surfaceMaterialColumn.setCellFactory( ComboBoxTableCell.forTableColumn(
+                SurfaceMaterialItems.getConverter( _locale ),
+                SurfaceMaterialItems.getItems( _locale ) ) );
+        surfaceMaterialColumn.setSortable( false );
+        surfaceMaterialColumn.setPrefWidth( 280.0d );
+
+        getColumns().add( surfaceIdColumn );
+        getColumns().add( surfaceNameColumn );
+        getColumns().add( surfaceStatusColumn );
+        getColumns().add( surfaceMaterialColumn );
+    }
+
+    /**
+     * Binds the table to the Surfaces of the supplied Region, replacing any
+     * previously bound Region.
+     *
+     * @param region2DProperties
+     *            The Region whose Surfaces are to be edited, or {@code null} to
+     *            clear the table
+     */
+    public void setRegion2DProperties( final Region2DProperties region2DProperties ) {
+        if ( _surfaceNameIndex != null ) {
+            _surfaceNameIndex.dispose();
+            _surfaceNameIndex = null;
+        }
+
+        if ( region2DProperties == null ) {
+            setItems( FXCollections.observableArrayList() );
+            return;
+        }
+
+        _surfaceNameIndex = new SurfaceNameIndex( region2DProperties.getSurfaceProperties(),
+                                                  _uniquefierNumberFormat );
+        setItems( region2DProperties.getSurfaceProperties() );
+    }
+
+    private void commitSurfaceName( final SurfaceProperties surfaceProperties,
+                                    final String surfaceNameCandidate ) {
+        if ( _surfaceNameIndex == null ) {
+            surfaceProperties.setSurfaceName( surfaceNameCandidate );
+            return;
+        }
+
+        // Make sure the new Surface Name is unique, and default it if blank.
+        final String surfaceName = _surfaceNameIndex
+                .getUniqueSurfaceName( surfaceProperties, surfaceNameCandidate );
+        surfaceProperties.setSurfaceName( surfaceName );
+
+        // The cell may still show the raw candidate, so refresh it.
+        if ( !surfaceName.equals( surfaceNameCandidate ) ) {
+            refresh();
+        }
+    }
+
+    /**
+     * This is a read-only cell that shows the Surface ID for a Surface Number.
+     */
+    private static final class SurfaceIdTableCell
+            extends TableCell< SurfaceProperties, Number > {
+
+        @Override
+        protected void updateItem( final Number surfaceNumber, final boolean empty ) {
+            super.updateItem( surfaceNumber, empty );
+
+            setText( ( empty || ( surfaceNumber == null ) )
+                ? null
+                : CadMessageFactory.getSurfaceIdLabel( surfaceNumber.intValue() ) );
+        }
+    }
+
+    /**
+     * This is a cell that toggles Surface Status with a single, reused toggle
+     * button, which is rebound to whichever Surface the cell currently shows.
+     */
+    private static final class SurfaceStatusTableCell
+            extends TableCell< SurfaceProperties, Boolean > {
+
+        private final ToggleButton      surfaceStatusButton;
+        private BooleanProperty         boundSurfaceBypassed;
+
+        SurfaceStatusTableCell() {
+            surfaceStatusButton = CadLabeledControlFactory
+                    .getSurfaceBypassedToggleButton( false, 3.0d, false, true );
+            surfaceStatusButton.setMaxWidth( Double.MAX_VALUE );
+
+            boundSurfaceBypassed = null;
+
+            setContentDisplay( ContentDisplay.GRAPHIC_ONLY );
+        }
+
+        @Override
+        protected void updateItem( final Boolean surfaceBypassed, final boolean empty ) {
+            super.updateItem( surfaceBypassed, empty );
+
+            if ( boundSurfaceBypassed != null ) {
+                surfaceStatusButton.selectedProperty()
+                        .unbindBidirectional( boundSurfaceBypassed );
+                boundSurfaceBypassed = null;
+            }
+
+            if ( empty ) {
+                setGraphic( null );
+                return;
+            }
+
+            final ObservableValue< Boolean > cellObservableValue = getTableColumn()
+                    .getCellObservableValue( getIndex() );
+            if ( cellObservableValue instanceof BooleanProperty ) {
+                boundSurfaceBypassed = ( BooleanProperty ) cellObservableValue;
+                surfaceStatusButton.selectedProperty()
+                        .bindBidirectional( boundSurfaceBypassed );
+            }
+            surfaceStatusButton.setDisable( !getTableView().isEditable()
+                    || !getTableColumn().isEditable() );
+
+            setGraphic( surfaceStatusButton );
+        }
+    }
+}
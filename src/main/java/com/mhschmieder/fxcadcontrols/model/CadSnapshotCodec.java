@@ -0,0 +1,738 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxCadControls Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxCadControls Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxcadcontrols
+ */
+package com.mhschmieder.fxcadcontrols.model;
+
+import com.mhschmieder.fxgraphics.geometry.SurfaceMaterial;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@code CadSnapshotCodec} writes compact, versioned binary snapshots of
+ * {@link Region2DProperties} and {@link DrawingLimitsProperties} to a
+ * {@link ByteBuffer}, and reads them back into existing properties objects,
+ * for autosave and undo checkpoints.
+ * <p>
+ * A Region snapshot holds its extents, a table of the names of the Surface
+ * Materials in use, a table of the distinct Surface Names, and for each
+ * Surface an index into each table and its bypassed status. A Drawing Limits snapshot holds its
+ * auto-sync flag and extents. All values are written big-endian, whatever the
+ * byte order of the supplied buffer.
+ * <p>
+ * Strings are encoded and decoded directly between the buffer and reusable
+ * scratch arrays, and a decoded Surface Name that matches the current one is
+ * not allocated again, so checkpoints of an unchanged Region allocate nothing
+ * once the codec has warmed up. Snapshots are fully validated before being
+ * applied, so a corrupt or truncated snapshot leaves the target untouched.
+ * <p>
+ * NOTE: Surface Materials are stored by name rather than by ordinal, so
+ *  snapshots survive the enumeration being reordered or extended; a snapshot
+ *  naming a material that no longer exists is rejected.
+ * <p>
+ * NOTE: This class is not thread-safe, as it reuses its scratch state; each
+ *  thread that takes snapshots should have its own codec.
+ */
+public final class CadSnapshotCodec {
+
+    public static final int   REGION2D_MAGIC         = 0x52324450; // "R2DP"
+    public static final int   DRAWING_LIMITS_MAGIC   = 0x444C4D54; // "DLMT"
+    public static final short FORMAT_VERSION         = 2;
+
+    // Encoded sizes of the fixed parts of each snapshot.
+    private static final int  HEADER_LENGTH          = 4 + 2;
+    private static final int  EXTENTS_LENGTH         = 4 * 8;
+    private static final int  SURFACE_LENGTH         = 4 + 1 + 2;
+
+    public static final int   DRAWING_LIMITS_LENGTH  = HEADER_LENGTH + 1 + EXTENTS_LENGTH;
+
+    private static final int  NO_NAME                = -1;
+    private static final int  NO_MATERIAL            = -1;
+
+    // NOTE: Cached, as values() allocates a new array on every call.
+    private static final SurfaceMaterial[] SURFACE_MATERIALS = SurfaceMaterial.values();
+
+    // The encoded name of each Surface Material, indexed by ordinal.
+    private static final byte[][]          SURFACE_MATERIAL_NAMES = getSurfaceMaterialNames();
+
+    // Write-side scratch: distinct names in order of first use, their hash
+    // codes and encoded lengths, and the name index of each surface.
+    private String[]                     names;
+    private int[]                        nameHashCodes;
+    private int[]                        nameByteLengths;
+    private int                          numberOfNames;
+    private int[]                        surfaceNameIndices;
+    private int                          numberOfInternedSurfaces;
+
+    // Write-side scratch: an open-addressed table from name to name index,
+    // with a power-of-two capacity of at least twice the surface count. A
+    // slot is in use only if its stamp matches the current write's stamp, so
+    // the table is reused across writes without being cleared.
+    private int[]                        nameTableIndices;
+    private int[]                        nameTableStamps;
+    private int                          nameTableStamp;
+
+    // Write-side scratch: the ordinals of the materials in use, in order of
+    // first use, the table index of each ordinal, and of each surface.
+    private final int[]                  materialOrdinals;
+    private final int[]                  materialIndices;
+    private int                          numberOfMaterials;
+    private short[]                      surfaceMaterialIndices;
+
+    // Read-side scratch: the decoded names as ranges of a shared char array,
+    // and the surfaces' decoded fields.
+    private char[]                       nameChars;
+    private int[]                        nameCharStarts;
+    private int[]                        nameCharLengths;
+    private String[]                     decodedNames;
+    private boolean[]                    surfaceBypassed;
+    private short[]                      surfaceMaterialOrdinals;
+    private final short[]                decodedMaterialOrdinals;
+
+    /**
+     * Default constructor.
+     */
+    public CadSnapshotCodec() {
+        names = new String[ 8 ];
+        nameHashCodes = new int[ 8 ];
+        nameByteLengths = new int[ 8 ];
+        surfaceNameIndices = new int[ 8 ];
+        nameTableIndices = new int[ 16 ];
+        nameTableStamps = new int[ 16 ];
+
+        materialOrdinals = new int[ SURFACE_MATERIALS.length ];
+        materialIndices = new int[ SURFACE_MATERIALS.length ];
+        surfaceMaterialIndices = new short[ 8 ];
+        decodedMaterialOrdinals = new short[ SURFACE_MATERIALS.length ];
+
+        nameChars = new char[ 256 ];
+        nameCharStarts = new int[ 8 ];
+        nameCharLengths = new int[ 8 ];
+        decodedNames = new String[ 8 ];
+        surfaceBypassed = new boolean[ 8 ];
+        surfaceMaterialOrdinals = new short[ 8 ];
+    }
+
+    private static byte[][] getSurfaceMaterialNames() {
+        final byte[][] materialNames = new byte[ SURFACE_MATERIALS.length ][];
+        for ( int i = 0; i < SURFACE_MATERIALS.length; i++ ) {
+            materialNames[ i ] = SURFACE_MATERIALS[ i ].name().getBytes( StandardCharsets.UTF_8 );
+        }
+        return materialNames;
+    }
+
+    /**
+     * Returns the number of bytes needed to write a Region snapshot.
+     *
+     * @param region2DProperties
+     *            The Region to measure
+     * @return The encoded length of the Region snapshot
+     */
+    public int getEncodedLength( final Region2DProperties region2DProperties ) {
+        internSurfaces( region2DProperties.getSurfaceProperties() );
+        Arrays.fill( names, 0, numberOfNames, null );
+        return getInternedEncodedLength();
+    }
+
+    /**
+     * Writes a snapshot of a Region at the buffer's position, advancing it.
+     *
+     * @param region2DProperties
+     *            The Region to write
+     * @param buffer
+     *            The buffer to write to
+     * @throws BufferOverflowException
+     *             If the buffer is too small, in which case nothing is
+     *             written
+     */
+    public void write( final Region2DProperties region2DProperties, final ByteBuffer buffer ) {
+        final List< SurfaceProperties > surfaces = region2DProperties.getSurfaceProperties();
+        internSurfaces( surfaces );
+        if ( buffer.remaining() < getInternedEncodedLength() ) {
+            Arrays.fill( names, 0, numberOfNames, null );
+            throw new BufferOverflowException();
+        }
+
+        final ByteOrder byteOrder = buffer.order();
+        buffer.order( ByteOrder.BIG_ENDIAN );
+        try {
+            buffer.putInt( REGION2D_MAGIC );
+            buffer.putShort( FORMAT_VERSION );
+            putExtents( region2DProperties, buffer );
+
+            buffer.putShort( ( short ) numberOfMaterials );
+            for ( int i = 0; i < numberOfMaterials; i++ ) {
+                final byte[] materialName = SURFACE_MATERIAL_NAMES[ materialOrdinals[ i ] ];
+                buffer.putShort( ( short ) materialName.length );
+                buffer.put( materialName );
+            }
+
+            buffer.putInt( numberOfNames );
+            for ( int i = 0; i < numberOfNames; i++ ) {
+                buffer.putInt( nameByteLengths[ i ] );
+                putUtf8( names[ i ], buffer );
+            }
+
+            final int numberOfSurfaces = surfaces.size();
+            buffer.putInt( numberOfSurfaces );
+            for ( int i = 0; i < numberOfSurfaces; i++ ) {
+                final SurfaceProperties surface = surfaces.get( i );
+                buffer.putInt( surfaceNameIndices[ i ] );
+                buffer.put( surface.isSurfaceBypassed() ? ( byte ) 1 : ( byte ) 0 );
+                buffer.putShort( surfaceMaterialIndices[ i ] );
+            }
+        }
+        finally {
+            buffer.order( byteOrder );
+            Arrays.fill( names, 0, numberOfNames, null );
+        }
+    }
+
+    /**
+     * Reads a Region snapshot at the buffer's position into an existing
+     * Region, advancing the buffer's position past it. The Region's extents
+     * are set as a single update, and its number of Surfaces is matched to
+     * the snapshot.
+     *
+     * @param buffer
+     *            The buffer to read from
+     * @param region2DProperties
+     *            The Region to apply the snapshot to
+     * @throws IOException
+     *             If the buffer does not hold a valid Region snapshot, in
+     *             which case the Region is left unchanged
+     */
+    public void readInto( final ByteBuffer buffer, final Region2DProperties region2DProperties )
+            throws IOException {
+        final ByteOrder byteOrder = buffer.order();
+        final int startPosition = buffer.position();
+        buffer.order( ByteOrder.BIG_ENDIAN );
+        try {
+            checkHeader( buffer, REGION2D_MAGIC, "Region" ); //$NON-NLS-1$
+            final double x = buffer.getDouble();
+            final double y = buffer.getDouble();
+            final double width = buffer.getDouble();
+            final double height = buffer.getDouble();
+
+            final int numberOfDecodedMaterials = buffer.getShort();
+            if ( ( numberOfDecodedMaterials < 0 )
+                    || ( numberOfDecodedMaterials > SURFACE_MATERIALS.length ) ) {
+                throw new IOException( "Corrupt Surface Material count in Region snapshot: " //$NON-NLS-1$
+                        + numberOfDecodedMaterials );
+            }
+            for ( int i = 0; i < numberOfDecodedMaterials; i++ ) {
+                decodedMaterialOrdinals[ i ] = getSurfaceMaterialOrdinal( buffer );
+            }
+
+            final int numberOfDecodedNames = buffer.getInt();
+            checkCount( numberOfDecodedNames, 4, buffer );
+            ensureReadCapacity( numberOfDecodedNames, 0 );
+            int charPosition = 0;
+            for ( int i = 0; i < numberOfDecodedNames; i++ ) {
+                final int byteLength = buffer.getInt();
+                checkCount( byteLength, 1, buffer );
+
+                // A UTF-8 sequence never decodes to more chars than bytes.
+                if ( nameChars.length < charPosition + byteLength ) {
+                    nameChars = Arrays.copyOf( nameChars,
+                                               Math.max( 2 * nameChars.length,
+                                                         charPosition + byteLength ) );
+                }
+                nameCharStarts[ i ] = charPosition;
+                nameCharLengths[ i ] = getUtf8( buffer, byteLength, charPosition );
+                charPosition += nameCharLengths[ i ];
+            }
+
+            final int numberOfSurfaces = buffer.getInt();
+            checkCount( numberOfSurfaces, SURFACE_LENGTH, buffer );
+            ensureReadCapacity( numberOfDecodedNames, numberOfSurfaces );
+            for ( int i = 0; i < numberOfSurfaces; i++ ) {
+                final int nameIndex = buffer.getInt();
+                final byte bypassed = buffer.get();
+                final short materialIndex = buffer.getShort();
+                if ( ( nameIndex < NO_NAME ) || ( nameIndex >= numberOfDecodedNames )
+                        || ( materialIndex < NO_MATERIAL )
+                        || ( materialIndex >= numberOfDecodedMaterials ) ) {
+                    throw new IOException( "Corrupt Surface in Region snapshot: " + i ); //$NON-NLS-1$
+                }
+                surfaceNameIndices[ i ] = nameIndex;
+                surfaceBypassed[ i ] = bypassed != 0;
+                surfaceMaterialOrdinals[ i ] = ( materialIndex != NO_MATERIAL )
+                    ? decodedMaterialOrdinals[ materialIndex ]
+                    : ( short ) NO_MATERIAL;
+            }
+
+            // The whole snapshot is valid, so it is now safe to apply it.
+            applyRegion2D( region2DProperties,
+                           x,
+                           y,
+                           width,
+                           height,
+                           numberOfDecodedNames,
+                           numberOfSurfaces );
+        }
+        catch ( final BufferUnderflowException bue ) {
+            buffer.position( startPosition );
+            throw new IOException( "Truncated Region snapshot", bue ); //$NON-NLS-1$
+        }
+        catch ( final IOException ioe ) {
+            buffer.position( startPosition );
+            throw ioe;
+        }
+        finally {
+            buffer.order( byteOrder );
+        }
+    }
+
+    /**
+     * Writes a snapshot of Drawing Limits at the buffer's position, advancing
+     * it by {@link #DRAWING_LIMITS_LENGTH} bytes.
+     *
+     * @param drawingLimits
+     *            The Drawing Limits to write
+     * @param buffer
+     *            The buffer to write to
+     * @throws BufferOverflowException
+     *             If the buffer is too small, in which case nothing is
+     *             written
+     */
+    public void write( final DrawingLimitsProperties drawingLimits, final ByteBuffer buffer ) {
+        if ( buffer.remaining() < DRAWING_LIMITS_LENGTH ) {
+            throw new BufferOverflowException();
+        }
+
+        final ByteOrder byteOrder = buffer.order();
+        buffer.order( ByteOrder.BIG_ENDIAN );
+        try {
+            buffer.putInt( DRAWING_LIMITS_MAGIC );
+            buffer.putShort( FORMAT_VERSION );
+            buffer.put( drawingLimits.isAutoSync() ? ( byte ) 1 : ( byte ) 0 );
+            putExtents( drawingLimits, buffer );
+        }
+        finally {
+            buffer.order( byteOrder );
+        }
+    }
+
+    /**
+     * Reads a Drawing Limits snapshot at the buffer's position into existing
+     * Drawing Limits, advancing the buffer's position past it. The extents are
+     * set as a single update.
+     *
+     * @param buffer
+     *            The buffer to read from
+     * @param drawingLimits
+     *            The Drawing Limits to apply the snapshot to
+     * @throws IOException
+     *             If the buffer does not hold a valid Drawing Limits snapshot,
+     *             in which case the Drawing Limits are left unchanged
+     */
+    public void readInto( final ByteBuffer buffer, final DrawingLimitsProperties drawingLimits )
+            throws IOException {
+        final ByteOrder byteOrder = buffer.order();
+        final int startPosition = buffer.position();
+        buffer.order( ByteOrder.BIG_ENDIAN );
+        try {
+            if ( buffer.remaining() < DRAWING_LIMITS_LENGTH ) {
+                throw new IOException( "Truncated Drawing Limits snapshot" ); //$NON-NLS-1$
+            }
+            checkHeader( buffer, DRAWING_LIMITS_MAGIC, "Drawing Limits" ); //$NON-NLS-1$
+            final boolean autoSync = buffer.get() != 0;
+            final double x = buffer.getDouble();
+            final double y = buffer.getDouble();
+            final double width = buffer.getDouble();
+            final double height = buffer.getDouble();
+
+            drawingLimits.setAutoSync( autoSync );
+            drawingLimits.setExtents( x, y, width, height );
+        }
+        catch ( final IOException ioe ) {
+            buffer.position( startPosition );
+            throw ioe;
+        }
+        finally {
+            buffer.order( byteOrder );
+        }
+    }
+
+    private void internSurfaces( final List< SurfaceProperties > surfaces ) {
+        final int numberOfSurfaces = surfaces.size();
+        if ( surfaceNameIndices.length < numberOfSurfaces ) {
+            surfaceNameIndices = new int[ Math.max( numberOfSurfaces, 2 * surfaceNameIndices.length ) ];
+        }
+        if ( surfaceMaterialIndices.length < numberOfSurfaces ) {
+            surfaceMaterialIndices = new short[ Math.max( numberOfSurfaces,
+                                                          2 * surfaceMaterialIndices.length ) ];
+        }
+        if ( names.length < numberOfSurfaces ) {
+            final int capacity = Math.max( numberOfSurfaces, 2 * names.length );
+            names = new String[ capacity ];
+            nameHashCodes = new int[ capacity ];
+            nameByteLengths = new int[ capacity ];
+        }
+        final int nameTableCapacity = Integer.highestOneBit( Math.max( 1, numberOfSurfaces ) ) << 2;
+        if ( nameTableIndices.length < nameTableCapacity ) {
+            nameTableIndices = new int[ nameTableCapacity ];
+            nameTableStamps = new int[ nameTableCapacity ];
+            nameTableStamp = 0;
+        }
+        if ( ++nameTableStamp == 0 ) {
+            // NOTE: The stamp has wrapped, so stale slots could look current.
+            Arrays.fill( nameTableStamps, 0 );
+            nameTableStamp = 1;
+        }
+
+        numberOfNames = 0;
+        numberOfMaterials = 0;
+        Arrays.fill( materialIndices, NO_MATERIAL );
+        numberOfInternedSurfaces = numberOfSurfaces;
+        for ( int i = 0; i < numberOfSurfaces; i++ ) {
+            final SurfaceProperties surface = surfaces.get( i );
+            surfaceNameIndices[ i ] = internName( surface.getSurfaceName() );
+
+            final SurfaceMaterial material = surface.getSurfaceMaterial();
+            if ( material == null ) {
+                surfaceMaterialIndices[ i ] = NO_MATERIAL;
+                continue;
+            }
+            final int ordinal = material.ordinal();
+            if ( materialIndices[ ordinal ] == NO_MATERIAL ) {
+                materialOrdinals[ numberOfMaterials ] = ordinal;
+                materialIndices[ ordinal ] = numberOfMaterials++;
+            }
+            surfaceMaterialIndices[ i ] = ( short ) materialIndices[ ordinal ];
+        }
+    }
+
+    /*
+     * Returns the table index of a Surface Name, adding it to the table if it
+     * is new. The name table is probed linearly from the name's spread hash
+     * code, comparing the hash codes that strings cache before comparing any
+     * characters; this allocates nothing, and as the table is never more than
+     * half full, a write with unique names stays linear in the surface count.
+     */
+    private int internName( final String name ) {
+        if ( name == null ) {
+            return NO_NAME;
+        }
+
+        final int hashCode = name.hashCode();
+        final int mask = nameTableIndices.length - 1;
+        int slot = ( hashCode ^ ( hashCode >>> 16 ) ) & mask;
+        while ( nameTableStamps[ slot ] == nameTableStamp ) {
+            final int i = nameTableIndices[ slot ];
+            if ( ( names[ i ] == name )
+                    || ( ( nameHashCodes[ i ] == hashCode ) && names[ i ].equals( name ) ) ) {
+                return i;
+            }
+            slot = ( slot + 1 ) & mask;
+        }
+
+        nameTableStamps[ slot ] = nameTableStamp;
+        nameTableIndices[ slot ] = numberOfNames;
+        names[ numberOfNames ] = name;
+        nameHashCodes[ numberOfNames ] = hashCode;
+        nameByteLengths[ numberOfNames ] = getUtf8Length( name );
+        return numberOfNames++;
+    }
+
+    private int getInternedEncodedLength() {
+        int length = HEADER_LENGTH + EXTENTS_LENGTH + 2 + 4 + 4;
+        for ( int i = 0; i < numberOfMaterials; i++ ) {
+            length += 2 + SURFACE_MATERIAL_NAMES[ materialOrdinals[ i ] ].length;
+        }
+        for ( int i = 0; i < numberOfNames; i++ ) {
+            length += 4 + nameByteLengths[ i ];
+        }
+        return length + ( numberOfInternedSurfaces * SURFACE_LENGTH );
+    }
+
+    private void ensureReadCapacity( final int numberOfDecodedNames, final int numberOfSurfaces ) {
+        if ( nameCharStarts.length < numberOfDecodedNames ) {
+            final int capacity = Math.max( numberOfDecodedNames, 2 * nameCharStarts.length );
+            nameCharStarts = new int[ capacity ];
+            nameCharLengths = new int[ capacity ];
+            decodedNames = new String[ capacity ];
+        }
+        if ( surfaceBypassed.length < numberOfSurfaces ) {
+            final int capacity = Math.max( numberOfSurfaces, 2 * surfaceBypassed.length );
+            surfaceBypassed = new boolean[ capacity ];
+            surfaceMaterialOrdinals = new short[ capacity ];
+        }
+        if ( surfaceNameIndices.length < numberOfSurfaces ) {
+            surfaceNameIndices = new int[ Math.max( numberOfSurfaces, 2 * surfaceNameIndices.length ) ];
+        }
+    }
+
+    private void applyRegion2D( final Region2DProperties region2DProperties,
+                                final double x,
+                                final double y,
+                                final double width,
+                                final double height,
+                                final int numberOfDecodedNames,
+                                final int numberOfSurfaces ) {
+        region2DProperties.setExtents( x, y, width, height );
+
+        region2DProperties.setNumberOfSurfaces( numberOfSurfaces );
+        final List< SurfaceProperties > surfaces = region2DProperties.getSurfaceProperties();
+        try {
+            for ( int i = 0; i < numberOfSurfaces; i++ ) {
+                final int nameIndex = surfaceNameIndices[ i ];
+                final String name = ( nameIndex != NO_NAME )
+                    ? resolveName( nameIndex, surfaces.get( i ).getSurfaceName() )
+                    : null;
+                final short materialOrdinal = surfaceMaterialOrdinals[ i ];
+                region2DProperties.setSurfaceProperties( i,
+                                                         name,
+                                                         surfaceBypassed[ i ],
+                                                         ( materialOrdinal != NO_MATERIAL )
+                                                             ? SURFACE_MATERIALS[ materialOrdinal ]
+                                                             : null );
+            }
+        }
+        finally {
+            Arrays.fill( decodedNames, 0, numberOfDecodedNames, null );
+        }
+    }
+
+    /*
+     * Returns the decoded name at the supplied index, reusing the current name
+     * of the Surface being restored when it is the same, as is usual.
+     */
+    private String resolveName( final int nameIndex, final String currentName ) {
+        String name = decodedNames[ nameIndex ];
+        if ( name != null ) {
+            return name;
+        }
+
+        final int start = nameCharStarts[ nameIndex ];
+        final int length = nameCharLengths[ nameIndex ];
+        if ( ( currentName != null ) && ( currentName.length() == length )
+                && regionMatches( currentName, start, length ) ) {
+            name = currentName;
+        }
+        else {
+            name = new String( nameChars, start, length );
+        }
+        decodedNames[ nameIndex ] = name;
+        return name;
+    }
+
+    private boolean regionMatches( final String text, final int start, final int length ) {
+        for ( int i = 0; i < length; i++ ) {
+            if ( text.charAt( i ) != nameChars[ start + i ] ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*
+     * Reads an encoded Surface Material name and returns the ordinal of the
+     * material by that name, comparing the bytes in place.
+     */
+    private static short getSurfaceMaterialOrdinal( final ByteBuffer buffer ) throws IOException {
+        final int byteLength = buffer.getShort();
+        checkCount( byteLength, 1, buffer );
+
+        final int position = buffer.position();
+        for ( int ordinal = 0; ordinal < SURFACE_MATERIAL_NAMES.length; ordinal++ ) {
+            final byte[] materialName = SURFACE_MATERIAL_NAMES[ ordinal ];
+            if ( materialName.length != byteLength ) {
+                continue;
+            }
+            int i = 0;
+            while ( ( i < byteLength ) && ( buffer.get( position + i ) == materialName[ i ] ) ) {
+                i++;
+            }
+            if ( i == byteLength ) {
+                buffer.position( position + byteLength );
+                return ( short ) ordinal;
+            }
+        }
+        throw new IOException( "Unknown Surface Material in Region snapshot" ); //$NON-NLS-1$
+    }
+
+    private static void putExtents( final Extents2DProperties extents, final ByteBuffer buffer ) {
+        buffer.putDouble( extents.getX() );
+        buffer.putDouble( extents.getY() );
+        buffer.putDouble( extents.getWidth() );
+        buffer.putDouble( extents.getHeight() );
+    }
+
+    private static void checkHeader( final ByteBuffer buffer,
+                                     final int magic,
+                                     final String snapshotName ) throws IOException {
+        if ( buffer.getInt() != magic ) {
+            throw new IOException( "Not a " + snapshotName + " snapshot" ); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        final short version = buffer.getShort();
+        if ( version != FORMAT_VERSION ) {
+            throw new IOException( "Unsupported " + snapshotName //$NON-NLS-1$
+                    + " snapshot version: " + version ); //$NON-NLS-1$
+        }
+    }
+
+    /*
+     * Rejects counts that are negative or that could not possibly fit in the
+     * rest of the buffer, before any scratch space is sized from them.
+     */
+    private static void checkCount( final int count,
+                                    final int minimumBytesEach,
+                                    final ByteBuffer buffer ) throws IOException {
+        if ( ( count < 0 ) || ( ( ( long ) count * minimumBytesEach ) > buffer.remaining() ) ) {
+            throw new IOException( "Corrupt count in snapshot: " + count ); //$NON-NLS-1$
+        }
+    }
+
+    /*
+     * Returns the length of a string in UTF-8, with unpaired surrogates
+     * replaced by '?'.
+     */
+    private static int getUtf8Length( final String text ) {
+        final int length = text.length();
+        int byteLength = 0;
+        for ( int i = 0; i < length; i++ ) {
+            final char c = text.charAt( i );
+            if ( c < 0x80 ) {
+                byteLength++;
+            }
+            else if ( c < 0x800 ) {
+                byteLength += 2;
+            }
+            else if ( Character.isHighSurrogate( c ) && ( i + 1 < length )
+                    && Character.isLowSurrogate( text.charAt( i + 1 ) ) ) {
+                byteLength += 4;
+                i++;
+            }
+            else if ( Character.isSurrogate( c ) ) {
+                byteLength++;
+            }
+            else {
+                byteLength += 3;
+            }
+        }
+        return byteLength;
+    }
+
+    private static void putUtf8( final String text, final ByteBuffer buffer ) {
+        final int length = text.length();
+        for ( int i = 0; i < length; i++ ) {
+            final char c = text.charAt( i );
+            if ( c < 0x80 ) {
+                buffer.put( ( byte ) c );
+            }
+            else if ( c < 0x800 ) {
+                buffer.put( ( byte ) ( 0xC0 | ( c >> 6 ) ) );
+                buffer.put( ( byte ) ( 0x80 | ( c & 0x3F ) ) );
+            }
+            else if ( Character.isHighSurrogate( c ) && ( i + 1 < length )
+                    && Character.isLowSurrogate( text.charAt( i + 1 ) ) ) {
+                final int codePoint = Character.toCodePoint( c, text.charAt( ++i ) );
+                buffer.put( ( byte ) ( 0xF0 | ( codePoint >> 18 ) ) );
+                buffer.put( ( byte ) ( 0x80 | ( ( codePoint >> 12 ) & 0x3F ) ) );
+                buffer.put( ( byte ) ( 0x80 | ( ( codePoint >> 6 ) & 0x3F ) ) );
+                buffer.put( ( byte ) ( 0x80 | ( codePoint & 0x3F ) ) );
+            }
+            else if ( Character.isSurrogate( c ) ) {
+                buffer.put( ( byte ) '?' );
+            }
+            else {
+                buffer.put( ( byte ) ( 0xE0 | ( c >> 12 ) ) );
+                buffer.put( ( byte ) ( 0x80 | ( ( c >> 6 ) & 0x3F ) ) );
+                buffer.put( ( byte ) ( 0x80 | ( c & 0x3F ) ) );
+            }
+        }
+    }
+
+    /*
+     * Decodes UTF-8 bytes from the buffer into the shared name chars, starting
+     * at the supplied char position, and returns the number of chars decoded.
+     */
+    private int getUtf8( final ByteBuffer buffer, final int byteLength, final int charPosition )
+            throws IOException {
+        final int end = buffer.position() + byteLength;
+        int charIndex = charPosition;
+        while ( buffer.position() < end ) {
+            final int b = buffer.get() & 0xFF;
+            final int codePoint;
+            final int numberOfContinuationBytes;
+            if ( b < 0x80 ) {
+                nameChars[ charIndex++ ] = ( char ) b;
+                continue;
+            }
+            else if ( ( b & 0xE0 ) == 0xC0 ) {
+                codePoint = b & 0x1F;
+                numberOfContinuationBytes = 1;
+            }
+            else if ( ( b & 0xF0 ) == 0xE0 ) {
+                codePoint = b & 0x0F;
+                numberOfContinuationBytes = 2;
+            }
+            else if ( ( b & 0xF8 ) == 0xF0 ) {
+                codePoint = b & 0x07;
+                numberOfContinuationBytes = 3;
+            }
+            else {
+                throw new IOException( "Malformed UTF-8 in snapshot" ); //$NON-NLS-1$
+            }
+
+            if ( buffer.position() + numberOfContinuationBytes > end ) {
+                throw new IOException( "Malformed UTF-8 in snapshot" ); //$NON-NLS-1$
+            }
+            int value = codePoint;
+            for ( int i = 0; i < numberOfContinuationBytes; i++ ) {
+                final int continuation = buffer.get() & 0xFF;
+                if ( ( continuation & 0xC0 ) != 0x80 ) {
+                    throw new IOException( "Malformed UTF-8 in snapshot" ); //$NON-NLS-1$
+                }
+                value = ( value << 6 ) | ( continuation & 0x3F );
+            }
+
+            if ( value > Character.MAX_CODE_POINT ) {
+                throw new IOException( "Malformed UTF-8 in snapshot" ); //$NON-NLS-1$
+            }
+            if ( Character.isSupplementaryCodePoint( value ) ) {
+                nameChars[ charIndex++ ] = Character.highSurrogate( value );
+                nameChars[ charIndex++ ] = Character.lowSurrogate( value );
+            }
+            else {
+                nameChars[ charIndex++ ] = ( char ) value;
+            }
+        }
+        return charIndex - charPosition;
+    }
+}
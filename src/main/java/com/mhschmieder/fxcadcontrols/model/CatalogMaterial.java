@@ -0,0 +1,123 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxCadControls Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxCadControls Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxcadcontrols
+ */
+package com.mhschmieder.fxcadcontrols.model;
+
+import java.util.Arrays;
+
+/**
+ * This is an immutable entry in a {@link MaterialCatalog}, pairing a Material
+ * Name with its absorption coefficients per octave band.
+ * <p>
+ * NOTE: Unlike the fixed set of Olson materials in SurfaceMaterial, these are
+ *  loaded from external catalogs and may number in the thousands.
+ */
+public final class CatalogMaterial {
+
+    // The usual octave band center frequencies for absorption data, in Hz.
+    public static final double[] OCTAVE_BAND_CENTER_FREQUENCIES_DEFAULT
+            = { 125.0d, 250.0d, 500.0d, 1000.0d, 2000.0d, 4000.0d };
+
+    private final String         name;
+    private final double[]       absorptionCoefficients;
+
+    /**
+     * Fully qualified constructor.
+     *
+     * @param pName
+     *            The Material Name
+     * @param pAbsorptionCoefficients
+     *            The absorption coefficient for each octave band, which is
+     *            copied
+     */
+    public CatalogMaterial( final String pName,
+                            final double[] pAbsorptionCoefficients ) {
+        name = pName;
+        absorptionCoefficients = pAbsorptionCoefficients.clone();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getNumberOfOctaveBands() {
+        return absorptionCoefficients.length;
+    }
+
+    public double getAbsorptionCoefficient( final int octaveBandIndex ) {
+        return absorptionCoefficients[ octaveBandIndex ];
+    }
+
+    public double[] getAbsorptionCoefficients() {
+        return absorptionCoefficients.clone();
+    }
+
+    /**
+     * Returns the arithmetic mean of the octave band absorption coefficients,
+     * as a single-number summary for display.
+     *
+     * @return The mean absorption coefficient
+     */
+    public double getMeanAbsorptionCoefficient() {
+        if ( absorptionCoefficients.length == 0 ) {
+            return 0.0d;
+        }
+
+        double sum = 0.0d;
+        for ( final double absorptionCoefficient : absorptionCoefficients ) {
+            sum += absorptionCoefficient;
+        }
+        return sum / absorptionCoefficients.length;
+    }
+
+    @Override
+    public boolean equals( final Object other ) {
+        if ( this == other ) {
+            return true;
+        }
+        if ( ( other == null ) || ( getClass() != other.getClass() ) ) {
+            return false;
+        }
+        final CatalogMaterial otherCatalogMaterial = ( CatalogMaterial ) other;
+        return name.equals( otherCatalogMaterial.name )
+                && Arrays.equals( absorptionCoefficients,
+                                  otherCatalogMaterial.absorptionCoefficients );
+    }
+
+    @Override
+    public int hashCode() {
+        return ( 31 * name.hashCode() ) + Arrays.hashCode( absorptionCoefficients );
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
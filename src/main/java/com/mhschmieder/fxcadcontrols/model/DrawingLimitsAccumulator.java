@@ -0,0 +1,331 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxCadControls Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxCadControls Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxcadcontrols
+ */
+package com.mhschmieder.fxcadcontrols.model;
+
+import javafx.beans.value.ChangeListener;
+
+import java.util.Arrays;
+
+/**
+ * The <code>DrawingLimitsAccumulator</code> class incrementally maintains the
+ * bounding envelope of all graphical objects in a CAD drawing, and pushes it
+ * into an associated {@link DrawingLimitsProperties} whenever auto-sync is
+ * enabled and the envelope actually changes.
+ * <p>
+ * Each of the four envelope edges is tracked as a sorted multiset of values
+ * with counts, held in primitive arrays, so adding, removing or moving an
+ * object is a binary search plus at most one array shift, and never boxes a
+ * value or walks over every object in the drawing. Edits that stay in the
+ * interior of the drawing never touch the Drawing Limits at all.
+ * <p>
+ * For bulk edits such as imports, wrap the edits in {@link #beginBatch()} and
+ * {@link #endBatch()} so that the Drawing Limits are synced only once.
+ * <p>
+ * NOTE: The accumulator listens to the auto-sync flag of its Drawing Limits,
+ *  so {@link #dispose()} must be called once it is no longer needed.
+ */
+public final class DrawingLimitsAccumulator {
+
+    /** The Drawing Limits to keep in sync with the accumulated envelope. */
+    private final DrawingLimitsProperties drawingLimits;
+
+    // Sorted multisets of edge values, with a count of objects per value.
+    private final EdgeValues minXValues;
+    private final EdgeValues minYValues;
+    private final EdgeValues maxXValues;
+    private final EdgeValues maxYValues;
+
+    // Catches up with any edits that were made while auto-sync was off.
+    private final ChangeListener< Boolean > autoSyncListener;
+
+    /** The number of objects currently contributing to the envelope. */
+    private int objectCount;
+
+    /** Nesting depth of the current batch; zero when idle. */
+    private int batchDepth;
+
+    /**
+     * Fully qualified constructor.
+     *
+     * @param pDrawingLimits
+     *            The {@link DrawingLimitsProperties} to keep in sync
+     */
+    public DrawingLimitsAccumulator( final DrawingLimitsProperties pDrawingLimits ) {
+        drawingLimits = pDrawingLimits;
+
+        minXValues = new EdgeValues();
+        minYValues = new EdgeValues();
+        maxXValues = new EdgeValues();
+        maxYValues = new EdgeValues();
+
+        autoSyncListener = ( observable, oldValue, newValue ) -> {
+            if ( newValue ) {
+                sync();
+            }
+        };
+        drawingLimits.autoSyncProperty().addListener( autoSyncListener );
+    }
+
+    /**
+     * Stops listening to the Drawing Limits, so that this accumulator can be
+     * garbage collected while the Drawing Limits are still in use.
+     */
+    public void dispose() {
+        drawingLimits.autoSyncProperty().removeListener( autoSyncListener );
+    }
+
+    public DrawingLimitsProperties getDrawingLimits() {
+        return drawingLimits;
+    }
+
+    public int getObjectCount() {
+        return objectCount;
+    }
+
+    public boolean isEmpty() {
+        return objectCount == 0;
+    }
+
+    /**
+     * Returns the current envelope of all tracked objects.
+     *
+     * @return The accumulated envelope, or {@code null} if no objects are
+     *         currently tracked
+     */
+    public Extents2D getEnvelope() {
+        if ( objectCount == 0 ) {
+            return null;
+        }
+
+        return Extents2D.fromCorners( minXValues.first(),
+                                      minYValues.first(),
+                                      maxXValues.last(),
+                                      maxYValues.last() );
+    }
+
+    public void add( final Extents2D extents ) {
+        add( extents.getMinX(), extents.getMinY(), extents.getMaxX(), extents.getMaxY() );
+    }
+
+    public void add( final double minX,
+                     final double minY,
+                     final double maxX,
+                     final double maxY ) {
+        minXValues.add( minX );
+        minYValues.add( minY );
+        maxXValues.add( maxX );
+        maxYValues.add( maxY );
+        objectCount++;
+
+        syncIfIdle();
+    }
+
+    public void remove( final Extents2D extents ) {
+        remove( extents.getMinX(), extents.getMinY(), extents.getMaxX(), extents.getMaxY() );
+    }
+
+    public void remove( final double minX,
+                        final double minY,
+                        final double maxX,
+                        final double maxY ) {
+        // Validate before mutating, so that a bad call cannot leave the four
+        // edge multisets out of step with each other.
+        if ( !minXValues.contains( minX ) || !minYValues.contains( minY )
+                || !maxXValues.contains( maxX ) || !maxYValues.contains( maxY ) ) {
+            throw new IllegalArgumentException( "Extents are not tracked by this accumulator" ); //$NON-NLS-1$
+        }
+
+        minXValues.remove( minX );
+        minYValues.remove( minY );
+        maxXValues.remove( maxX );
+        maxYValues.remove( maxY );
+        objectCount--;
+
+        syncIfIdle();
+    }
+
+    /**
+     * Moves a tracked object from its old extents to its new extents, syncing
+     * the Drawing Limits at most once.
+     *
+     * @param oldExtents
+     *            The extents the object was previously tracked with
+     * @param newExtents
+     *            The extents the object should now be tracked with
+     */
+    public void move( final Extents2D oldExtents, final Extents2D newExtents ) {
+        beginBatch();
+        try {
+            remove( oldExtents );
+            add( newExtents );
+        }
+        finally {
+            endBatch();
+        }
+    }
+
+    public void clear() {
+        minXValues.clear();
+        minYValues.clear();
+        maxXValues.clear();
+        maxYValues.clear();
+        objectCount = 0;
+    }
+
+    /**
+     * Starts a batch of edits, during which the Drawing Limits are not synced.
+     * Batches may be nested, and each call must be balanced by a call to
+     * {@link #endBatch()}.
+     */
+    public void beginBatch() {
+        batchDepth++;
+    }
+
+    /**
+     * Ends a batch of edits, syncing the Drawing Limits once when the
+     * outermost batch ends.
+     */
+    public void endBatch() {
+        if ( batchDepth <= 0 ) {
+            throw new IllegalStateException( "endBatch() without matching beginBatch()" ); //$NON-NLS-1$
+        }
+
+        batchDepth--;
+        syncIfIdle();
+    }
+
+    /**
+     * Pushes the accumulated envelope into the Drawing Limits, if auto-sync is
+     * enabled and the envelope differs from the current Drawing Limits.
+     *
+     * @return {@code true} if the Drawing Limits were changed
+     */
+    public boolean sync() {
+        if ( ( objectCount == 0 ) || !drawingLimits.isAutoSync() ) {
+            return false;
+        }
+
+        final double minX = minXValues.first();
+        final double minY = minYValues.first();
+        final double width = maxXValues.last() - minX;
+        final double height = maxYValues.last() - minY;
+
+        // Avoid notifying Drawing Limits listeners for interior edits.
+        if ( ( Double.compare( minX, drawingLimits.getX() ) == 0 )
+                && ( Double.compare( minY, drawingLimits.getY() ) == 0 )
+                && ( Double.compare( width, drawingLimits.getWidth() ) == 0 )
+                && ( Double.compare( height, drawingLimits.getHeight() ) == 0 ) ) {
+            return false;
+        }
+
+        drawingLimits.setExtents( minX, minY, width, height );
+
+        return true;
+    }
+
+    private void syncIfIdle() {
+        if ( batchDepth == 0 ) {
+            sync();
+        }
+    }
+
+    /**
+     * This is a sorted multiset of edge values, kept as parallel arrays of the
+     * distinct values and their counts.
+     * <p>
+     * NOTE: Negative zero is stored as positive zero, as otherwise the two
+     *  would be treated as distinct values.
+     */
+    private static final class EdgeValues {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        private double[] values;
+        private int[]    counts;
+        private int      size;
+
+        EdgeValues() {
+            values = new double[ INITIAL_CAPACITY ];
+            counts = new int[ INITIAL_CAPACITY ];
+            size = 0;
+        }
+
+        double first() {
+            return values[ 0 ];
+        }
+
+        double last() {
+            return values[ size - 1 ];
+        }
+
+        boolean contains( final double value ) {
+            return Arrays.binarySearch( values, 0, size, value + 0.0d ) >= 0;
+        }
+
+        void add( final double value ) {
+            final double key = value + 0.0d;
+            final int index = Arrays.binarySearch( values, 0, size, key );
+            if ( index >= 0 ) {
+                counts[ index ]++;
+                return;
+            }
+
+            final int insertionIndex = -( index + 1 );
+            if ( size == values.length ) {
+                values = Arrays.copyOf( values, 2 * size );
+                counts = Arrays.copyOf( counts, 2 * size );
+            }
+            System.arraycopy( values, insertionIndex, values, insertionIndex + 1, size - insertionIndex );
+            System.arraycopy( counts, insertionIndex, counts, insertionIndex + 1, size - insertionIndex );
+            values[ insertionIndex ] = key;
+            counts[ insertionIndex ] = 1;
+            size++;
+        }
+
+        void remove( final double value ) {
+            final int index = Arrays.binarySearch( values, 0, size, value + 0.0d );
+            if ( index < 0 ) {
+                return;
+            }
+            if ( --counts[ index ] > 0 ) {
+                return;
+            }
+
+            size--;
+            System.arraycopy( values, index + 1, values, index, size - index );
+            System.arraycopy( counts, index + 1, counts, index, size - index );
+        }
+
+        void clear() {
+            size = 0;
+        }
+    }
+}
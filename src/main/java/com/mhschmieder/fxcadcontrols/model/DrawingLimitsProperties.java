@@ -289,12 +289,11 @@ public final class DrawingLimitsProperties extends Extents2DProperties {
         // Bind all the properties to the associated dirty flag.
         // NOTE: This is done during initialization, as it is best to make
         //  singleton objects and just update their values vs. reconstructing.
+        // NOTE: We bind to the composite extents rather than to the individual
+        //  coordinates, so that a whole-boundary change only invalidates once.
         drawingLimitsChanged = BeanFactory.makeBooleanBinding(
              autoSyncProperty(),
-             xProperty(),
-             yProperty(),
-             widthProperty(),
-             heightProperty() );
+             extentsProperty() );
 
     }
 
@@ -0,0 +1,407 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxCadControls Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxCadControls Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxcadcontrols
+ */
+package com.mhschmieder.fxcadcontrols.model;
+
+/**
+ * This is an immutable, primitive-backed value class for describing extents in
+ * 2D Cartesian Space. It is the lightweight counterpart of
+ * {@link Extents2DProperties}, and is intended for hot geometry code such as
+ * hit-testing and culling, where the JavaFX property layer is unnecessary.
+ * <p>
+ * Methods that produce points or rectangles write into caller-supplied
+ * buffers rather than allocating new objects. Rectangle buffers are laid out
+ * as { x, y, width, height }, and point buffers as { x, y }.
+ */
+public final class Extents2D {
+
+    /** Length of a caller-supplied rectangle buffer. */
+    public static final int RECTANGLE_BUFFER_LENGTH = 4;
+
+    /** Length of a caller-supplied point buffer. */
+    public static final int POINT_BUFFER_LENGTH     = 2;
+
+    /**
+     * Default tolerance for {@link #isCloseTo(Extents2D)}, in the same units as
+     * the coordinates (usually meters).
+     */
+    public static final double EQUALITY_TOLERANCE   = 1.0e-6d;
+
+    private final double    x;
+    private final double    y;
+    private final double    width;
+    private final double    height;
+
+    /** Cached hash code; zero until first computed, as with strings. */
+    private int             hash;
+
+    /**
+     * Fully qualified constructor.
+     *
+     * @param pX
+     *            The x-origin to use for the new {@link Extents2D}
+     * @param pY
+     *            The y-origin to use for the new {@link Extents2D}
+     * @param pWidth
+     *            The width to use for the new {@link Extents2D}
+     * @param pHeight
+     *            The height to use for the new {@link Extents2D}
+     */
+    public Extents2D( final double pX,
+                      final double pY,
+                      final double pWidth,
+                      final double pHeight ) {
+        x = pX;
+        y = pY;
+        width = pWidth;
+        height = pHeight;
+    }
+
+    /**
+     * Makes a new {@link Extents2D} from its corner coordinates.
+     *
+     * @param minX
+     *            The minimum x-coordinate
+     * @param minY
+     *            The minimum y-coordinate
+     * @param maxX
+     *            The maximum x-coordinate
+     * @param maxY
+     *            The maximum y-coordinate
+     * @return A new {@link Extents2D} spanning the supplied corners
+     */
+    public static Extents2D fromCorners( final double minX,
+                                         final double minY,
+                                         final double maxX,
+                                         final double maxY ) {
+        return new Extents2D( minX, minY, maxX - minX, maxY - minY );
+    }
+
+    @Override
+    public boolean equals( final Object other ) {
+        if ( this == other ) {
+            return true;
+        }
+        if ( ( other == null ) || ( getClass() != other.getClass() ) ) {
+            return false;
+        }
+        final Extents2D otherExtents2D = (Extents2D) other;
+        return valueEquals( x,
+                            y,
+                            width,
+                            height,
+                            otherExtents2D.x,
+                            otherExtents2D.y,
+                            otherExtents2D.width,
+                            otherExtents2D.height );
+    }
+
+    @Override
+    public int hashCode() {
+        int result = hash;
+        if ( result == 0 ) {
+            result = valueHashCode( x, y, width, height );
+            hash = result;
+        }
+        return result;
+    }
+
+    /**
+     * Compares two coordinates exactly, except that all NaN values are equal
+     * to each other, and positive and negative zero are equal.
+     */
+    private static boolean coordinateEquals( final double value1, final double value2 ) {
+        return ( value1 == value2 ) || ( Double.isNaN( value1 ) && Double.isNaN( value2 ) );
+    }
+
+    /**
+     * Compares two rectangles by value, coordinate by coordinate.
+     * <p>
+     * NOTE: This is exact rather than tolerance-based, as a tolerance cannot
+     *  be both transitive and consistent with a hash code; use
+     *  {@link #isCloseTo(Extents2D, double)} for approximate comparisons.
+     *
+     * @return {@code true} if the two rectangles are equal
+     */
+    static boolean valueEquals( final double x1,
+                                final double y1,
+                                final double width1,
+                                final double height1,
+                                final double x2,
+                                final double y2,
+                                final double width2,
+                                final double height2 ) {
+        return coordinateEquals( x1, x2 )
+                && coordinateEquals( y1, y2 )
+                && coordinateEquals( width1, width2 )
+                && coordinateEquals( height1, height2 );
+    }
+
+    /**
+     * Computes a hash code that is consistent with {@link #valueEquals}.
+     *
+     * @return The value-based hash code for the supplied rectangle
+     */
+    static int valueHashCode( final double pX,
+                              final double pY,
+                              final double pWidth,
+                              final double pHeight ) {
+        // NOTE: Adding zero maps negative zero to positive zero, and
+        //  Double.hashCode() already maps every NaN to the same value.
+        int result = Double.hashCode( pX + 0.0d );
+        result = ( 31 * result ) + Double.hashCode( pY + 0.0d );
+        result = ( 31 * result ) + Double.hashCode( pWidth + 0.0d );
+        result = ( 31 * result ) + Double.hashCode( pHeight + 0.0d );
+        return result;
+    }
+
+    /**
+     * Returns whether these extents are within {@link #EQUALITY_TOLERANCE} of
+     * another, coordinate by coordinate.
+     *
+     * @param other
+     *            The extents to compare to
+     * @return {@code true} if every coordinate is within tolerance
+     */
+    public boolean isCloseTo( final Extents2D other ) {
+        return isCloseTo( other, EQUALITY_TOLERANCE );
+    }
+
+    /**
+     * Returns whether these extents are within a tolerance of another,
+     * coordinate by coordinate. Extents with a NaN coordinate are never close
+     * to anything.
+     *
+     * @param other
+     *            The extents to compare to
+     * @param tolerance
+     *            The largest allowed difference per coordinate
+     * @return {@code true} if every coordinate is within tolerance
+     */
+    public boolean isCloseTo( final Extents2D other, final double tolerance ) {
+        return ( Math.abs( x - other.x ) <= tolerance )
+                && ( Math.abs( y - other.y ) <= tolerance )
+                && ( Math.abs( width - other.width ) <= tolerance )
+                && ( Math.abs( height - other.height ) <= tolerance );
+    }
+
+    @Override
+    public String toString() {
+        return "Extents2D [x=" + x + ", y=" + y + ", width=" + width //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+                + ", height=" + height + "]"; //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
+
+    public double getWidth() {
+        return width;
+    }
+
+    public double getHeight() {
+        return height;
+    }
+
+    public double getMinX() {
+        return x;
+    }
+
+    public double getMinY() {
+        return y;
+    }
+
+    public double getMaxX() {
+        return x + width;
+    }
+
+    public double getMaxY() {
+        return y + height;
+    }
+
+    /**
+     * Writes the minimum (lower left) point into the supplied buffer.
+     *
+     * @param point
+     *            The caller-supplied point buffer to write into
+     */
+    public void getMinimumPoint( final double[] point ) {
+        point[ 0 ] = x;
+        point[ 1 ] = y;
+    }
+
+    /**
+     * Writes the maximum (upper right) point into the supplied buffer.
+     *
+     * @param point
+     *            The caller-supplied point buffer to write into
+     */
+    public void getMaximumPoint( final double[] point ) {
+        point[ 0 ] = x + width;
+        point[ 1 ] = y + height;
+    }
+
+    /**
+     * Writes these extents into the supplied rectangle buffer.
+     *
+     * @param rectangle
+     *            The caller-supplied rectangle buffer to write into
+     */
+    public void getExtents( final double[] rectangle ) {
+        rectangle[ 0 ] = x;
+        rectangle[ 1 ] = y;
+        rectangle[ 2 ] = width;
+        rectangle[ 3 ] = height;
+    }
+
+    /**
+     * Returns {@code true} if the width or height is negative, which follows
+     * the JavaFX convention for invalid bounds.
+     *
+     * @return {@code true} if these extents are empty
+     */
+    public boolean isEmpty() {
+        return ( width < 0.0d ) || ( height < 0.0d );
+    }
+
+    /**
+     * Tests whether the supplied point lies within these extents, inclusive
+     * of the boundary.
+     *
+     * @param pointX
+     *            The x-coordinate of the point to test
+     * @param pointY
+     *            The y-coordinate of the point to test
+     * @return {@code true} if the point is contained in these extents
+     */
+    public boolean contains( final double pointX, final double pointY ) {
+        return ( pointX >= x ) && ( pointX <= ( x + width ) )
+                && ( pointY >= y ) && ( pointY <= ( y + height ) );
+    }
+
+    /**
+     * Tests whether the supplied rectangle lies entirely within these extents.
+     *
+     * @param minX
+     *            The minimum x-coordinate of the rectangle to test
+     * @param minY
+     *            The minimum y-coordinate of the rectangle to test
+     * @param maxX
+     *            The maximum x-coordinate of the rectangle to test
+     * @param maxY
+     *            The maximum y-coordinate of the rectangle to test
+     * @return {@code true} if the rectangle is contained in these extents
+     */
+    public boolean contains( final double minX,
+                             final double minY,
+                             final double maxX,
+                             final double maxY ) {
+        return ( minX >= x ) && ( maxX <= ( x + width ) )
+                && ( minY >= y ) && ( maxY <= ( y + height ) );
+    }
+
+    public boolean contains( final Extents2D other ) {
+        return contains( other.getMinX(),
+                         other.getMinY(),
+                         other.getMaxX(),
+                         other.getMaxY() );
+    }
+
+    /**
+     * Tests whether the supplied rectangle overlaps these extents, inclusive
+     * of the boundary.
+     *
+     * @param minX
+     *            The minimum x-coordinate of the rectangle to test
+     * @param minY
+     *            The minimum y-coordinate of the rectangle to test
+     * @param maxX
+     *            The maximum x-coordinate of the rectangle to test
+     * @param maxY
+     *            The maximum y-coordinate of the rectangle to test
+     * @return {@code true} if the rectangle intersects these extents
+     */
+    public boolean intersects( final double minX,
+                               final double minY,
+                               final double maxX,
+                               final double maxY ) {
+        return ( maxX >= x ) && ( minX <= ( x + width ) )
+                && ( maxY >= y ) && ( minY <= ( y + height ) );
+    }
+
+    public boolean intersects( final Extents2D other ) {
+        return intersects( other.getMinX(),
+                           other.getMinY(),
+                           other.getMaxX(),
+                           other.getMaxY() );
+    }
+
+    /**
+     * Writes the union of these extents and the supplied extents into the
+     * supplied rectangle buffer, without allocating a new {@link Extents2D}.
+     *
+     * @param other
+     *            The extents to union with these extents
+     * @param rectangle
+     *            The caller-supplied rectangle buffer to write into
+     */
+    public void union( final Extents2D other, final double[] rectangle ) {
+        final double minX = Math.min( x, other.x );
+        final double minY = Math.min( y, other.y );
+        final double maxX = Math.max( x + width, other.getMaxX() );
+        final double maxY = Math.max( y + height, other.getMaxY() );
+
+        rectangle[ 0 ] = minX;
+        rectangle[ 1 ] = minY;
+        rectangle[ 2 ] = maxX - minX;
+        rectangle[ 3 ] = maxY - minY;
+    }
+
+    /**
+     * Returns the union of these extents and the supplied extents.
+     * <p>
+     * NOTE: Prefer {@link #union(Extents2D, double[])} in hot loops, as this
+     *  variant allocates the result.
+     *
+     * @param other
+     *            The extents to union with these extents
+     * @return A new {@link Extents2D} that spans both sets of extents
+     */
+    public Extents2D union( final Extents2D other ) {
+        return fromCorners( Math.min( x, other.x ),
+                            Math.min( y, other.y ),
+                            Math.max( x + width, other.getMaxX() ),
+                            Math.max( y + height, other.getMaxY() ) );
+    }
+}
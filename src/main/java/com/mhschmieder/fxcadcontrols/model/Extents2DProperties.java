@@ -31,16 +31,26 @@
 package com.mhschmieder.fxcadcontrols.model;
 
 import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
 import javafx.beans.property.SimpleDoubleProperty;
 import javafx.geometry.Bounds;
 import javafx.geometry.Point2D;
 import javafx.geometry.Rectangle2D;
 import javafx.scene.shape.Rectangle;
 
-import java.util.Objects;
-
 /**
  * This is a properties class for describing extents in 2D Cartesian Space.
+ * <p>
+ * Besides the individual coordinate properties, the whole rectangle is also
+ * published as a single composite {@link #extentsProperty()}, which changes
+ * exactly once per call to any of the {@code setExtents()} methods, or once per
+ * {@link #beginUpdate()}/{@link #endUpdate()} transaction. Observers that care
+ * about the rectangle as a whole should bind to that property, as they then
+ * never see torn intermediate rectangles.
+ * <p>
+ * The composite property is only created on first request, as most extents in
+ * a large batch-loaded model are never observed as a whole.
  */
 public class Extents2DProperties {
 
@@ -49,12 +59,30 @@ public class Extents2DProperties {
     public static final double     WIDTH_METERS_DEFAULT  = 40.0d;
     public static final double     HEIGHT_METERS_DEFAULT = 20.0d;
 
+    // Bit flags identifying each coordinate, as passed to the change hook.
+    public static final int        COORDINATE_X          = 1;
+    public static final int        COORDINATE_Y          = 1 << 1;
+    public static final int        COORDINATE_WIDTH      = 1 << 2;
+    public static final int        COORDINATE_HEIGHT     = 1 << 3;
+
     // NOTE: These fields must follow JavaFX Property Bean naming conventions.
     protected final DoubleProperty x;
     protected final DoubleProperty y;
     protected final DoubleProperty width;
     protected final DoubleProperty height;
 
+    /**
+     * Composite observable copy of the whole rectangle, which is only updated
+     * when no transaction is in progress, and is only created on demand.
+     */
+    private ReadOnlyObjectWrapper< Extents2D > extents;
+
+    /** Nesting depth of the current update transaction; zero when idle. */
+    private int updateDepth;
+
+    /** Flag for whether a coordinate changed during the current transaction. */
+    private boolean extentsPending;
+
     /**
      * Default constructor, which sets default bounds.
      */
@@ -120,10 +148,10 @@ public class Extents2DProperties {
                                 final double pY,
                                 final double pWidth,
                                 final double pHeight ) {
-        x = new SimpleDoubleProperty( pX );
-        y = new SimpleDoubleProperty( pY );
-        width = new SimpleDoubleProperty( pWidth );
-        height = new SimpleDoubleProperty( pHeight );
+        x = new CoordinateProperty( "x", pX, COORDINATE_X ); //$NON-NLS-1$
+        y = new CoordinateProperty( "y", pY, COORDINATE_Y ); //$NON-NLS-1$
+        width = new CoordinateProperty( "width", pWidth, COORDINATE_WIDTH ); //$NON-NLS-1$
+        height = new CoordinateProperty( "height", pHeight, COORDINATE_HEIGHT ); //$NON-NLS-1$
     }
 
     /**
@@ -139,23 +167,28 @@ public class Extents2DProperties {
                 pExtents.getHeight() );
     }
 
-    @Override
-    public boolean equals( final Object other ) {
-        if ( this == other ) {
-            return true;
-        }
-        if ( ( other == null ) || ( getClass() != other.getClass() ) ) {
-            return false;
-        }
-        final Extents2DProperties otherExtents2DProperties = (Extents2DProperties) other;
-        return Objects.equals( x, otherExtents2DProperties.x ) && Objects.equals( y, otherExtents2DProperties.y )
-                && Objects.equals( width, otherExtents2DProperties.width )
-                && Objects.equals( height, otherExtents2DProperties.height );
-    }
-
-    @Override
-    public int hashCode() {
-        return Objects.hash( x, y, width, height );
+    /**
+     * Returns whether these extents currently have the same coordinates as
+     * another set of extents, as defined by {@link Extents2D#equals(Object)}.
+     * <p>
+     * NOTE: This is a separate method rather than an override of
+     *  {@link #equals(Object)}, as these are mutable beans whose subclasses
+     *  carry more state than their extents, and which must keep their
+     *  identity in collections and listeners.
+     *
+     * @param other
+     *            The extents to compare to
+     * @return {@code true} if the coordinates are equal
+     */
+    public final boolean extentsEqual( final Extents2DProperties other ) {
+        return Extents2D.valueEquals( getX(),
+                                      getY(),
+                                      getWidth(),
+                                      getHeight(),
+                                      other.getX(),
+                                      other.getY(),
+                                      other.getWidth(),
+                                      other.getHeight() );
     }
 
     public final DoubleProperty xProperty() {
@@ -206,6 +239,80 @@ public class Extents2DProperties {
         height.set( pHeight );
     }
 
+    public final ReadOnlyObjectProperty< Extents2D > extentsProperty() {
+        if ( extents == null ) {
+            extents = new ReadOnlyObjectWrapper<>( this,
+                                                   "extents", //$NON-NLS-1$
+                                                   new Extents2D( getX(),
+                                                                  getY(),
+                                                                  getWidth(),
+                                                                  getHeight() ) );
+        }
+        return extents.getReadOnlyProperty();
+    }
+
+    /**
+     * Starts an update transaction, during which coordinate changes are not
+     * published to {@link #extentsProperty()}. Transactions may be nested, and
+     * each call must be balanced by a call to {@link #endUpdate()}.
+     */
+    public final void beginUpdate() {
+        updateDepth++;
+    }
+
+    /**
+     * Ends an update transaction. When the outermost transaction ends, the
+     * composite extents are published once if any coordinate changed.
+     */
+    public final void endUpdate() {
+        if ( updateDepth <= 0 ) {
+            throw new IllegalStateException( "endUpdate() without matching beginUpdate()" ); //$NON-NLS-1$
+        }
+
+        updateDepth--;
+        if ( ( updateDepth == 0 ) && extentsPending ) {
+            publishExtents();
+        }
+    }
+
+    public final boolean isUpdating() {
+        return updateDepth > 0;
+    }
+
+    /*
+     * Called whenever any coordinate changes, whether due to a direct set or
+     * due to a binding on its property.
+     */
+    private void coordinateInvalidated( final int coordinate ) {
+        coordinateChanged( coordinate );
+
+        if ( updateDepth > 0 ) {
+            extentsPending = true;
+        }
+        else {
+            publishExtents();
+        }
+    }
+
+    /**
+     * Hook for subclasses that need to know which coordinate changed, such as
+     * for fine-grained change tracking. Called before the composite extents
+     * are published. Does nothing by default.
+     *
+     * @param coordinate
+     *            The coordinate that changed; one of {@link #COORDINATE_X},
+     *            {@link #COORDINATE_Y}, {@link #COORDINATE_WIDTH} or
+     *            {@link #COORDINATE_HEIGHT}
+     */
+    protected void coordinateChanged( final int coordinate ) {}
+
+    private void publishExtents() {
+        extentsPending = false;
+        if ( extents != null ) {
+            extents.set( new Extents2D( getX(), getY(), getWidth(), getHeight() ) );
+        }
+    }
+
     public final Point2D getMinimumPoint() {
         return new Point2D( getX(), getY() );
     }
@@ -214,6 +321,33 @@ public class Extents2DProperties {
         return new Point2D( getX() + getWidth(), getY() + getHeight() );
     }
 
+    /**
+     * Returns an immutable, primitive-backed snapshot of the current extents,
+     * for use by hot geometry code that should not touch the JavaFX property
+     * layer.
+     *
+     * @return An {@link Extents2D} snapshot of the current extents
+     */
+    public final Extents2D snapshot() {
+        // The composite extents are current unless a transaction is pending.
+        return ( ( extents != null ) && ( updateDepth == 0 ) )
+            ? extents.get()
+            : new Extents2D( getX(), getY(), getWidth(), getHeight() );
+    }
+
+    /**
+     * Applies the supplied primitive-backed extents to these properties.
+     *
+     * @param pExtents
+     *            The {@link Extents2D} to use for setting the fields
+     */
+    public final void apply( final Extents2D pExtents ) {
+        setExtents( pExtents.getX(),
+                    pExtents.getY(),
+                    pExtents.getWidth(),
+                    pExtents.getHeight() );
+    }
+
     /*
      * Partially qualified copy pseudo-constructor.
      */
@@ -225,15 +359,26 @@ public class Extents2DProperties {
                 pBounds.getHeight() );
     }
 
-    /* Partially qualified pseudo-constructor. */
+    /*
+     * Partially qualified pseudo-constructor.
+     * <p>
+     * NOTE: This is done as a single transaction, so that observers of the
+     *  composite extents only get notified once for the whole rectangle.
+     */
     public final void setExtents( final double pX,
                                   final double pY,
                                   final double pWidth,
                                   final double pHeight ) {
-        setX( pX );
-        setY( pY );
-        setWidth( pWidth );
-        setHeight( pHeight );
+        beginUpdate();
+        try {
+            setX( pX );
+            setY( pY );
+            setWidth( pWidth );
+            setHeight( pHeight );
+        }
+        finally {
+            endUpdate();
+        }
     }
 
     /*
@@ -268,4 +413,32 @@ public class Extents2DProperties {
                     pRectangle.getWidth(),
                     pRectangle.getHeight() );
     }
+
+    /**
+     * This is a coordinate property that forwards invalidation to the owning
+     * extents, so that the composite extents can be kept current without
+     * registering separate listeners.
+     */
+    private final class CoordinateProperty extends SimpleDoubleProperty {
+
+        private final int coordinate;
+
+        CoordinateProperty( final String name,
+                            final double initialValue,
+                            final int pCoordinate ) {
+            super( Extents2DProperties.this, name, initialValue );
+
+            coordinate = pCoordinate;
+        }
+
+        @Override
+        protected void invalidated() {
+            // NOTE: Reading the value back re-validates the property, as
+            //  otherwise further changes would not invalidate it again until
+            //  somebody else happened to read it.
+            get();
+
+            coordinateInvalidated( coordinate );
+        }
+    }
 }
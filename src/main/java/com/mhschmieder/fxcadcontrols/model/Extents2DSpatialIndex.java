@@ -0,0 +1,565 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxCadControls Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxCadControls Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxcadcontrols
+ */
+package com.mhschmieder.fxcadcontrols.model;
+
+import javafx.beans.InvalidationListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The <code>Extents2DSpatialIndex</code> class is a region quadtree over
+ * {@link Extents2DProperties}, for answering window and point queries in
+ * logarithmic time, such as for viewport culling and for zooming to a subset
+ * of a drawing.
+ * <p>
+ * Each item is stored in the deepest node whose quadrant fully contains it,
+ * along with a primitive {@link Extents2D} snapshot so that queries never
+ * touch the JavaFX property layer. Items are kept current by listening to
+ * their composite extents property, so edits re-index them incrementally.
+ * Items that fall outside the root bounds are kept in an overflow list, and
+ * the tree is rebuilt around the full envelope once that list grows too long.
+ * <p>
+ * NOTE: Items are tracked by identity, so that two distinct items with equal
+ *  extents are indexed separately, whatever equality a subclass defines.
+ *
+ * @param <T>
+ *            The type of extents stored in the index
+ */
+public final class Extents2DSpatialIndex< T extends Extents2DProperties > {
+
+    /** Default number of items a node holds before it is split. */
+    public static final int NODE_CAPACITY_DEFAULT = 16;
+
+    /** Default maximum depth of the tree, below which nodes are not split. */
+    public static final int MAXIMUM_DEPTH_DEFAULT = 16;
+
+    private final int                      nodeCapacity;
+    private final int                      maximumDepth;
+
+    /** Index of all items, for constant-time lookup on update and removal. */
+    private final Map< T, Entry< T > >     entries;
+
+    /** Items that do not fit within the root bounds. */
+    private final List< Entry< T > >       overflowEntries;
+
+    private Node< T >                      root;
+
+    /**
+     * Default constructor, with default root bounds and tree parameters.
+     */
+    public Extents2DSpatialIndex() {
+        this( new Extents2D( Extents2DProperties.X_METERS_DEFAULT,
+                             Extents2DProperties.Y_METERS_DEFAULT,
+                             Extents2DProperties.WIDTH_METERS_DEFAULT,
+                             Extents2DProperties.HEIGHT_METERS_DEFAULT ) );
+    }
+
+    /**
+     * Constructor for when the approximate extents of the drawing are known.
+     *
+     * @param rootBounds
+     *            The initial bounds covered by the root of the tree
+     */
+    public Extents2DSpatialIndex( final Extents2D rootBounds ) {
+        this( rootBounds, NODE_CAPACITY_DEFAULT, MAXIMUM_DEPTH_DEFAULT );
+    }
+
+    /**
+     * Fully qualified constructor.
+     *
+     * @param rootBounds
+     *            The initial bounds covered by the root of the tree
+     * @param pNodeCapacity
+     *            The number of items a node holds before it is split
+     * @param pMaximumDepth
+     *            The maximum depth of the tree
+     */
+    public Extents2DSpatialIndex( final Extents2D rootBounds,
+                                  final int pNodeCapacity,
+                                  final int pMaximumDepth ) {
+        nodeCapacity = Math.max( 1, pNodeCapacity );
+        maximumDepth = Math.max( 0, pMaximumDepth );
+
+        entries = new IdentityHashMap<>();
+        overflowEntries = new ArrayList<>();
+
+        root = new Node<>( rootBounds.getMinX(),
+                           rootBounds.getMinY(),
+                           rootBounds.getMaxX(),
+                           rootBounds.getMaxY(),
+                           0 );
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    public boolean contains( final T item ) {
+        return entries.containsKey( item );
+    }
+
+    /**
+     * Adds an item to the index, and starts tracking changes to its extents.
+     *
+     * @param item
+     *            The item to add
+     * @return {@code true} if the item was added, or {@code false} if it was
+     *         already in the index
+     */
+    public boolean add( final T item ) {
+        if ( entries.containsKey( item ) ) {
+            return false;
+        }
+
+        final Entry< T > entry = new Entry<>( item );
+        entry.listener = observable -> update( item );
+        item.extentsProperty().addListener( entry.listener );
+        entries.put( item, entry );
+
+        insert( entry );
+        rebuildIfOverflowing();
+
+        return true;
+    }
+
+    /**
+     * Removes an item from the index, and stops tracking changes to its
+     * extents.
+     *
+     * @param item
+     *            The item to remove
+     * @return {@code true} if the item was removed, or {@code false} if it was
+     *         not in the index
+     */
+    public boolean remove( final T item ) {
+        final Entry< T > entry = entries.remove( item );
+        if ( entry == null ) {
+            return false;
+        }
+
+        item.extentsProperty().removeListener( entry.listener );
+        detach( entry );
+
+        return true;
+    }
+
+    /**
+     * Re-indexes an item after its extents change. This is called
+     * automatically from the item's extents listener, but is also available
+     * for items whose coordinates are bound and not yet re-validated.
+     *
+     * @param item
+     *            The item to re-index
+     */
+    public void update( final T item ) {
+        final Entry< T > entry = entries.get( item );
+        if ( entry == null ) {
+            return;
+        }
+
+        final Extents2D bounds = item.snapshot();
+        final Node< T > node = entry.node;
+        entry.bounds = bounds;
+
+        // Avoid re-insertion if the item still fits where it is and would not
+        // descend any further.
+        if ( ( node != null )
+                && node.contains( bounds )
+                && ( ( node.children == null ) || ( node.childContaining( bounds ) == null ) ) ) {
+            return;
+        }
+
+        detach( entry );
+        insert( entry );
+        rebuildIfOverflowing();
+    }
+
+    /**
+     * Removes all items from the index, and stops tracking their extents.
+     */
+    public void clear() {
+        for ( final Entry< T > entry : entries.values() ) {
+            entry.item.extentsProperty().removeListener( entry.listener );
+        }
+
+        entries.clear();
+        overflowEntries.clear();
+        root = new Node<>( root.minX, root.minY, root.maxX, root.maxY, 0 );
+    }
+
+    /**
+     * Replaces the contents of the index with the supplied items, sizing the
+     * root of the tree to their combined envelope up front. This is much
+     * cheaper than adding the items one at a time for large imports, as no
+     * item ever lands in the overflow list.
+     *
+     * @param items
+     *            The items to load into the index
+     */
+    public void bulkLoad( final Collection< ? extends T > items ) {
+        clear();
+
+        if ( items.isEmpty() ) {
+            return;
+        }
+
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+
+        final List< Entry< T > > loadedEntries = new ArrayList<>( items.size() );
+        for ( final T item : items ) {
+            if ( entries.containsKey( item ) ) {
+                continue;
+            }
+
+            final Entry< T > entry = new Entry<>( item );
+            entry.listener = observable -> update( item );
+            item.extentsProperty().addListener( entry.listener );
+            entries.put( item, entry );
+            loadedEntries.add( entry );
+
+            minX = Math.min( minX, entry.bounds.getMinX() );
+            minY = Math.min( minY, entry.bounds.getMinY() );
+            maxX = Math.max( maxX, entry.bounds.getMaxX() );
+            maxY = Math.max( maxY, entry.bounds.getMaxY() );
+        }
+
+        root = new Node<>( minX, minY, maxX, maxY, 0 );
+        for ( final Entry< T > entry : loadedEntries ) {
+            insert( entry );
+        }
+    }
+
+    /**
+     * Collects all items whose extents intersect the supplied window.
+     *
+     * @param window
+     *            The query window, such as the visible viewport
+     * @param results
+     *            The caller-supplied collection to add matching items to
+     */
+    public void query( final Extents2D window, final Collection< ? super T > results ) {
+        query( window.getMinX(), window.getMinY(), window.getMaxX(), window.getMaxY(), results );
+    }
+
+    /**
+     * Collects all items whose extents intersect the supplied window.
+     *
+     * @param minX
+     *            The minimum x-coordinate of the query window
+     * @param minY
+     *            The minimum y-coordinate of the query window
+     * @param maxX
+     *            The maximum x-coordinate of the query window
+     * @param maxY
+     *            The maximum y-coordinate of the query window
+     * @param results
+     *            The caller-supplied collection to add matching items to
+     */
+    public void query( final double minX,
+                       final double minY,
+                       final double maxX,
+                       final double maxY,
+                       final Collection< ? super T > results ) {
+        queryNode( root, minX, minY, maxX, maxY, results );
+        collectIntersecting( overflowEntries, minX, minY, maxX, maxY, results );
+    }
+
+    /**
+     * Collects all items whose extents contain the supplied point.
+     *
+     * @param pointX
+     *            The x-coordinate of the query point
+     * @param pointY
+     *            The y-coordinate of the query point
+     * @param results
+     *            The caller-supplied collection to add matching items to
+     */
+    public void queryPoint( final double pointX,
+                            final double pointY,
+                            final Collection< ? super T > results ) {
+        // A point is just a degenerate window, as all tests are inclusive.
+        query( pointX, pointY, pointX, pointY, results );
+    }
+
+    /**
+     * Returns the envelope of all items in the index, such as for zooming to
+     * fit the whole drawing.
+     *
+     * @return The combined envelope, or {@code null} if the index is empty
+     */
+    public Extents2D getEnvelope() {
+        if ( entries.isEmpty() ) {
+            return null;
+        }
+
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        for ( final Entry< T > entry : entries.values() ) {
+            minX = Math.min( minX, entry.bounds.getMinX() );
+            minY = Math.min( minY, entry.bounds.getMinY() );
+            maxX = Math.max( maxX, entry.bounds.getMaxX() );
+            maxY = Math.max( maxY, entry.bounds.getMaxY() );
+        }
+
+        return Extents2D.fromCorners( minX, minY, maxX, maxY );
+    }
+
+    private void insert( final Entry< T > entry ) {
+        final Extents2D bounds = entry.bounds;
+        if ( !root.contains( bounds ) ) {
+            entry.node = null;
+            entry.slot = overflowEntries.size();
+            overflowEntries.add( entry );
+            return;
+        }
+
+        // Descend to the deepest existing node that fully contains the item.
+        Node< T > node = root;
+        Node< T > child;
+        while ( ( node.children != null )
+                && ( ( child = node.childContaining( bounds ) ) != null ) ) {
+            node = child;
+        }
+
+        node.add( entry );
+        splitIfFull( node );
+    }
+
+    private void detach( final Entry< T > entry ) {
+        if ( entry.node != null ) {
+            entry.node.remove( entry );
+        }
+        else {
+            removeSlot( overflowEntries, entry );
+        }
+    }
+
+    private void splitIfFull( final Node< T > node ) {
+        if ( ( node.children != null )
+                || ( node.entries.size() <= nodeCapacity )
+                || ( node.depth >= maximumDepth ) ) {
+            return;
+        }
+
+        node.split();
+
+        // Push down every item that fits entirely within a single quadrant.
+        final List< Entry< T > > nodeEntries = node.entries;
+        for ( int slot = nodeEntries.size() - 1; slot >= 0; slot-- ) {
+            final Entry< T > entry = nodeEntries.get( slot );
+            final Node< T > child = node.childContaining( entry.bounds );
+            if ( child != null ) {
+                node.remove( entry );
+                child.add( entry );
+            }
+        }
+
+        for ( final Node< T > child : node.children ) {
+            splitIfFull( child );
+        }
+    }
+
+    private void rebuildIfOverflowing() {
+        // Rebuild around the full envelope once the linear overflow list is a
+        // significant fraction of the index, to restore logarithmic queries.
+        final int overflowLimit = Math.max( nodeCapacity, entries.size() >> 3 );
+        if ( overflowEntries.size() <= overflowLimit ) {
+            return;
+        }
+
+        final Extents2D envelope = getEnvelope();
+        root = new Node<>( envelope.getMinX(),
+                           envelope.getMinY(),
+                           envelope.getMaxX(),
+                           envelope.getMaxY(),
+                           0 );
+        overflowEntries.clear();
+        for ( final Entry< T > entry : entries.values() ) {
+            insert( entry );
+        }
+    }
+
+    private static < T extends Extents2DProperties > void queryNode( final Node< T > node,
+                                                                     final double minX,
+                                                                     final double minY,
+                                                                     final double maxX,
+                                                                     final double maxY,
+                                                                     final Collection< ? super T > results ) {
+        if ( !node.intersects( minX, minY, maxX, maxY ) ) {
+            return;
+        }
+
+        collectIntersecting( node.entries, minX, minY, maxX, maxY, results );
+
+        if ( node.children != null ) {
+            for ( final Node< T > child : node.children ) {
+                queryNode( child, minX, minY, maxX, maxY, results );
+            }
+        }
+    }
+
+    private static < T extends Extents2DProperties > void collectIntersecting( final List< Entry< T > > candidates,
+                                                                               final double minX,
+                                                                               final double minY,
+                                                                               final double maxX,
+                                                                               final double maxY,
+                                                                               final Collection< ? super T > results ) {
+        // NOTE: We index rather than iterate, to avoid allocating iterators.
+        for ( int slot = 0, count = candidates.size(); slot < count; slot++ ) {
+            final Entry< T > entry = candidates.get( slot );
+            if ( entry.bounds.intersects( minX, minY, maxX, maxY ) ) {
+                results.add( entry.item );
+            }
+        }
+    }
+
+    /*
+     * Removes an entry from a list in constant time by moving the last entry
+     * into its slot.
+     */
+    private static < T extends Extents2DProperties > void removeSlot( final List< Entry< T > > list,
+                                                                      final Entry< T > entry ) {
+        final int lastSlot = list.size() - 1;
+        final Entry< T > lastEntry = list.remove( lastSlot );
+        if ( lastEntry != entry ) {
+            list.set( entry.slot, lastEntry );
+            lastEntry.slot = entry.slot;
+        }
+        entry.slot = -1;
+    }
+
+    /**
+     * An indexed item, along with its cached bounds and location in the tree.
+     */
+    private static final class Entry< T extends Extents2DProperties > {
+
+        final T              item;
+        Extents2D            bounds;
+        Node< T >            node;
+        int                  slot;
+        InvalidationListener listener;
+
+        Entry( final T pItem ) {
+            item = pItem;
+            bounds = pItem.snapshot();
+            node = null;
+            slot = -1;
+        }
+    }
+
+    /**
+     * A quadrant of the tree, holding the items that fit within it but not
+     * within any single one of its children.
+     */
+    private static final class Node< T extends Extents2DProperties > {
+
+        final double              minX;
+        final double              minY;
+        final double              maxX;
+        final double              maxY;
+        final int                 depth;
+        final List< Entry< T > >  entries;
+        Node< T >[]               children;
+
+        Node( final double pMinX,
+              final double pMinY,
+              final double pMaxX,
+              final double pMaxY,
+              final int pDepth ) {
+            minX = pMinX;
+            minY = pMinY;
+            maxX = pMaxX;
+            maxY = pMaxY;
+            depth = pDepth;
+            entries = new ArrayList<>();
+            children = null;
+        }
+
+        boolean contains( final Extents2D bounds ) {
+            return ( bounds.getMinX() >= minX ) && ( bounds.getMaxX() <= maxX )
+                    && ( bounds.getMinY() >= minY ) && ( bounds.getMaxY() <= maxY );
+        }
+
+        boolean intersects( final double pMinX,
+                            final double pMinY,
+                            final double pMaxX,
+                            final double pMaxY ) {
+            return ( pMaxX >= minX ) && ( pMinX <= maxX )
+                    && ( pMaxY >= minY ) && ( pMinY <= maxY );
+        }
+
+        Node< T > childContaining( final Extents2D bounds ) {
+            for ( final Node< T > child : children ) {
+                if ( child.contains( bounds ) ) {
+                    return child;
+                }
+            }
+            return null;
+        }
+
+        void add( final Entry< T > entry ) {
+            entry.node = this;
+            entry.slot = entries.size();
+            entries.add( entry );
+        }
+
+        void remove( final Entry< T > entry ) {
+            removeSlot( entries, entry );
+            entry.node = null;
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        void split() {
+            final double centerX = 0.5d * ( minX + maxX );
+            final double centerY = 0.5d * ( minY + maxY );
+            final int childDepth = depth + 1;
+
+            children = new Node[] {
+                    new Node<>( minX, minY, centerX, centerY, childDepth ),
+                    new Node<>( centerX, minY, maxX, centerY, childDepth ),
+                    new Node<>( minX, centerY, centerX, maxY, childDepth ),
+                    new Node<>( centerX, centerY, maxX, maxY, childDepth ) };
+        }
+    }
+}
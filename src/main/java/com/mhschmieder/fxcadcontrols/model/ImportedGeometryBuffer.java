@@ -0,0 +1,410 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxCadControls Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxCadControls Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxcadcontrols
+ */
+package com.mhschmieder.fxcadcontrols.model;
+
+import com.mhschmieder.fxcadcontrols.util.DxfExtentsScanner;
+import com.mhschmieder.fxcadcontrols.util.DxfInsUnits;
+
+import java.util.Arrays;
+
+/**
+ * {@code ImportedGeometryBuffer} keeps the geometry parsed from an imported
+ * drawing in primitive arrays, in the drawing's own units, so that choosing a
+ * different Distance Unit in the import dialog never requires re-reading the
+ * file.
+ * <p>
+ * Coordinates are stored interleaved as { x0, y0, x1, y1, ... } and grouped
+ * into primitives, each of which is either a polyline (including single line
+ * segments and isolated points) or a circle. A circle is stored as its center
+ * followed by a point on its circumference, so that it scales like any other
+ * pair of points.
+ * <p>
+ * The Distance Unit picked in the import dialog is the unit that the raw
+ * coordinates are taken to be in, and the header's $INSUNITS only supplies
+ * its default; the coordinates are scaled from the picked unit to the
+ * application's working unit, which is meters.
+ * <p>
+ * The raw extents are tracked as the geometry is added, which makes rescaling
+ * the Drawing Limits a constant-time operation; rescaling the geometry itself
+ * is a single pass over the coordinate array, and is only done when the scaled
+ * coordinates are requested after the scale has changed.
+ * <p>
+ * NOTE: This class is not thread-safe. It is normally filled on a background
+ *  thread and then handed over to the JavaFX Application Thread.
+ */
+public final class ImportedGeometryBuffer implements DxfExtentsScanner.GeometrySink {
+
+    public static final byte PRIMITIVE_POLYLINE = 0;
+    public static final byte PRIMITIVE_CIRCLE   = 1;
+
+    // The $INSUNITS code of the application's working unit.
+    public static final int  WORKING_INS_UNITS  = DxfInsUnits.METERS;
+
+    private static final int INITIAL_NUMBER_OF_POINTS     = 1024;
+    private static final int INITIAL_NUMBER_OF_PRIMITIVES = 256;
+
+    // Interleaved coordinates, in the drawing's own units.
+    private double[] coordinates;
+    private int      numberOfPoints;
+
+    // Index of the first point of each primitive, and its kind.
+    private int[]    primitiveStarts;
+    private byte[]   primitiveKinds;
+    private int      numberOfPrimitives;
+
+    // Extents of the raw coordinates.
+    private double   minX;
+    private double   minY;
+    private double   maxX;
+    private double   maxY;
+
+    // The $INSUNITS code from the file's header, and the one picked for the
+    // raw coordinates, which defaults to it.
+    private int      headerInsUnits;
+    private int      sourceInsUnits;
+
+    // Current scale factor, and the cached coordinates scaled by it.
+    private double   scale;
+    private double[] scaledCoordinates;
+    private boolean  scaledCoordinatesValid;
+
+    /**
+     * Default constructor.
+     */
+    public ImportedGeometryBuffer() {
+        coordinates = new double[ 2 * INITIAL_NUMBER_OF_POINTS ];
+        primitiveStarts = new int[ INITIAL_NUMBER_OF_PRIMITIVES ];
+        primitiveKinds = new byte[ INITIAL_NUMBER_OF_PRIMITIVES ];
+
+        clear();
+    }
+
+    /**
+     * Removes all geometry, keeping the allocated capacity for reuse, and
+     * resets the units and scale factor.
+     */
+    public void clear() {
+        numberOfPoints = 0;
+        numberOfPrimitives = 0;
+
+        minX = Double.POSITIVE_INFINITY;
+        minY = Double.POSITIVE_INFINITY;
+        maxX = Double.NEGATIVE_INFINITY;
+        maxY = Double.NEGATIVE_INFINITY;
+
+        headerInsUnits = DxfExtentsScanner.INSUNITS_UNSPECIFIED;
+        sourceInsUnits = DxfExtentsScanner.INSUNITS_UNSPECIFIED;
+
+        scale = 1.0d;
+        scaledCoordinates = null;
+        scaledCoordinatesValid = false;
+    }
+
+    /**
+     * Removes all geometry and releases the allocated capacity, for when the
+     * buffer is no longer needed but is still referenced.
+     */
+    public void release() {
+        coordinates = new double[ 0 ];
+        primitiveStarts = new int[ 0 ];
+        primitiveKinds = new byte[ 0 ];
+
+        clear();
+    }
+
+    @Override
+    public void beginPrimitive() {
+        beginPrimitive( PRIMITIVE_POLYLINE );
+    }
+
+    @Override
+    public void addPoint( final double x, final double y ) {
+        if ( numberOfPrimitives == 0 ) {
+            beginPrimitive( PRIMITIVE_POLYLINE );
+        }
+        appendPoint( x, y );
+        includePoint( x, y );
+    }
+
+    @Override
+    public void addCircle( final double centerX, final double centerY, final double radius ) {
+        beginPrimitive( PRIMITIVE_CIRCLE );
+        appendPoint( centerX, centerY );
+        appendPoint( centerX + radius, centerY );
+        includePoint( centerX - radius, centerY - radius );
+        includePoint( centerX + radius, centerY + radius );
+
+        // Nothing else can be added to a circle.
+        beginPrimitive( PRIMITIVE_POLYLINE );
+    }
+
+    private void beginPrimitive( final byte kind ) {
+        // Reuse the current primitive if nothing has been added to it yet.
+        if ( ( numberOfPrimitives > 0 )
+                && ( primitiveStarts[ numberOfPrimitives - 1 ] == numberOfPoints ) ) {
+            primitiveKinds[ numberOfPrimitives - 1 ] = kind;
+            return;
+        }
+
+        if ( numberOfPrimitives == primitiveStarts.length ) {
+            final int capacity = Math.max( INITIAL_NUMBER_OF_PRIMITIVES,
+                                           2 * primitiveStarts.length );
+            primitiveStarts = Arrays.copyOf( primitiveStarts, capacity );
+            primitiveKinds = Arrays.copyOf( primitiveKinds, capacity );
+        }
+        primitiveStarts[ numberOfPrimitives ] = numberOfPoints;
+        primitiveKinds[ numberOfPrimitives ] = kind;
+        numberOfPrimitives++;
+    }
+
+    private void appendPoint( final double x, final double y ) {
+        final int index = 2 * numberOfPoints;
+        if ( index == coordinates.length ) {
+            coordinates = Arrays.copyOf( coordinates,
+                                         Math.max( 2 * INITIAL_NUMBER_OF_POINTS,
+                                                   2 * coordinates.length ) );
+        }
+        coordinates[ index ] = x;
+        coordinates[ index + 1 ] = y;
+        numberOfPoints++;
+
+        scaledCoordinatesValid = false;
+    }
+
+    private void includePoint( final double x, final double y ) {
+        if ( x < minX ) {
+            minX = x;
+        }
+        if ( x > maxX ) {
+            maxX = x;
+        }
+        if ( y < minY ) {
+            minY = y;
+        }
+        if ( y > maxY ) {
+            maxY = y;
+        }
+    }
+
+    public int getNumberOfPoints() {
+        return numberOfPoints;
+    }
+
+    /**
+     * Returns the number of primitives that contain at least one point.
+     *
+     * @return The number of non-empty primitives
+     */
+    public int getNumberOfPrimitives() {
+        return ( ( numberOfPrimitives > 0 )
+                && ( primitiveStarts[ numberOfPrimitives - 1 ] == numberOfPoints ) )
+            ? numberOfPrimitives - 1
+            : numberOfPrimitives;
+    }
+
+    public byte getPrimitiveKind( final int primitiveIndex ) {
+        return primitiveKinds[ primitiveIndex ];
+    }
+
+    /**
+     * Returns the index of the first point of a primitive.
+     *
+     * @param primitiveIndex
+     *            The index of the primitive
+     * @return The index of its first point
+     */
+    public int getPrimitiveStart( final int primitiveIndex ) {
+        return primitiveStarts[ primitiveIndex ];
+    }
+
+    /**
+     * Returns the number of points in a primitive.
+     *
+     * @param primitiveIndex
+     *            The index of the primitive
+     * @return The number of points in the primitive
+     */
+    public int getPrimitiveLength( final int primitiveIndex ) {
+        final int end = ( primitiveIndex + 1 < numberOfPrimitives )
+            ? primitiveStarts[ primitiveIndex + 1 ]
+            : numberOfPoints;
+        return end - primitiveStarts[ primitiveIndex ];
+    }
+
+    public boolean isEmpty() {
+        return numberOfPoints == 0;
+    }
+
+    public int getHeaderInsUnits() {
+        return headerInsUnits;
+    }
+
+    /**
+     * Sets the $INSUNITS code found in the header of the imported file, which
+     * also becomes the picked unit of the raw coordinates until another one
+     * is picked.
+     *
+     * @param pHeaderInsUnits
+     *            The $INSUNITS code from the header
+     */
+    public void setHeaderInsUnits( final int pHeaderInsUnits ) {
+        headerInsUnits = pHeaderInsUnits;
+        setSourceInsUnits( pHeaderInsUnits );
+    }
+
+    public int getSourceInsUnits() {
+        return sourceInsUnits;
+    }
+
+    /**
+     * Sets the $INSUNITS code that the raw coordinates are taken to be in, as
+     * picked in the import dialog, and scales them from that unit to the
+     * working unit.
+     * <p>
+     * NOTE: Unitless and unknown codes leave the coordinates unscaled.
+     *
+     * @param pSourceInsUnits
+     *            The $INSUNITS code of the picked Distance Unit
+     */
+    public void setSourceInsUnits( final int pSourceInsUnits ) {
+        sourceInsUnits = pSourceInsUnits;
+        setScale( DxfInsUnits.getScaleFactor( sourceInsUnits, WORKING_INS_UNITS ) );
+    }
+
+    /**
+     * Sets the $INSUNITS code that the raw coordinates are taken to be in, as
+     * picked in the import dialog, and re-syncs the Drawing Limits to the
+     * rescaled extents.
+     *
+     * @param pSourceInsUnits
+     *            The $INSUNITS code of the picked Distance Unit
+     * @param drawingLimits
+     *            The Drawing Limits to update
+     */
+    public void setSourceInsUnits( final int pSourceInsUnits,
+                                   final DrawingLimitsProperties drawingLimits ) {
+        setSourceInsUnits( pSourceInsUnits );
+        syncDrawingLimits( drawingLimits );
+    }
+
+    public double getScale() {
+        return scale;
+    }
+
+    /**
+     * Sets the factor applied to the raw coordinates. This is constant-time,
+     * as the scaled coordinates are only recomputed on demand.
+     *
+     * @param pScale
+     *            The strictly positive scale factor
+     */
+    public void setScale( final double pScale ) {
+        if ( !( pScale > 0.0d ) || Double.isInfinite( pScale ) ) {
+            throw new IllegalArgumentException( "Scale must be positive and finite: " //$NON-NLS-1$
+                    + pScale );
+        }
+        if ( pScale != scale ) {
+            scale = pScale;
+            scaledCoordinatesValid = false;
+        }
+    }
+
+    /**
+     * Returns the extents of the geometry at the current scale.
+     *
+     * @return The scaled extents, or {@code null} if the buffer is empty
+     */
+    public Extents2D getScaledExtents() {
+        if ( minX > maxX ) {
+            return null;
+        }
+        return Extents2D.fromCorners( minX * scale, minY * scale, maxX * scale, maxY * scale );
+    }
+
+    /**
+     * Sets the Drawing Limits to the extents of the geometry at the current
+     * scale, if they are in auto-sync mode. This is constant-time, regardless
+     * of the amount of geometry.
+     *
+     * @param drawingLimits
+     *            The Drawing Limits to update
+     */
+    public void syncDrawingLimits( final DrawingLimitsProperties drawingLimits ) {
+        if ( !drawingLimits.isAutoSync() || ( minX > maxX ) ) {
+            return;
+        }
+        drawingLimits.setExtents( minX * scale,
+                                  minY * scale,
+                                  ( maxX - minX ) * scale,
+                                  ( maxY - minY ) * scale );
+    }
+
+    /**
+     * Returns the interleaved coordinates at the current scale, rescaling them
+     * in a single pass only if the scale or geometry has changed since the
+     * last call.
+     * <p>
+     * NOTE: The returned array is owned by this buffer and may be longer than
+     *  twice the number of points; it must not be modified.
+     *
+     * @return The interleaved scaled coordinates
+     */
+    public double[] getScaledCoordinates() {
+        if ( !scaledCoordinatesValid ) {
+            final int length = 2 * numberOfPoints;
+            if ( ( scaledCoordinates == null ) || ( scaledCoordinates.length < length ) ) {
+                scaledCoordinates = new double[ coordinates.length ];
+            }
+
+            // A plain counted loop, which the JIT compiles to vector code.
+            final double[] source = coordinates;
+            final double[] target = scaledCoordinates;
+            final double factor = scale;
+            for ( int i = 0; i < length; i++ ) {
+                target[ i ] = source[ i ] * factor;
+            }
+            scaledCoordinatesValid = true;
+        }
+        return scaledCoordinates;
+    }
+
+    /**
+     * Returns the interleaved raw coordinates, in the source units.
+     * <p>
+     * NOTE: The returned array is owned by this buffer and may be longer than
+     *  twice the number of points; it must not be modified.
+     *
+     * @return The interleaved raw coordinates
+     */
+    public double[] getRawCoordinates() {
+        return coordinates;
+    }
+}
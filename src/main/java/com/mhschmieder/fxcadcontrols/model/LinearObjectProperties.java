@@ -33,92 +33,195 @@ package com.mhschmieder.fxcadcontrols.model;
 import com.mhschmieder.fxgraphics.LabelAssignable;
 import com.mhschmieder.fxcontrols.model.LayerNameAssignable;
 import com.mhschmieder.jcommons.lang.NumberUtilities;
+import javafx.beans.binding.Bindings;
 import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
-
-// TODO: Research why Number of Projections Zones is modeled as a String.
+import javafx.util.StringConverter;
+
+/**
+ * This is a properties class for Linear Objects, such as polylines that may
+ * optionally be used as projectors with a number of projection zones.
+ * <p>
+ * The Number of Projection Zones is stored as a primitive integer, so that
+ * readers never parse and writers never allocate. Controls that edit it as
+ * text can bind to the lazily created {@link #numberOfProjectionZonesTextProperty()}.
+ * <p>
+ * Each value is held in a plain field until its property is first requested,
+ * as most Linear Objects from a bulk import are never bound to a control.
+ */
 public class LinearObjectProperties implements LabelAssignable, LayerNameAssignable {
 
-    private final StringProperty  label;
-    private final StringProperty  layerName;
-    private final BooleanProperty useAsProjector;
-    private final StringProperty  numberOfProjectionZones;
+    /**
+     * Converter between the integer Number of Projection Zones and its
+     * formatted text, shared by all instances as it is stateless.
+     */
+    private static final StringConverter< Number > PROJECTION_ZONES_CONVERTER
+            = new StringConverter< Number >() {
+                @Override
+                public String toString( final Number numberOfProjectionZones ) {
+                    return ( numberOfProjectionZones != null )
+                        ? Integer.toString( numberOfProjectionZones.intValue() )
+                        : ""; //$NON-NLS-1$
+                }
+
+                @Override
+                public Number fromString( final String numberOfProjectionZones ) {
+                    return NumberUtilities.parseInteger( numberOfProjectionZones );
+                }
+            };
+
+    private String                _label;
+    private String                _layerName;
+    private boolean               _useAsProjector;
+    private int                   _numberOfProjectionZones;
+
+    // NOTE: These are only created on demand, and take over from the plain
+    //  fields above once they exist.
+    private StringProperty        label;
+    private StringProperty        layerName;
+    private BooleanProperty       useAsProjector;
+    private IntegerProperty       numberOfProjectionZones;
+
+    // Formatted text view of the Number of Projection Zones, for the UI.
+    private StringProperty        numberOfProjectionZonesText;
 
     public LinearObjectProperties( final String pLabel,
                                    final String pLayerName,
                                    final boolean pUseAsProjector,
                                    final int pNumberOfProjectionZones ) {
-        this( pLabel, pLayerName, pUseAsProjector, Integer.toString( pNumberOfProjectionZones ) );
+        _label = pLabel;
+        _layerName = pLayerName;
+        _useAsProjector = pUseAsProjector;
+        _numberOfProjectionZones = pNumberOfProjectionZones;
     }
 
     public LinearObjectProperties( final String pLabel,
                                    final String pLayerName,
                                    final boolean pUseAsProjector,
                                    final String pNumberOfProjectionZones ) {
-        label = new SimpleStringProperty( pLabel );
-        layerName = new SimpleStringProperty( pLayerName );
-        useAsProjector = new SimpleBooleanProperty( pUseAsProjector );
-        numberOfProjectionZones = new SimpleStringProperty( pNumberOfProjectionZones );
+        this( pLabel,
+              pLayerName,
+              pUseAsProjector,
+              NumberUtilities.parseInteger( pNumberOfProjectionZones ) );
     }
 
     @Override
     public final StringProperty labelProperty() {
+        if ( label == null ) {
+            label = new SimpleStringProperty( this, "label", _label ); //$NON-NLS-1$
+        }
         return label;
     }
 
     @Override
     public final void setLabel( final String pLabel ) {
-        label.set( pLabel );
+        if ( label != null ) {
+            label.set( pLabel );
+        }
+        else {
+            _label = pLabel;
+        }
     }
 
     @Override
     public final String getLabel() {
-        return label.get();
+        return ( label != null ) ? label.get() : _label;
     }
 
     @Override
     public final StringProperty layerNameProperty() {
+        if ( layerName == null ) {
+            layerName = new SimpleStringProperty( this, "layerName", _layerName ); //$NON-NLS-1$
+        }
         return layerName;
     }
 
     @Override
     public final void setLayerName( final String pLayerName ) {
-        layerName.set( pLayerName );
+        if ( layerName != null ) {
+            layerName.set( pLayerName );
+        }
+        else {
+            _layerName = pLayerName;
+        }
     }
 
     @Override
     public final String getLayerName() {
-        return layerName.get();
+        return ( layerName != null ) ? layerName.get() : _layerName;
     }
 
     public final BooleanProperty useAsProjectorProperty() {
+        if ( useAsProjector == null ) {
+            useAsProjector = new SimpleBooleanProperty( this, "useAsProjector", _useAsProjector ); //$NON-NLS-1$
+        }
         return useAsProjector;
     }
 
     public final void setUseAsProjector( final boolean pUseAsProjector ) {
-        useAsProjector.set( pUseAsProjector );
+        if ( useAsProjector != null ) {
+            useAsProjector.set( pUseAsProjector );
+        }
+        else {
+            _useAsProjector = pUseAsProjector;
+        }
     }
 
     public final boolean isUseAsProjector() {
-        return useAsProjector.get();
+        return ( useAsProjector != null ) ? useAsProjector.get() : _useAsProjector;
     }
 
-    public final StringProperty numberOfProjectionZonesProperty() {
+    public final IntegerProperty numberOfProjectionZonesProperty() {
+        if ( numberOfProjectionZones == null ) {
+            numberOfProjectionZones = new SimpleIntegerProperty( this,
+                                                                 "numberOfProjectionZones", //$NON-NLS-1$
+                                                                 _numberOfProjectionZones );
+        }
         return numberOfProjectionZones;
     }
 
+    /**
+     * Returns a formatted text view of the Number of Projection Zones, which is
+     * bidirectionally bound to the integer value and is created on first use.
+     *
+     * @return The text property for the Number of Projection Zones
+     */
+    public final StringProperty numberOfProjectionZonesTextProperty() {
+        if ( numberOfProjectionZonesText == null ) {
+            numberOfProjectionZonesText = new SimpleStringProperty( this,
+                                                                    "numberOfProjectionZonesText" ); //$NON-NLS-1$
+            Bindings.bindBidirectional( numberOfProjectionZonesText,
+                                        numberOfProjectionZonesProperty(),
+                                        PROJECTION_ZONES_CONVERTER );
+        }
+        return numberOfProjectionZonesText;
+    }
+
     public final void setNumberOfProjectionZones( final String pNumberOfProjectionZones ) {
-        numberOfProjectionZones.set( pNumberOfProjectionZones );
+        setNumberOfProjectionZones( NumberUtilities.parseInteger( pNumberOfProjectionZones ) );
     }
 
     public final void setNumberOfProjectionZones( final int pNumberOfProjectionZones ) {
-        numberOfProjectionZones.set( Integer.toString( pNumberOfProjectionZones ) );
+        if ( numberOfProjectionZones != null ) {
+            numberOfProjectionZones.set( pNumberOfProjectionZones );
+        }
+        else {
+            _numberOfProjectionZones = pNumberOfProjectionZones;
+        }
     }
 
     public final int getNumberOfProjectionZones() {
-        return NumberUtilities.parseInteger( numberOfProjectionZones.get() );
+        return ( numberOfProjectionZones != null )
+            ? numberOfProjectionZones.get()
+            : _numberOfProjectionZones;
+    }
+
+    public final String getNumberOfProjectionZonesText() {
+        return Integer.toString( getNumberOfProjectionZones() );
     }
 
 }
@@ -0,0 +1,390 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxCadControls Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxCadControls Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxcadcontrols
+ */
+package com.mhschmieder.fxcadcontrols.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The <code>LinearObjectPropertiesStore</code> class is a compact,
+ * struct-of-arrays container for the properties of large numbers of Linear
+ * Objects, such as the polylines from an imported DXF file.
+ * <p>
+ * Rather than holding a {@link LinearObjectProperties} with four JavaFX
+ * properties per Linear Object, each field is held in a column: labels as a
+ * string array, layer names as ids into an interning table, projector status
+ * as a bit set, and the Number of Projection Zones as an integer array. Full
+ * {@link LinearObjectProperties} views are only handed out for the rows being
+ * edited, via {@link #edit(int)}, so their properties grow with the edit set
+ * rather than with the size of the drawing.
+ * <p>
+ * NOTE: Only layer names are interned, as a drawing has few layers, whereas
+ *  labels are mostly unique per row. Interned layer names are never evicted,
+ *  as layers are rarely renamed; call {@link #clear()} to release them when
+ *  the drawing is discarded.
+ */
+public final class LinearObjectPropertiesStore {
+
+    /** Default initial number of rows to allocate space for. */
+    public static final int                         INITIAL_CAPACITY_DEFAULT = 64;
+
+    private final StringTable                       layerNames;
+
+    private String[]                                labels;
+    private int[]                                   layerNameIds;
+    private final BitSet                            projectors;
+    private int[]                                   numberOfProjectionZones;
+    private int                                     size;
+
+    // The open editing views, indexed by row, which is only allocated once a
+    // row is first edited, along with the number of views that are open.
+    private LinearObjectProperties[]                openViews;
+    private int                                     numberOfOpenViews;
+
+    /**
+     * Default constructor.
+     */
+    public LinearObjectPropertiesStore() {
+        this( INITIAL_CAPACITY_DEFAULT );
+    }
+
+    /**
+     * Constructor for when the approximate number of rows is known, such as
+     * from the entity count of an import.
+     *
+     * @param pInitialCapacity
+     *            The initial number of rows to allocate space for
+     */
+    public LinearObjectPropertiesStore( final int pInitialCapacity ) {
+        final int capacity = Math.max( 1, pInitialCapacity );
+
+        layerNames = new StringTable();
+
+        labels = new String[ capacity ];
+        layerNameIds = new int[ capacity ];
+        projectors = new BitSet( capacity );
+        numberOfProjectionZones = new int[ capacity ];
+        size = 0;
+
+        openViews = null;
+        numberOfOpenViews = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Appends a row to the store.
+     *
+     * @param pLabel
+     *            The label of the Linear Object
+     * @param pLayerName
+     *            The name of the layer the Linear Object is on
+     * @param pUseAsProjector
+     *            {@code true} if the Linear Object is used as a projector
+     * @param pNumberOfProjectionZones
+     *            The Number of Projection Zones for the Linear Object
+     * @return The index of the new row
+     */
+    public int add( final String pLabel,
+                    final String pLayerName,
+                    final boolean pUseAsProjector,
+                    final int pNumberOfProjectionZones ) {
+        ensureCapacity( size + 1 );
+
+        final int row = size++;
+        labels[ row ] = pLabel;
+        layerNameIds[ row ] = layerNames.intern( pLayerName );
+        projectors.set( row, pUseAsProjector );
+        numberOfProjectionZones[ row ] = pNumberOfProjectionZones;
+
+        return row;
+    }
+
+    public int add( final LinearObjectProperties pLinearObjectProperties ) {
+        return add( pLinearObjectProperties.getLabel(),
+                    pLinearObjectProperties.getLayerName(),
+                    pLinearObjectProperties.isUseAsProjector(),
+                    pLinearObjectProperties.getNumberOfProjectionZones() );
+    }
+
+    /**
+     * Removes all rows, open views and interned strings.
+     */
+    public void clear() {
+        Arrays.fill( labels, 0, size, null );
+        layerNames.clear();
+        projectors.clear();
+        size = 0;
+
+        openViews = null;
+        numberOfOpenViews = 0;
+    }
+
+    public String getLabel( final int pRow ) {
+        checkRow( pRow );
+        final LinearObjectProperties view = getOpenView( pRow );
+        return ( view != null ) ? view.getLabel() : labels[ pRow ];
+    }
+
+    public void setLabel( final int pRow, final String pLabel ) {
+        checkRow( pRow );
+        labels[ pRow ] = pLabel;
+        final LinearObjectProperties view = getOpenView( pRow );
+        if ( view != null ) {
+            view.setLabel( pLabel );
+        }
+    }
+
+    public String getLayerName( final int pRow ) {
+        checkRow( pRow );
+        final LinearObjectProperties view = getOpenView( pRow );
+        return ( view != null ) ? view.getLayerName() : layerNames.get( layerNameIds[ pRow ] );
+    }
+
+    public void setLayerName( final int pRow, final String pLayerName ) {
+        checkRow( pRow );
+        layerNameIds[ pRow ] = layerNames.intern( pLayerName );
+        final LinearObjectProperties view = getOpenView( pRow );
+        if ( view != null ) {
+            view.setLayerName( pLayerName );
+        }
+    }
+
+    public boolean isUseAsProjector( final int pRow ) {
+        checkRow( pRow );
+        final LinearObjectProperties view = getOpenView( pRow );
+        return ( view != null ) ? view.isUseAsProjector() : projectors.get( pRow );
+    }
+
+    public void setUseAsProjector( final int pRow, final boolean pUseAsProjector ) {
+        checkRow( pRow );
+        projectors.set( pRow, pUseAsProjector );
+        final LinearObjectProperties view = getOpenView( pRow );
+        if ( view != null ) {
+            view.setUseAsProjector( pUseAsProjector );
+        }
+    }
+
+    public int getNumberOfProjectionZones( final int pRow ) {
+        checkRow( pRow );
+        final LinearObjectProperties view = getOpenView( pRow );
+        return ( view != null )
+            ? view.getNumberOfProjectionZones()
+            : numberOfProjectionZones[ pRow ];
+    }
+
+    public void setNumberOfProjectionZones( final int pRow, final int pNumberOfProjectionZones ) {
+        checkRow( pRow );
+        numberOfProjectionZones[ pRow ] = pNumberOfProjectionZones;
+        final LinearObjectProperties view = getOpenView( pRow );
+        if ( view != null ) {
+            view.setNumberOfProjectionZones( pNumberOfProjectionZones );
+        }
+    }
+
+    /**
+     * Returns the number of projector rows, such as for sizing layout buffers.
+     *
+     * @return The number of rows that are used as projectors
+     */
+    public int getNumberOfProjectors() {
+        // Pending edits in open views are not yet in the bit set.
+        if ( numberOfOpenViews == 0 ) {
+            return projectors.cardinality();
+        }
+
+        int numberOfProjectors = 0;
+        for ( int row = 0; row < size; row++ ) {
+            if ( isUseAsProjector( row ) ) {
+                numberOfProjectors++;
+            }
+        }
+        return numberOfProjectors;
+    }
+
+    /**
+     * Returns an editable {@link LinearObjectProperties} view of a row, which
+     * can be bound to controls. The same view is returned until the row is
+     * released, and edits made through it are written back to the store on
+     * {@link #commit(int)} or {@link #release(int)}.
+     *
+     * @param pRow
+     *            The index of the row to edit
+     * @return The editing view for the row
+     */
+    public LinearObjectProperties edit( final int pRow ) {
+        checkRow( pRow );
+
+        if ( openViews == null ) {
+            openViews = new LinearObjectProperties[ labels.length ];
+        }
+
+        LinearObjectProperties view = openViews[ pRow ];
+        if ( view == null ) {
+            view = new LinearObjectProperties( labels[ pRow ],
+                                               layerNames.get( layerNameIds[ pRow ] ),
+                                               projectors.get( pRow ),
+                                               numberOfProjectionZones[ pRow ] );
+            openViews[ pRow ] = view;
+            numberOfOpenViews++;
+        }
+
+        return view;
+    }
+
+    public boolean isEditing( final int pRow ) {
+        return ( pRow >= 0 ) && ( pRow < size ) && ( getOpenView( pRow ) != null );
+    }
+
+    public int getNumberOfOpenViews() {
+        return numberOfOpenViews;
+    }
+
+    /**
+     * Writes the current values of a row's editing view back to the store,
+     * keeping the view open.
+     *
+     * @param pRow
+     *            The index of the row to commit
+     */
+    public void commit( final int pRow ) {
+        if ( !isEditing( pRow ) ) {
+            return;
+        }
+
+        final LinearObjectProperties view = openViews[ pRow ];
+        labels[ pRow ] = view.getLabel();
+        layerNameIds[ pRow ] = layerNames.intern( view.getLayerName() );
+        projectors.set( pRow, view.isUseAsProjector() );
+        numberOfProjectionZones[ pRow ] = view.getNumberOfProjectionZones();
+    }
+
+    /**
+     * Commits a row's editing view and then discards it, so that the row is
+     * once again held only in compact form.
+     *
+     * @param pRow
+     *            The index of the row to release
+     */
+    public void release( final int pRow ) {
+        if ( !isEditing( pRow ) ) {
+            return;
+        }
+
+        commit( pRow );
+
+        openViews[ pRow ] = null;
+        numberOfOpenViews--;
+    }
+
+    /**
+     * Commits and discards all open editing views.
+     */
+    public void releaseAll() {
+        if ( numberOfOpenViews > 0 ) {
+            for ( int row = 0; row < size; row++ ) {
+                commit( row );
+            }
+        }
+
+        openViews = null;
+        numberOfOpenViews = 0;
+    }
+
+    private LinearObjectProperties getOpenView( final int pRow ) {
+        return ( openViews != null ) ? openViews[ pRow ] : null;
+    }
+
+    private void checkRow( final int pRow ) {
+        if ( ( pRow < 0 ) || ( pRow >= size ) ) {
+            throw new IndexOutOfBoundsException( "Row: " + pRow + ", Size: " + size ); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+    }
+
+    private void ensureCapacity( final int pMinimumCapacity ) {
+        if ( pMinimumCapacity <= labels.length ) {
+            return;
+        }
+
+        final int capacity = Math.max( pMinimumCapacity, labels.length + ( labels.length >> 1 ) );
+        labels = Arrays.copyOf( labels, capacity );
+        layerNameIds = Arrays.copyOf( layerNameIds, capacity );
+        numberOfProjectionZones = Arrays.copyOf( numberOfProjectionZones, capacity );
+        if ( openViews != null ) {
+            openViews = Arrays.copyOf( openViews, capacity );
+        }
+    }
+
+    /**
+     * A table of interned strings, each of which is assigned a dense id.
+     */
+    private static final class StringTable {
+
+        private final List< String >          strings;
+        private final Map< String, Integer >  ids;
+
+        StringTable() {
+            strings = new ArrayList<>();
+            ids = new HashMap<>();
+        }
+
+        int intern( final String pString ) {
+            final Integer existingId = ids.get( pString );
+            if ( existingId != null ) {
+                return existingId;
+            }
+
+            final int newId = strings.size();
+            strings.add( pString );
+            ids.put( pString, newId );
+            return newId;
+        }
+
+        String get( final int pId ) {
+            return strings.get( pId );
+        }
+
+        void clear() {
+            strings.clear();
+            ids.clear();
+        }
+    }
+}
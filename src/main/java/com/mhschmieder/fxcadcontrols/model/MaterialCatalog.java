@@ -0,0 +1,754 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxCadControls Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxCadControls Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxcadcontrols
+ */
+package com.mhschmieder.fxcadcontrols.model;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A Material Catalog is an immutable, searchable collection of
+ * {@link CatalogMaterial} entries, such as an absorption coefficient catalog
+ * with thousands of materials.
+ * <p>
+ * The materials are held sorted by case-folded name, so that prefix matches
+ * are a binary search away, and a trigram index maps every three-character
+ * sequence of the folded names to the sorted positions that contain it, so
+ * that substring matches only verify a small candidate set. Searches are
+ * incremental (see {@link Search}), so that a control can spend a fixed time
+ * budget per frame rather than blocking the JavaFX Application Thread.
+ * <p>
+ * Catalogs are parsed once from CSV, and then written to a compact binary
+ * cache of the sorted materials and their index, which later loads read back
+ * without sorting or indexing again (see {@link #load(Path, Path)}).
+ */
+public final class MaterialCatalog {
+
+    // Binary cache identification, to detect stale or foreign files.
+    private static final int   CACHE_MAGIC   = 0x4D415443; // "MATC"
+    private static final int   CACHE_VERSION = 2;
+
+    // Number of characters per n-gram in the substring index.
+    private static final int   NGRAM_LENGTH  = 3;
+
+    private static final int[] NO_POSTINGS   = new int[ 0 ];
+
+    // The materials, sorted by folded name, and their folded names.
+    private final CatalogMaterial[]  materials;
+    private final String[]           foldedNames;
+    private final int                numberOfOctaveBands;
+
+    // Sorted positions of the materials containing each trigram.
+    private final Map< Long, int[] > trigramPostings;
+
+    /**
+     * Constructs a catalog from the supplied materials, which must all have
+     * the same number of octave bands.
+     *
+     * @param pMaterials
+     *            The materials to catalog, in any order
+     */
+    public MaterialCatalog( final Collection< CatalogMaterial > pMaterials ) {
+        // Fold each name once, and sort the materials by their folded names.
+        final CatalogMaterial[] unsortedMaterials = pMaterials
+                .toArray( new CatalogMaterial[ pMaterials.size() ] );
+        final String[] unsortedFoldedNames = new String[ unsortedMaterials.length ];
+        final Integer[] order = new Integer[ unsortedMaterials.length ];
+        for ( int i = 0; i < unsortedMaterials.length; i++ ) {
+            unsortedFoldedNames[ i ] = foldName( unsortedMaterials[ i ].getName() );
+            order[ i ] = i;
+        }
+        Arrays.sort( order, Comparator.comparing( i -> unsortedFoldedNames[ i ] ) );
+
+        materials = new CatalogMaterial[ unsortedMaterials.length ];
+        foldedNames = new String[ unsortedMaterials.length ];
+        for ( int i = 0; i < order.length; i++ ) {
+            materials[ i ] = unsortedMaterials[ order[ i ] ];
+            foldedNames[ i ] = unsortedFoldedNames[ order[ i ] ];
+        }
+
+        numberOfOctaveBands = ( materials.length > 0 )
+            ? materials[ 0 ].getNumberOfOctaveBands()
+            : CatalogMaterial.OCTAVE_BAND_CENTER_FREQUENCIES_DEFAULT.length;
+        for ( final CatalogMaterial material : materials ) {
+            if ( material.getNumberOfOctaveBands() != numberOfOctaveBands ) {
+                throw new IllegalArgumentException( "Inconsistent number of octave bands for " //$NON-NLS-1$
+                        + material.getName() );
+            }
+        }
+
+        trigramPostings = makeTrigramPostings( foldedNames );
+    }
+
+    /*
+     * Constructs a catalog from materials that are already sorted by their
+     * folded names, along with their trigram postings, such as from a cache.
+     */
+    private MaterialCatalog( final CatalogMaterial[] pMaterials,
+                             final String[] pFoldedNames,
+                             final int pNumberOfOctaveBands,
+                             final Map< Long, int[] > pTrigramPostings ) {
+        materials = pMaterials;
+        foldedNames = pFoldedNames;
+        numberOfOctaveBands = pNumberOfOctaveBands;
+        trigramPostings = pTrigramPostings;
+    }
+
+    public int size() {
+        return materials.length;
+    }
+
+    public boolean isEmpty() {
+        return materials.length == 0;
+    }
+
+    public int getNumberOfOctaveBands() {
+        return numberOfOctaveBands;
+    }
+
+    public CatalogMaterial get( final int index ) {
+        return materials[ index ];
+    }
+
+    public List< CatalogMaterial > getMaterials() {
+        return Collections.unmodifiableList( Arrays.asList( materials ) );
+    }
+
+    /**
+     * Returns the material with exactly the supplied name, ignoring case.
+     *
+     * @param name
+     *            The Material Name to look up
+     * @return The matching material, or {@code null} if there is none
+     */
+    public CatalogMaterial getMaterial( final String name ) {
+        final String foldedName = foldName( name );
+        final int index = Arrays.binarySearch( foldedNames, foldedName );
+        return ( index >= 0 ) ? materials[ index ] : null;
+    }
+
+    /**
+     * Starts an incremental search for materials whose names contain the
+     * query, ignoring case. Prefix matches are returned first, followed by
+     * other substring matches, each in name order.
+     *
+     * @param query
+     *            The text to search for; blank matches every material
+     * @return A new search, which must be advanced to collect matches
+     */
+    public Search newSearch( final String query ) {
+        return new Search( foldName( ( query != null ) ? query.trim() : "" ) ); //$NON-NLS-1$
+    }
+
+    /**
+     * Runs a search to completion, or until the supplied number of matches is
+     * found.
+     *
+     * @param query
+     *            The text to search for
+     * @param maximumNumberOfMatches
+     *            The maximum number of matches to return
+     * @return The matching materials
+     */
+    public List< CatalogMaterial > search( final String query,
+                                           final int maximumNumberOfMatches ) {
+        final Search search = newSearch( query );
+        search.advance( Long.MAX_VALUE, maximumNumberOfMatches );
+        return search.getMatches();
+    }
+
+    /**
+     * Loads a catalog, preferring the binary cache when it is newer than the
+     * CSV source, and otherwise parsing the CSV and rewriting the cache.
+     * <p>
+     * NOTE: An unusable cache is not fatal, as the CSV source is parsed
+     *  instead; its failure is only reported, as a suppressed exception, if
+     *  the CSV source cannot be read either. Failure to write the cache is not
+     *  fatal either, as the parsed catalog is still valid; the partial cache
+     *  is removed, and the next load simply parses the CSV again.
+     *
+     * @param csvPath
+     *            The path to the CSV source of the catalog
+     * @param cachePath
+     *            The path to the binary cache of the catalog
+     * @return The loaded catalog
+     * @throws IOException
+     *             If neither the cache nor the CSV source could be read
+     */
+    public static MaterialCatalog load( final Path csvPath, final Path cachePath )
+            throws IOException {
+        IOException cacheException = null;
+        if ( Files.isRegularFile( cachePath ) && ( !Files.exists( csvPath )
+                || ( Files.getLastModifiedTime( cachePath )
+                        .compareTo( Files.getLastModifiedTime( csvPath ) ) >= 0 ) ) ) {
+            try {
+                return readCache( cachePath );
+            }
+            catch ( final IOException ioe ) {
+                // Fall through to the CSV source if the cache is unusable.
+                cacheException = ioe;
+            }
+        }
+
+        final MaterialCatalog catalog;
+        try ( final BufferedReader reader = Files.newBufferedReader( csvPath,
+                                                                     StandardCharsets.UTF_8 ) ) {
+            catalog = parseCsv( reader );
+        }
+        catch ( final IOException ioe ) {
+            if ( cacheException != null ) {
+                ioe.addSuppressed( cacheException );
+            }
+            throw ioe;
+        }
+
+        try {
+            catalog.writeCache( cachePath );
+        }
+        catch ( final IOException ioe ) {
+            // Do not leave a truncated cache behind for the next load.
+            try {
+                Files.deleteIfExists( cachePath );
+            }
+            catch ( final IOException ioe2 ) {
+                // The cache is validated when read, so this is harmless.
+            }
+        }
+
+        return catalog;
+    }
+
+    /**
+     * Parses a catalog from CSV, with one material per line: the name,
+     * optionally double-quoted, followed by one absorption coefficient per
+     * octave band. Blank lines and lines starting with '#' are skipped, as is
+     * a header line whose coefficient fields are not numeric.
+     *
+     * @param reader
+     *            The reader for the CSV source
+     * @return The parsed catalog
+     * @throws IOException
+     *             If the CSV source cannot be read or is malformed
+     */
+    public static MaterialCatalog parseCsv( final Reader reader ) throws IOException {
+        final BufferedReader bufferedReader = ( reader instanceof BufferedReader )
+            ? ( BufferedReader ) reader
+            : new BufferedReader( reader );
+
+        final List< CatalogMaterial > materials = new ArrayList<>();
+        final List< String > fields = new ArrayList<>();
+        int lineNumber = 0;
+        int numberOfOctaveBands = -1;
+        boolean firstRecord = true;
+
+        String line;
+        while ( ( line = bufferedReader.readLine() ) != null ) {
+            lineNumber++;
+            final String trimmedLine = line.trim();
+            if ( trimmedLine.isEmpty() || trimmedLine.startsWith( "#" ) ) { //$NON-NLS-1$
+                continue;
+            }
+
+            splitCsvLine( trimmedLine, fields );
+            if ( fields.size() < 2 ) {
+                throw new IOException( "Missing absorption coefficients at line " //$NON-NLS-1$
+                        + lineNumber );
+            }
+
+            final double[] absorptionCoefficients = new double[ fields.size() - 1 ];
+            try {
+                for ( int i = 1; i < fields.size(); i++ ) {
+                    absorptionCoefficients[ i - 1 ] = Double.parseDouble( fields.get( i ) );
+                }
+            }
+            catch ( final NumberFormatException nfe ) {
+                if ( firstRecord ) {
+                    // This is a header line.
+                    firstRecord = false;
+                    continue;
+                }
+                throw new IOException( "Malformed absorption coefficient at line " //$NON-NLS-1$
+                        + lineNumber, nfe );
+            }
+            firstRecord = false;
+
+            if ( numberOfOctaveBands < 0 ) {
+                numberOfOctaveBands = absorptionCoefficients.length;
+            }
+            else if ( absorptionCoefficients.length != numberOfOctaveBands ) {
+                throw new IOException( "Inconsistent number of octave bands at line " //$NON-NLS-1$
+                        + lineNumber );
+            }
+
+            materials.add( new CatalogMaterial( fields.get( 0 ), absorptionCoefficients ) );
+        }
+
+        return new MaterialCatalog( materials );
+    }
+
+    /**
+     * Reads a catalog from a binary cache, which holds the materials in sorted
+     * order along with their trigram postings, so that neither has to be
+     * rebuilt.
+     * <p>
+     * NOTE: The cache is read into a heap buffer rather than memory-mapped, as
+     *  it is read once and is small, and as a mapping would keep the file open
+     *  until garbage collection, which stops it from being rewritten or
+     *  deleted on some platforms.
+     *
+     * @param cachePath
+     *            The path to the binary cache
+     * @return The cached catalog
+     * @throws IOException
+     *             If the cache cannot be read or is not a valid cache
+     */
+    public static MaterialCatalog readCache( final Path cachePath ) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.wrap( Files.readAllBytes( cachePath ) );
+        try {
+            if ( ( buffer.remaining() < 16 ) || ( buffer.getInt() != CACHE_MAGIC )
+                    || ( buffer.getInt() != CACHE_VERSION ) ) {
+                throw new IOException( "Not a material catalog cache: " + cachePath ); //$NON-NLS-1$
+            }
+
+            final int numberOfOctaveBands = buffer.getInt();
+            final int numberOfMaterials = buffer.getInt();
+            if ( ( numberOfOctaveBands < 0 ) || ( numberOfMaterials < 0 )
+                    || ( numberOfMaterials > buffer.remaining() ) ) {
+                throw new IOException( "Corrupt material catalog cache: " + cachePath ); //$NON-NLS-1$
+            }
+
+            final CatalogMaterial[] materials = new CatalogMaterial[ numberOfMaterials ];
+            final String[] foldedNames = new String[ numberOfMaterials ];
+            final double[] absorptionCoefficients = new double[ numberOfOctaveBands ];
+            for ( int i = 0; i < numberOfMaterials; i++ ) {
+                final int nameLength = buffer.getInt();
+                if ( ( nameLength < 0 ) || ( nameLength > buffer.remaining() ) ) {
+                    throw new IOException( "Corrupt material catalog cache: " + cachePath ); //$NON-NLS-1$
+                }
+                final String name = new String( buffer.array(),
+                                                buffer.position(),
+                                                nameLength,
+                                                StandardCharsets.UTF_8 );
+                buffer.position( buffer.position() + nameLength );
+
+                for ( int band = 0; band < numberOfOctaveBands; band++ ) {
+                    absorptionCoefficients[ band ] = buffer.getDouble();
+                }
+
+                materials[ i ] = new CatalogMaterial( name, absorptionCoefficients );
+                foldedNames[ i ] = foldName( name );
+
+                // The prefix search relies on the sorted order, so a cache
+                // that is out of order is rejected rather than trusted.
+                if ( ( i > 0 ) && ( foldedNames[ i - 1 ].compareTo( foldedNames[ i ] ) > 0 ) ) {
+                    throw new IOException( "Corrupt material catalog cache: " + cachePath ); //$NON-NLS-1$
+                }
+            }
+
+            final int numberOfTrigrams = buffer.getInt();
+            if ( ( numberOfTrigrams < 0 ) || ( numberOfTrigrams > buffer.remaining() ) ) {
+                throw new IOException( "Corrupt material catalog cache: " + cachePath ); //$NON-NLS-1$
+            }
+            final Map< Long, int[] > trigramPostings = new HashMap<>( 2 * numberOfTrigrams );
+            for ( int trigram = 0; trigram < numberOfTrigrams; trigram++ ) {
+                final long key = buffer.getLong();
+                final int postingLength = buffer.getInt();
+                if ( ( postingLength < 0 ) || ( postingLength > ( buffer.remaining() >> 2 ) ) ) {
+                    throw new IOException( "Corrupt material catalog cache: " + cachePath ); //$NON-NLS-1$
+                }
+                final int[] posting = new int[ postingLength ];
+                for ( int i = 0; i < postingLength; i++ ) {
+                    posting[ i ] = buffer.getInt();
+                    if ( ( posting[ i ] < 0 ) || ( posting[ i ] >= numberOfMaterials ) ) {
+                        throw new IOException( "Corrupt material catalog cache: " + cachePath ); //$NON-NLS-1$
+                    }
+                }
+                trigramPostings.put( key, posting );
+            }
+
+            return new MaterialCatalog( materials,
+                                        foldedNames,
+                                        numberOfOctaveBands,
+                                        trigramPostings );
+        }
+        catch ( final BufferUnderflowException bue ) {
+            throw new IOException( "Truncated material catalog cache: " + cachePath, bue ); //$NON-NLS-1$
+        }
+    }
+
+    /**
+     * Writes this catalog to a binary cache, in sorted order and along with its
+     * trigram postings.
+     *
+     * @param cachePath
+     *            The path to the binary cache
+     * @throws IOException
+     *             If the cache cannot be written
+     */
+    public void writeCache( final Path cachePath ) throws IOException {
+        try ( final DataOutputStream outputStream = new DataOutputStream(
+                new BufferedOutputStream( Files.newOutputStream( cachePath ) ) ) ) {
+            outputStream.writeInt( CACHE_MAGIC );
+            outputStream.writeInt( CACHE_VERSION );
+            outputStream.writeInt( numberOfOctaveBands );
+            outputStream.writeInt( materials.length );
+
+            for ( final CatalogMaterial material : materials ) {
+                final byte[] nameBytes = material.getName().getBytes( StandardCharsets.UTF_8 );
+                outputStream.writeInt( nameBytes.length );
+                outputStream.write( nameBytes );
+
+                for ( int band = 0; band < numberOfOctaveBands; band++ ) {
+                    outputStream.writeDouble( material.getAbsorptionCoefficient( band ) );
+                }
+            }
+
+            outputStream.writeInt( trigramPostings.size() );
+            for ( final Map.Entry< Long, int[] > entry : trigramPostings.entrySet() ) {
+                final int[] posting = entry.getValue();
+                outputStream.writeLong( entry.getKey() );
+                outputStream.writeInt( posting.length );
+                for ( final int index : posting ) {
+                    outputStream.writeInt( index );
+                }
+            }
+        }
+    }
+
+    static String foldName( final String name ) {
+        return ( name != null ) ? name.toLowerCase( Locale.ROOT ) : ""; //$NON-NLS-1$
+    }
+
+    private static long trigramKey( final String text, final int offset ) {
+        return ( ( long ) text.charAt( offset ) << 32 )
+                | ( ( long ) text.charAt( offset + 1 ) << 16 )
+                | text.charAt( offset + 2 );
+    }
+
+    private static Map< Long, int[] > makeTrigramPostings( final String[] foldedNames ) {
+        // Accumulate growable posting lists, with the count in slot zero.
+        final Map< Long, int[] > postings = new HashMap<>();
+        for ( int index = 0; index < foldedNames.length; index++ ) {
+            final String foldedName = foldedNames[ index ];
+            for ( int offset = 0; offset + NGRAM_LENGTH <= foldedName.length(); offset++ ) {
+                final Long key = trigramKey( foldedName, offset );
+                int[] posting = postings.get( key );
+                if ( posting == null ) {
+                    posting = new int[ 4 ];
+                    postings.put( key, posting );
+                }
+
+                // Positions arrive in ascending order, so only the last one
+                // needs checking for repeats within the same name.
+                final int count = posting[ 0 ];
+                if ( ( count > 0 ) && ( posting[ count ] == index ) ) {
+                    continue;
+                }
+                if ( count + 1 == posting.length ) {
+                    posting = Arrays.copyOf( posting, posting.length * 2 );
+                    postings.put( key, posting );
+                }
+                posting[ count + 1 ] = index;
+                posting[ 0 ] = count + 1;
+            }
+        }
+
+        // Trim each posting list to its exact size.
+        for ( final Map.Entry< Long, int[] > entry : postings.entrySet() ) {
+            final int[] posting = entry.getValue();
+            entry.setValue( Arrays.copyOfRange( posting, 1, posting[ 0 ] + 1 ) );
+        }
+
+        return postings;
+    }
+
+    private static void splitCsvLine( final String line, final List< String > fields ) {
+        fields.clear();
+
+        final StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for ( int i = 0; i < line.length(); i++ ) {
+            final char c = line.charAt( i );
+            if ( quoted ) {
+                if ( c == '"' ) {
+                    if ( ( i + 1 < line.length() ) && ( line.charAt( i + 1 ) == '"' ) ) {
+                        field.append( '"' );
+                        i++;
+                    }
+                    else {
+                        quoted = false;
+                    }
+                }
+                else {
+                    field.append( c );
+                }
+            }
+            else if ( c == '"' ) {
+                quoted = true;
+            }
+            else if ( c == ',' ) {
+                fields.add( field.toString().trim() );
+                field.setLength( 0 );
+            }
+            else {
+                field.append( c );
+            }
+        }
+        fields.add( field.toString().trim() );
+    }
+
+    /*
+     * Returns the positions of the materials whose folded names contain every
+     * trigram of the folded query, which is a superset of the substring
+     * matches.
+     */
+    private int[] getSubstringCandidates( final String foldedQuery ) {
+        final List< int[] > postingLists = new ArrayList<>();
+        for ( int offset = 0; offset + NGRAM_LENGTH <= foldedQuery.length(); offset++ ) {
+            final int[] posting = trigramPostings.get( trigramKey( foldedQuery, offset ) );
+            if ( posting == null ) {
+                return NO_POSTINGS;
+            }
+            postingLists.add( posting );
+        }
+
+        // Intersect from the shortest list up, so the working set only shrinks.
+        postingLists.sort( Comparator.comparingInt( posting -> posting.length ) );
+        int[] candidates = postingLists.get( 0 );
+        for ( int i = 1; ( i < postingLists.size() ) && ( candidates.length > 0 ); i++ ) {
+            candidates = intersect( candidates, postingLists.get( i ) );
+        }
+        return candidates;
+    }
+
+    private static int[] intersect( final int[] first, final int[] second ) {
+        final int[] intersection = new int[ Math.min( first.length, second.length ) ];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while ( ( i < first.length ) && ( j < second.length ) ) {
+            if ( first[ i ] < second[ j ] ) {
+                i++;
+            }
+            else if ( first[ i ] > second[ j ] ) {
+                j++;
+            }
+            else {
+                intersection[ count++ ] = first[ i ];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf( intersection, count );
+    }
+
+    /**
+     * An incremental search over a {@link MaterialCatalog}, which collects
+     * prefix matches first and then other substring matches, and which can be
+     * advanced within a time budget so that large catalogs never stall the
+     * caller.
+     * <p>
+     * NOTE: Searches are not thread-safe, but each one is independent of any
+     *  other search of the same catalog.
+     */
+    public final class Search {
+
+        private final String                  foldedQuery;
+        private final List< CatalogMaterial > matches;
+
+        // The range of sorted positions that start with the query.
+        private final int                     prefixStart;
+        private final int                     prefixEnd;
+
+        // Substring candidates; null means every position is a candidate.
+        private int[]                         candidates;
+        private boolean                       candidatesReady;
+
+        // Cursor into the prefix range, and then into the candidates.
+        private int                           cursor;
+        private boolean                       prefixPhase;
+        private boolean                       done;
+
+        Search( final String pFoldedQuery ) {
+            foldedQuery = pFoldedQuery;
+            matches = new ArrayList<>();
+
+            prefixStart = lowerBound( foldedQuery );
+            prefixEnd = upperBound( foldedQuery, prefixStart );
+
+            candidates = null;
+            candidatesReady = false;
+            cursor = prefixStart;
+            prefixPhase = true;
+
+            // A blank query matches everything by prefix alone.
+            done = foldedQuery.isEmpty() && ( prefixStart == prefixEnd );
+        }
+
+        public String getQuery() {
+            return foldedQuery;
+        }
+
+        public boolean isDone() {
+            return done;
+        }
+
+        /**
+         * Returns the matches collected so far.
+         *
+         * @return An unmodifiable view of the matches collected so far
+         */
+        public List< CatalogMaterial > getMatches() {
+            return Collections.unmodifiableList( matches );
+        }
+
+        public int getNumberOfMatches() {
+            return matches.size();
+        }
+
+        /**
+         * Collects more matches, until the search is complete, the time budget
+         * is spent, or the maximum number of matches is reached.
+         *
+         * @param budgetNanos
+         *            The time budget for this step, in nanoseconds
+         * @param maximumNumberOfMatches
+         *            The total number of matches at which to stop
+         * @return {@code true} if the search is complete
+         */
+        public boolean advance( final long budgetNanos, final int maximumNumberOfMatches ) {
+            final long startNanos = System.nanoTime();
+            int steps = 0;
+
+            while ( !done ) {
+                if ( matches.size() >= maximumNumberOfMatches ) {
+                    done = true;
+                    break;
+                }
+
+                // Check the clock every so often, as it is not free either.
+                if ( ( ( ++steps & 0xFF ) == 0 )
+                        && ( ( System.nanoTime() - startNanos ) >= budgetNanos ) ) {
+                    break;
+                }
+
+                if ( prefixPhase ) {
+                    if ( cursor < prefixEnd ) {
+                        matches.add( materials[ cursor++ ] );
+                    }
+                    else {
+                        prefixPhase = false;
+                        cursor = 0;
+                        done = foldedQuery.isEmpty();
+                    }
+                    continue;
+                }
+
+                if ( !candidatesReady ) {
+                    candidates = ( foldedQuery.length() >= NGRAM_LENGTH )
+                        ? getSubstringCandidates( foldedQuery )
+                        : null;
+                    candidatesReady = true;
+                }
+
+                final int numberOfCandidates = ( candidates != null )
+                    ? candidates.length
+                    : foldedNames.length;
+                if ( cursor >= numberOfCandidates ) {
+                    done = true;
+                    break;
+                }
+
+                final int index = ( candidates != null ) ? candidates[ cursor ] : cursor;
+                cursor++;
+
+                // Prefix matches were already collected, and trigram
+                // candidates still need verifying.
+                if ( ( ( index < prefixStart ) || ( index >= prefixEnd ) )
+                        && foldedNames[ index ].contains( foldedQuery ) ) {
+                    matches.add( materials[ index ] );
+                }
+            }
+
+            return done;
+        }
+    }
+
+    private int lowerBound( final String foldedQuery ) {
+        int low = 0;
+        int high = foldedNames.length;
+        while ( low < high ) {
+            final int mid = ( low + high ) >>> 1;
+            if ( foldedNames[ mid ].compareTo( foldedQuery ) < 0 ) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /*
+     * Returns the first position at or after the start whose folded name does
+     * not start with the query; names that do are contiguous in sorted order.
+     */
+    private int upperBound( final String foldedQuery, final int start ) {
+        int low = start;
+        int high = foldedNames.length;
+        while ( low < high ) {
+            final int mid = ( low + high ) >>> 1;
+            if ( foldedNames[ mid ].startsWith( foldedQuery ) ) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxCadControls Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxCadControls Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxcadcontrols
+ */
+package com.mhschmieder.fxcadcontrols.model;
+
+import java.util.BitSet;
+import java.util.function.IntConsumer;
+
+/**
+ * The <code>Region2DChangeSet</code> class records which parts of a
+ * {@link Region2DProperties} changed since it was last drained: which boundary
+ * coordinates, and which fields of which surfaces. This lets downstream
+ * solvers recompute just the affected surfaces rather than the whole region.
+ * <p>
+ * Change sets are filled by {@link Region2DProperties#drainChanges()} or by
+ * {@link Region2DProperties#drainChanges(Region2DChangeSet)}; the latter
+ * reuses an existing change set to avoid allocation on every drain.
+ */
+public final class Region2DChangeSet {
+
+    /**
+     * The mutable fields of a surface, for which changes are tracked
+     * separately.
+     */
+    public enum SurfaceField {
+        NAME, BYPASSED, MATERIAL
+    }
+
+    // Bit flags for the boundary coordinates that changed, which match the
+    // coordinate flags passed to the Extents2DProperties change hook.
+    public static final int BOUNDARY_X      = Extents2DProperties.COORDINATE_X;
+    public static final int BOUNDARY_Y      = Extents2DProperties.COORDINATE_Y;
+    public static final int BOUNDARY_WIDTH  = Extents2DProperties.COORDINATE_WIDTH;
+    public static final int BOUNDARY_HEIGHT = Extents2DProperties.COORDINATE_HEIGHT;
+
+    private int                 boundaryChanges;
+    private boolean             surfacesRestructured;
+
+    // Bit sets of the indices of the surfaces whose fields changed.
+    private final BitSet        surfaceNameChanges;
+    private final BitSet        surfaceBypassedChanges;
+    private final BitSet        surfaceMaterialChanges;
+
+    /**
+     * Default constructor, for an empty change set.
+     */
+    public Region2DChangeSet() {
+        boundaryChanges = 0;
+        surfacesRestructured = false;
+
+        surfaceNameChanges = new BitSet();
+        surfaceBypassedChanges = new BitSet();
+        surfaceMaterialChanges = new BitSet();
+    }
+
+    public boolean isEmpty() {
+        return ( boundaryChanges == 0 )
+                && !surfacesRestructured
+                && surfaceNameChanges.isEmpty()
+                && surfaceBypassedChanges.isEmpty()
+                && surfaceMaterialChanges.isEmpty();
+    }
+
+    /**
+     * Returns the boundary coordinates that changed, as a combination of the
+     * {@code BOUNDARY_*} bit flags.
+     *
+     * @return The boundary change flags, or zero if the boundary is unchanged
+     */
+    public int getBoundaryChanges() {
+        return boundaryChanges;
+    }
+
+    public boolean isRegionBoundaryChanged() {
+        return boundaryChanges != 0;
+    }
+
+    public boolean isBoundaryChanged( final int boundaryFlag ) {
+        return ( boundaryChanges & boundaryFlag ) != 0;
+    }
+
+    /**
+     * Returns whether surfaces were added or removed. In that case, every
+     * remaining surface is also flagged as changed, as indices may have
+     * shifted.
+     *
+     * @return {@code true} if the number or order of surfaces changed
+     */
+    public boolean isSurfacesRestructured() {
+        return surfacesRestructured;
+    }
+
+    public boolean isSurfaceChanged( final int surfaceIndex ) {
+        return surfaceNameChanges.get( surfaceIndex )
+                || surfaceBypassedChanges.get( surfaceIndex )
+                || surfaceMaterialChanges.get( surfaceIndex );
+    }
+
+    public boolean isSurfaceChanged( final int surfaceIndex, final SurfaceField field ) {
+        return getSurfaceChanges( field ).get( surfaceIndex );
+    }
+
+    public boolean isSurfaceFieldChanged( final SurfaceField field ) {
+        return !getSurfaceChanges( field ).isEmpty();
+    }
+
+    /**
+     * Calls the supplied action once for each surface index that has any
+     * changed field, in ascending order.
+     *
+     * @param action
+     *            The action to perform on each changed surface index
+     */
+    public void forEachChangedSurface( final IntConsumer action ) {
+        for ( int surfaceIndex = nextChangedSurface( 0 );
+              surfaceIndex >= 0;
+              surfaceIndex = nextChangedSurface( surfaceIndex + 1 ) ) {
+            action.accept( surfaceIndex );
+        }
+    }
+
+    /**
+     * Calls the supplied action once for each surface index whose given field
+     * changed, in ascending order.
+     *
+     * @param field
+     *            The surface field to check for changes
+     * @param action
+     *            The action to perform on each changed surface index
+     */
+    public void forEachChangedSurface( final SurfaceField field, final IntConsumer action ) {
+        final BitSet surfaceChanges = getSurfaceChanges( field );
+        for ( int surfaceIndex = surfaceChanges.nextSetBit( 0 );
+              surfaceIndex >= 0;
+              surfaceIndex = surfaceChanges.nextSetBit( surfaceIndex + 1 ) ) {
+            action.accept( surfaceIndex );
+        }
+    }
+
+    private int nextChangedSurface( final int fromIndex ) {
+        int nextIndex = surfaceNameChanges.nextSetBit( fromIndex );
+        nextIndex = minimumSetIndex( nextIndex, surfaceBypassedChanges.nextSetBit( fromIndex ) );
+        nextIndex = minimumSetIndex( nextIndex, surfaceMaterialChanges.nextSetBit( fromIndex ) );
+        return nextIndex;
+    }
+
+    private static int minimumSetIndex( final int index1, final int index2 ) {
+        if ( index1 < 0 ) {
+            return index2;
+        }
+        if ( index2 < 0 ) {
+            return index1;
+        }
+        return Math.min( index1, index2 );
+    }
+
+    private BitSet getSurfaceChanges( final SurfaceField field ) {
+        switch ( field ) {
+        case NAME:
+            return surfaceNameChanges;
+        case BYPASSED:
+            return surfaceBypassedChanges;
+        case MATERIAL:
+            return surfaceMaterialChanges;
+        default:
+            throw new IllegalArgumentException( String.valueOf( field ) );
+        }
+    }
+
+    /*
+     * Replaces the contents of this change set. Package-private, as only the
+     * owning region may fill a change set.
+     */
+    void set( final int pBoundaryChanges,
+              final boolean pSurfacesRestructured,
+              final BitSet pSurfaceNameChanges,
+              final BitSet pSurfaceBypassedChanges,
+              final BitSet pSurfaceMaterialChanges ) {
+        boundaryChanges = pBoundaryChanges;
+        surfacesRestructured = pSurfacesRestructured;
+
+        surfaceNameChanges.clear();
+        surfaceNameChanges.or( pSurfaceNameChanges );
+        surfaceBypassedChanges.clear();
+        surfaceBypassedChanges.or( pSurfaceBypassedChanges );
+        surfaceMaterialChanges.clear();
+        surfaceMaterialChanges.or( pSurfaceMaterialChanges );
+    }
+}
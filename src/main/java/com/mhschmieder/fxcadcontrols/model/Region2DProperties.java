@@ -37,9 +37,14 @@ import com.mhschmieder.fxgraphics.geometry.SurfaceMaterial;
 import com.mhschmieder.fxgraphics.beans.BeanFactory;
 import javafx.beans.binding.BooleanBinding;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.scene.shape.Rectangle;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
 /**
  * The <code>Region2DProperties</code> class is the implementation class for a
  * Region as used in some CAD apps. It currently contains a rectangle describing
@@ -50,6 +55,13 @@ import javafx.scene.shape.Rectangle;
  * two-dimensional enclosed area that optionally has mass properties. In our
  * case, we don't compute the centroid but do model the surface properties.
  * <p>
+ * The number of surfaces is arbitrary, though it defaults to the four sides
+ * of the rectangle. Surface changes are tracked by a single listener per
+ * surface, which flags the surface's index in a shared bit set per field, so
+ * that construction and change detection scale linearly with the number of
+ * surfaces. Consumers that need to know exactly what changed can drain the
+ * accumulated changes as a {@link Region2DChangeSet}.
+ * <p>
  * This class is strictly for 2D CAD; the AutoCAD 3DFace object is a good model
  * for extending to 3D CAD later on.
  */
@@ -58,11 +70,26 @@ public final class Region2DProperties extends Extents2DProperties {
     /** An observable list of Surface Properties to support Data Binding. */
     private final ObservableList< SurfaceProperties > surfacePropertiesList;
 
+    /** The per-surface change listeners, in the same order as the surfaces. */
+    private final List< SurfaceChangeListener > surfaceChangeListeners;
+
+    // Bit sets of the indices of surfaces whose fields changed since drained.
+    private final BitSet surfaceNameChanges;
+    private final BitSet surfaceBypassedChanges;
+    private final BitSet surfaceMaterialChanges;
+
+    /** The boundary coordinates that changed since drained, as bit flags. */
+    private int boundaryChanges;
+
+    /** Flag for whether surfaces were added or removed since drained. */
+    private boolean surfacesRestructured;
+
     // NOTE: These fields have to follow JavaFX Property Beans conventions.
-    // TODO: Split value changed to surface material changed and status changed?
     private BooleanBinding regionBoundaryChanged;
     private BooleanBinding surfaceNameChanged;
     private BooleanBinding surfaceValueChanged;
+    private BooleanBinding surfaceStatusChanged;
+    private BooleanBinding surfaceMaterialChanged;
 
     /*
      * Default constructor when nothing is known.
@@ -87,45 +114,41 @@ public final class Region2DProperties extends Extents2DProperties {
                 pBoundaryY,
                 pBoundaryWidth,
                 pBoundaryHeight,
-                SurfacePropertiesNameManager.getSurfaceNameDefault( 1 ),
-                Surface.SURFACE_BYPASSED_DEFAULT,
-                Surface.SURFACE_MATERIAL_DEFAULT,
-                SurfacePropertiesNameManager.getSurfaceNameDefault( 2 ),
-                Surface.SURFACE_BYPASSED_DEFAULT,
-                Surface.SURFACE_MATERIAL_DEFAULT,
-                SurfacePropertiesNameManager.getSurfaceNameDefault( 3 ),
-                Surface.SURFACE_BYPASSED_DEFAULT,
-                Surface.SURFACE_MATERIAL_DEFAULT,
-                SurfacePropertiesNameManager.getSurfaceNameDefault( 4 ),
-                Surface.SURFACE_BYPASSED_DEFAULT,
-                Surface.SURFACE_MATERIAL_DEFAULT );
+                Region2D.NUMBER_OF_SURFACES );
+    }
+
+    /*
+     * Default constructor when only the number of surfaces is known.
+     */
+    public Region2DProperties( final double pBoundaryX,
+                               final double pBoundaryY,
+                               final double pBoundaryWidth,
+                               final double pBoundaryHeight,
+                               final int pNumberOfSurfaces ) {
+        this(
+                pBoundaryX,
+                pBoundaryY,
+                pBoundaryWidth,
+                pBoundaryHeight,
+                makeDefaultSurfaceProperties( 0, pNumberOfSurfaces ) );
     }
 
     /*
      * Default constructor when surfaces are selectively enabled.
+     * <p>
+     * NOTE: The supplied Surface Properties are copied, not shared.
      */
     public Region2DProperties(
             final double pBoundaryX,
             final double pBoundaryY,
             final double pBoundaryWidth,
             final double pBoundaryHeight,
-            final ObservableList< SurfaceProperties > pSurfaceProperties ) {
+            final List< SurfaceProperties > pSurfaceProperties ) {
         this( pBoundaryX,
               pBoundaryY,
               pBoundaryWidth,
               pBoundaryHeight,
-              pSurfaceProperties.get( 0 ).getSurfaceName(),
-              pSurfaceProperties.get( 0 ).isSurfaceBypassed(),
-              pSurfaceProperties.get( 0 ).getSurfaceMaterial(),
-              pSurfaceProperties.get( 1 ).getSurfaceName(),
-              pSurfaceProperties.get( 1 ).isSurfaceBypassed(),
-              pSurfaceProperties.get( 1 ).getSurfaceMaterial(),
-              pSurfaceProperties.get( 2 ).getSurfaceName(),
-              pSurfaceProperties.get( 2 ).isSurfaceBypassed(),
-              pSurfaceProperties.get( 2 ).getSurfaceMaterial(),
-              pSurfaceProperties.get( 3 ).getSurfaceName(),
-              pSurfaceProperties.get( 3 ).isSurfaceBypassed(),
-              pSurfaceProperties.get( 3 ).getSurfaceMaterial() );
+              makeSurfacePropertiesCopies( pSurfaceProperties ) );
     }
 
     /*
@@ -147,43 +170,45 @@ public final class Region2DProperties extends Extents2DProperties {
                                final String pSurface4Name,
                                final boolean pSurface4Bypassed,
                                final SurfaceMaterial pSurface4Material ) {
+        this( pBoundaryX,
+              pBoundaryY,
+              pBoundaryWidth,
+              pBoundaryHeight,
+              new SurfaceProperties[] {
+                      new SurfaceProperties( 1, pSurface1Name, pSurface1Bypassed, pSurface1Material ),
+                      new SurfaceProperties( 2, pSurface2Name, pSurface2Bypassed, pSurface2Material ),
+                      new SurfaceProperties( 3, pSurface3Name, pSurface3Bypassed, pSurface3Material ),
+                      new SurfaceProperties( 4, pSurface4Name, pSurface4Bypassed, pSurface4Material ) } );
+    }
+
+    /*
+     * Fully qualified constructor, which adopts the supplied Surface
+     * Properties rather than copying them.
+     */
+    private Region2DProperties( final double pBoundaryX,
+                                final double pBoundaryY,
+                                final double pBoundaryWidth,
+                                final double pBoundaryHeight,
+                                final SurfaceProperties[] pSurfaceProperties ) {
         // Always call the super-constructor first!
         super( pBoundaryX, pBoundaryY, pBoundaryWidth, pBoundaryHeight );
 
-        surfacePropertiesList = FXCollections.observableArrayList();
+        surfacePropertiesList = FXCollections.observableArrayList( pSurfaceProperties );
+        surfaceChangeListeners = new ArrayList<>( pSurfaceProperties.length );
 
-        final SurfaceProperties surface1Properties = new SurfaceProperties(
-                1,
-                pSurface1Name,
-                pSurface1Bypassed,
-                pSurface1Material );
-        surfacePropertiesList.add( surface1Properties );
-
-        final SurfaceProperties surface2Properties = new SurfaceProperties(
-                2,
-                pSurface2Name,
-                pSurface2Bypassed,
-                pSurface2Material );
-        surfacePropertiesList.add( surface2Properties );
-
-        final SurfaceProperties surface3Properties = new SurfaceProperties(
-                3,
-                pSurface3Name,
-                pSurface3Bypassed,
-                pSurface3Material );
-        surfacePropertiesList.add( surface3Properties );
-
-        final SurfaceProperties surface4Properties = new SurfaceProperties(
-                4,
-                pSurface4Name,
-                pSurface4Bypassed,
-                pSurface4Material );
-        surfacePropertiesList.add( surface4Properties );
+        surfaceNameChanges = new BitSet( pSurfaceProperties.length );
+        surfaceBypassedChanges = new BitSet( pSurfaceProperties.length );
+        surfaceMaterialChanges = new BitSet( pSurfaceProperties.length );
 
         // Bind all the properties to the associated dirty flag.
         // NOTE: This is done during initialization, as it is best to make
         //  singleton objects and just update their values vs. reconstructing.
         makeBooleanBindings();
+
+        // Re-attach the per-surface listeners whenever surfaces are added or
+        // removed, as the surface indices may have shifted.
+        surfacePropertiesList.addListener(
+                ( ListChangeListener< SurfaceProperties > ) change -> surfaceListChanged() );
     }
 
     /*
@@ -191,7 +216,7 @@ public final class Region2DProperties extends Extents2DProperties {
      */
     public Region2DProperties(
             final Rectangle pBoundary,
-            final ObservableList< SurfaceProperties > pSurfaceProperties ) {
+            final List< SurfaceProperties > pSurfaceProperties ) {
         this( pBoundary.getX(),
               pBoundary.getY(),
               pBoundary.getWidth(),
@@ -210,53 +235,129 @@ public final class Region2DProperties extends Extents2DProperties {
               pRegion2DProperties.getSurfaceProperties() );
     }
 
+    private static SurfaceProperties[] makeDefaultSurfaceProperties(
+            final int firstSurfaceIndex,
+            final int lastSurfaceIndexExclusive ) {
+        final SurfaceProperties[] surfaceProperties
+                = new SurfaceProperties[ lastSurfaceIndexExclusive - firstSurfaceIndex ];
+        for ( int surfaceIndex = firstSurfaceIndex;
+              surfaceIndex < lastSurfaceIndexExclusive;
+              surfaceIndex++ ) {
+            final int surfaceNumber = surfaceIndex + 1;
+            surfaceProperties[ surfaceIndex - firstSurfaceIndex ] = new SurfaceProperties(
+                    surfaceNumber,
+                    SurfacePropertiesNameManager.getSurfaceNameDefault( surfaceNumber ),
+                    Surface.SURFACE_BYPASSED_DEFAULT,
+                    Surface.SURFACE_MATERIAL_DEFAULT );
+        }
+        return surfaceProperties;
+    }
+
+    private static SurfaceProperties[] makeSurfacePropertiesCopies(
+            final List< SurfaceProperties > pSurfacePropertiesList ) {
+        final int numberOfSurfaces = pSurfacePropertiesList.size();
+        final SurfaceProperties[] surfaceProperties = new SurfaceProperties[ numberOfSurfaces ];
+        for ( int surfaceIndex = 0; surfaceIndex < numberOfSurfaces; surfaceIndex++ ) {
+            final SurfaceProperties source = pSurfacePropertiesList.get( surfaceIndex );
+            surfaceProperties[ surfaceIndex ] = new SurfaceProperties(
+                    surfaceIndex + 1,
+                    source.getSurfaceName(),
+                    source.isSurfaceBypassed(),
+                    source.getSurfaceMaterial() );
+        }
+        return surfaceProperties;
+    }
+
     public void makeBooleanBindings() {
         // Establish the Region Boundary Changed dirty flag criteria as any
         // boundary parameter change.
+        // NOTE: We bind to the composite extents rather than to the individual
+        //  coordinates, so that a whole-boundary change only invalidates once.
         regionBoundaryChanged = BeanFactory.makeBooleanBinding(
-            xProperty(), 
-            yProperty(), 
-            widthProperty(), 
-            heightProperty() );
-
-        // Establish the Surface Name Changed dirty flag criteria as any surface
-        // name change.
-        // NOTE: Collections only flag a change if elements are added or removed,
-        //  as opposed to when the settings on an element change, so we must bind 
-        //  instead against all the mutable properties of the individual elements
-        //  in the collection. This works because we have a known fixed list size.
-        final SurfaceProperties surface1Properties
-                = surfacePropertiesList.get( 0 );
-        final SurfaceProperties surface2Properties
-                = surfacePropertiesList.get( 1 );
-        final SurfaceProperties surface3Properties
-                = surfacePropertiesList.get( 2 );
-        final SurfaceProperties surface4Properties
-                = surfacePropertiesList.get( 3 );
-        surfaceNameChanged = BeanFactory.makeBooleanBinding(
-            surface1Properties.surfaceNameProperty(),
-            surface2Properties.surfaceNameProperty(),
-            surface3Properties.surfaceNameProperty(),
-            surface4Properties.surfaceNameProperty() );
-
-        // Establish the Surface Value Changed dirty flag criteria as any
-        // surface value change.
+            extentsProperty() );
+
+        // Establish the Surface Name Changed, Status Changed and Material
+        // Changed dirty flag criteria as any change flagged in the associated
+        // bit set, with Surface Value Changed covering both status and material.
         // NOTE: Collections only flag a change if elements are added or
-        //  removed, as opposed to when the settings on an element change, so we
-        //  must bind instead against all the mutable properties of the
-        //  individual elements in the collection. This works because we have a
-        //  known fixed list size.
-        // TODO: Consider avoiding duplication by referencing surfaceNameChanged
-        //  as long as that doesn't cause issues with invalidate status on get().
-        surfaceValueChanged = BeanFactory.makeBooleanBinding(
-            surface1Properties.surfaceBypassedProperty(),
-            surface1Properties.surfaceMaterialProperty(),
-            surface2Properties.surfaceBypassedProperty(),
-            surface2Properties.surfaceMaterialProperty(),
-            surface3Properties.surfaceBypassedProperty(),
-            surface3Properties.surfaceMaterialProperty(),
-            surface4Properties.surfaceBypassedProperty(),
-            surface4Properties.surfaceMaterialProperty() );
+        //  removed, as opposed to when the settings on an element change, so
+        //  each surface has one observer per Region for all its mutable values,
+        //  which flags its index and invalidates the relevant binding. This
+        //  avoids a binding with dependencies on every property of every
+        //  surface, which does not scale to large numbers of surfaces.
+        surfaceNameChanged = new BooleanBinding() {
+            @Override
+            protected boolean computeValue() {
+                return !surfaceNameChanges.isEmpty();
+            }
+        };
+        surfaceStatusChanged = new BooleanBinding() {
+            @Override
+            protected boolean computeValue() {
+                return !surfaceBypassedChanges.isEmpty();
+            }
+        };
+        surfaceMaterialChanged = new BooleanBinding() {
+            @Override
+            protected boolean computeValue() {
+                return !surfaceMaterialChanges.isEmpty();
+            }
+        };
+        surfaceValueChanged = new BooleanBinding() {
+            @Override
+            protected boolean computeValue() {
+                return !surfaceBypassedChanges.isEmpty() || !surfaceMaterialChanges.isEmpty();
+            }
+        };
+
+        attachSurfaceChangeListeners();
+    }
+
+    /*
+     * Attaches this Region's change observer to each surface, first detaching
+     * any it previously attached, as the indices may have changed.
+     */
+    private void attachSurfaceChangeListeners() {
+        for ( final SurfaceChangeListener surfaceChangeListener : surfaceChangeListeners ) {
+            surfaceChangeListener.detach();
+        }
+        surfaceChangeListeners.clear();
+
+        for ( int surfaceIndex = 0; surfaceIndex < surfacePropertiesList.size(); surfaceIndex++ ) {
+            final SurfaceChangeListener surfaceChangeListener = new SurfaceChangeListener(
+                    surfaceIndex,
+                    surfacePropertiesList.get( surfaceIndex ) );
+            surfaceChangeListener.attach();
+            surfaceChangeListeners.add( surfaceChangeListener );
+        }
+    }
+
+    private void surfaceListChanged() {
+        attachSurfaceChangeListeners();
+
+        // Treat every surface as changed, as their indices may have shifted.
+        final int numberOfSurfaces = surfacePropertiesList.size();
+        surfacesRestructured = true;
+        surfaceNameChanges.clear();
+        surfaceBypassedChanges.clear();
+        surfaceMaterialChanges.clear();
+        surfaceNameChanges.set( 0, numberOfSurfaces );
+        surfaceBypassedChanges.set( 0, numberOfSurfaces );
+        surfaceMaterialChanges.set( 0, numberOfSurfaces );
+        invalidateSurfaceBindings();
+    }
+
+    private void invalidateSurfaceBindings() {
+        surfaceNameChanged.invalidate();
+        surfaceStatusChanged.invalidate();
+        surfaceMaterialChanged.invalidate();
+        surfaceValueChanged.invalidate();
+    }
+
+    @Override
+    protected void coordinateChanged( final int coordinate ) {
+        // NOTE: The boundary change flags share the coordinate bit flags.
+        boundaryChanges |= coordinate;
     }
 
     // NOTE: Cloning is disabled as it is dangerous; use the copy constructor
@@ -290,31 +391,143 @@ public final class Region2DProperties extends Extents2DProperties {
         return surfaceValueChanged.get();
     }
 
+    public BooleanBinding surfaceStatusChangedProperty() {
+        return surfaceStatusChanged;
+    }
+
+    public boolean isSurfaceStatusChanged() {
+        return surfaceStatusChanged.get();
+    }
+
+    public BooleanBinding surfaceMaterialChangedProperty() {
+        return surfaceMaterialChanged;
+    }
+
+    public boolean isSurfaceMaterialChanged() {
+        return surfaceMaterialChanged.get();
+    }
+
+    /**
+     * Returns whether the name of the surface at the supplied index changed
+     * since surface changes were last cleared.
+     *
+     * @param surfaceIndex
+     *            The zero-based index of the surface to query
+     * @return {@code true} if the surface name changed
+     */
+    public boolean isSurfaceNameChanged( final int surfaceIndex ) {
+        return surfaceNameChanges.get( surfaceIndex );
+    }
+
+    /**
+     * Returns whether the status or material of the surface at the supplied
+     * index changed since surface changes were last cleared.
+     *
+     * @param surfaceIndex
+     *            The zero-based index of the surface to query
+     * @return {@code true} if the surface status or material changed
+     */
+    public boolean isSurfaceValueChanged( final int surfaceIndex ) {
+        return surfaceBypassedChanges.get( surfaceIndex )
+                || surfaceMaterialChanges.get( surfaceIndex );
+    }
+
+    /**
+     * Clears all surface change flags, such as after a consumer has processed
+     * them. Listeners are notified if a flag drops back to {@code false}.
+     * <p>
+     * NOTE: Boundary changes are not cleared, as they are only tracked for the
+     *  sake of {@link #drainChanges()}.
+     */
+    public void clearSurfaceChanges() {
+        final boolean surfacesChanged = !surfaceNameChanges.isEmpty()
+                || !surfaceBypassedChanges.isEmpty()
+                || !surfaceMaterialChanges.isEmpty();
+
+        surfacesRestructured = false;
+        surfaceNameChanges.clear();
+        surfaceBypassedChanges.clear();
+        surfaceMaterialChanges.clear();
+
+        if ( surfacesChanged ) {
+            invalidateSurfaceBindings();
+        }
+    }
+
+    /**
+     * Returns everything that changed since the last drain, and clears all
+     * change flags.
+     *
+     * @return A new {@link Region2DChangeSet} holding the drained changes
+     */
+    public Region2DChangeSet drainChanges() {
+        final Region2DChangeSet changeSet = new Region2DChangeSet();
+        drainChanges( changeSet );
+        return changeSet;
+    }
+
+    /**
+     * Moves everything that changed since the last drain into the supplied
+     * change set, replacing its previous contents, and clears all change
+     * flags. Reusing a change set avoids allocation on every drain.
+     *
+     * @param changeSet
+     *            The {@link Region2DChangeSet} to fill
+     */
+    public void drainChanges( final Region2DChangeSet changeSet ) {
+        changeSet.set( boundaryChanges,
+                       surfacesRestructured,
+                       surfaceNameChanges,
+                       surfaceBypassedChanges,
+                       surfaceMaterialChanges );
+
+        boundaryChanges = 0;
+        clearSurfaceChanges();
+    }
+
     public ObservableList< SurfaceProperties > getSurfaceProperties() {
         return surfacePropertiesList;
     }
 
+    public int getNumberOfSurfaces() {
+        return surfacePropertiesList.size();
+    }
+
+    /**
+     * Grows or shrinks the list of surfaces to the supplied size, adding
+     * surfaces with default values or removing them from the end as needed.
+     *
+     * @param numberOfSurfaces
+     *            The new number of surfaces
+     */
+    public void setNumberOfSurfaces( final int numberOfSurfaces ) {
+        final int currentNumberOfSurfaces = surfacePropertiesList.size();
+        if ( numberOfSurfaces > currentNumberOfSurfaces ) {
+            surfacePropertiesList.addAll( makeDefaultSurfaceProperties(
+                    currentNumberOfSurfaces,
+                    numberOfSurfaces ) );
+        }
+        else if ( numberOfSurfaces < currentNumberOfSurfaces ) {
+            surfacePropertiesList.remove( numberOfSurfaces, currentNumberOfSurfaces );
+        }
+    }
+
     /*
      * Default pseudo-constructor.
      */
     public void reset() {
+        setExtents( X_METERS_DEFAULT,
+                    Y_METERS_DEFAULT,
+                    WIDTH_METERS_DEFAULT,
+                    HEIGHT_METERS_DEFAULT );
+
         // NOTE: Do not reset the Surface Names.
-        setRegion2D( X_METERS_DEFAULT,
-                     Y_METERS_DEFAULT,
-                     WIDTH_METERS_DEFAULT,
-                     HEIGHT_METERS_DEFAULT,
-                     surfacePropertiesList.get( 0 ).getSurfaceName(),
-                Surface.SURFACE_BYPASSED_DEFAULT,
-                Surface.SURFACE_MATERIAL_DEFAULT,
-                     surfacePropertiesList.get( 1 ).getSurfaceName(),
-                Surface.SURFACE_BYPASSED_DEFAULT,
-                Surface.SURFACE_MATERIAL_DEFAULT,
-                     surfacePropertiesList.get( 2 ).getSurfaceName(),
-                Surface.SURFACE_BYPASSED_DEFAULT,
-                Surface.SURFACE_MATERIAL_DEFAULT,
-                     surfacePropertiesList.get( 3 ).getSurfaceName(),
-                Surface.SURFACE_BYPASSED_DEFAULT,
-                Surface.SURFACE_MATERIAL_DEFAULT);
+        for ( int surfaceIndex = 0; surfaceIndex < surfacePropertiesList.size(); surfaceIndex++ ) {
+            setSurfaceProperties( surfaceIndex,
+                                  surfacePropertiesList.get( surfaceIndex ).getSurfaceName(),
+                                  Surface.SURFACE_BYPASSED_DEFAULT,
+                                  Surface.SURFACE_MATERIAL_DEFAULT );
+        }
     }
 
     /*
@@ -325,7 +538,7 @@ public final class Region2DProperties extends Extents2DProperties {
             final double pBoundaryY,
             final double pBoundaryWidth,
             final double pBoundaryHeight,
-            final ObservableList< SurfaceProperties > pSurfaceProperties ) {
+            final List< SurfaceProperties > pSurfaceProperties ) {
         setExtents( pBoundaryX, pBoundaryY, pBoundaryWidth, pBoundaryHeight );
 
         setSurfaceProperties( pSurfaceProperties );
@@ -371,7 +584,7 @@ public final class Region2DProperties extends Extents2DProperties {
      */
     public void setRegion2D(
             final Rectangle pBoundary,
-            final ObservableList< SurfaceProperties > pSurfaceProperties ) {
+            final List< SurfaceProperties > pSurfaceProperties ) {
         setRegion2D( pBoundary.getX(),
                      pBoundary.getY(),
                      pBoundary.getWidth(),
@@ -402,10 +615,16 @@ public final class Region2DProperties extends Extents2DProperties {
         surfaceProperties.setSurfaceMaterial( pSurfaceMaterial );
     }
 
+    /*
+     * Copies the supplied Surface Properties, first matching their number.
+     */
     private void setSurfaceProperties(
-            final ObservableList< SurfaceProperties > pSurfacePropertiesList ) {
+            final List< SurfaceProperties > pSurfacePropertiesList ) {
+        final int numberOfSurfaces = pSurfacePropertiesList.size();
+        setNumberOfSurfaces( numberOfSurfaces );
+
         for ( int surfaceIndex = 0;
-              surfaceIndex < Region2D.NUMBER_OF_SURFACES;
+              surfaceIndex < numberOfSurfaces;
               surfaceIndex++ ) {
             final SurfaceProperties surfaceProperties = pSurfacePropertiesList
                     .get( surfaceIndex );
@@ -449,4 +668,56 @@ public final class Region2DProperties extends Extents2DProperties {
                 pSurface4Bypassed,
                 pSurface4Material );
     }
+
+    /**
+     * This is a single observer for all of the mutable values of one surface,
+     * which flags the surface's index in the shared change sets.
+     * <p>
+     * NOTE: This observes the surface's values directly rather than through
+     *  listeners on its properties, so that the properties of surfaces that
+     *  are never bound to a control are never created.
+     */
+    private final class SurfaceChangeListener implements SurfaceProperties.ChangeObserver {
+
+        private final int               surfaceIndex;
+        private final SurfaceProperties surfaceProperties;
+
+        SurfaceChangeListener( final int pSurfaceIndex,
+                               final SurfaceProperties pSurfaceProperties ) {
+            surfaceIndex = pSurfaceIndex;
+            surfaceProperties = pSurfaceProperties;
+        }
+
+        void attach() {
+            surfaceProperties.addChangeObserver( this );
+        }
+
+        void detach() {
+            // NOTE: The surface may also be held by another Region, whose
+            //  observer is left attached.
+            surfaceProperties.removeChangeObserver( this );
+        }
+
+        @Override
+        public void surfaceChanged( final int value ) {
+            switch ( value ) {
+            case SurfaceProperties.SURFACE_NAME:
+                surfaceNameChanges.set( surfaceIndex );
+                surfaceNameChanged.invalidate();
+                break;
+            case SurfaceProperties.SURFACE_BYPASSED:
+                surfaceBypassedChanges.set( surfaceIndex );
+                surfaceStatusChanged.invalidate();
+                surfaceValueChanged.invalidate();
+                break;
+            case SurfaceProperties.SURFACE_MATERIAL:
+                surfaceMaterialChanges.set( surfaceIndex );
+                surfaceMaterialChanged.invalidate();
+                surfaceValueChanged.invalidate();
+                break;
+            default:
+                break;
+            }
+        }
+    }
 }
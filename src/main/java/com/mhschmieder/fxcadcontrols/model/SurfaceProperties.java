@@ -40,68 +40,259 @@ import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
 
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * This is a properties class for a single Surface of a Region.
+ * <p>
+ * Each value is held in a plain field until its property is first requested,
+ * so that surfaces which are never bound to a control or listened to cost no
+ * more than their values. Changes are reported to the owning Region through a
+ * package-private observer, whether or not the properties exist, so tracking
+ * changes does not force the properties into existence either.
+ * <p>
+ * NOTE: A Surface may be held by more than one Region, such as when an
+ *  element of one Region's surface list is added to another's, so each
+ *  Region attaches its own observer rather than taking over a single slot.
+ */
 public final class SurfaceProperties {
 
-    private final IntegerProperty surfaceNumber;
-    private final StringProperty  surfaceName;
-    private final BooleanProperty surfaceBypassed;
-    private final ObjectProperty< SurfaceMaterial > surfaceMaterial;
+    // Bit flags identifying each observed value, as passed to the observer.
+    static final int                        SURFACE_NAME          = 1;
+    static final int                        SURFACE_BYPASSED      = 1 << 1;
+    static final int                        SURFACE_MATERIAL      = 1 << 2;
+
+    /**
+     * Receives changes to the observed values of a Surface.
+     */
+    interface ChangeObserver {
+
+        /**
+         * Called after an observed value of the Surface changed.
+         *
+         * @param value
+         *            The value that changed; one of {@link #SURFACE_NAME},
+         *            {@link #SURFACE_BYPASSED} or {@link #SURFACE_MATERIAL}
+         */
+        void surfaceChanged( int value );
+    }
+
+    private int                             _surfaceNumber;
+    private String                          _surfaceName;
+    private boolean                         _surfaceBypassed;
+    private SurfaceMaterial                 _surfaceMaterial;
+    private CatalogMaterial                 _catalogMaterial;
+
+    // NOTE: These are only created on demand, and take over from the plain
+    //  fields above once they exist.
+    private IntegerProperty                 surfaceNumber;
+    private StringProperty                  surfaceName;
+    private BooleanProperty                 surfaceBypassed;
+    private ObjectProperty< SurfaceMaterial > surfaceMaterial;
+    private ObjectProperty< CatalogMaterial > catalogMaterial;
+
+    private static final ChangeObserver[]   NO_CHANGE_OBSERVERS   = new ChangeObserver[ 0 ];
+
+    /**
+     * The observers of value changes, one per Region holding this Surface.
+     * <p>
+     * NOTE: This is copied on write, as it is rarely changed, so that an
+     *  observer may detach itself while being notified.
+     */
+    private ChangeObserver[]                changeObservers       = NO_CHANGE_OBSERVERS;
 
     public SurfaceProperties( final int pSurfaceNumber,
                               final String pSurfaceName,
                               final boolean pSurfaceBypassed,
                               final SurfaceMaterial pSurfaceMaterial ) {
-        surfaceNumber = new SimpleIntegerProperty( pSurfaceNumber );
-        surfaceName = new SimpleStringProperty( pSurfaceName );
-        surfaceBypassed = new SimpleBooleanProperty( pSurfaceBypassed );
-        surfaceMaterial = new SimpleObjectProperty<>( pSurfaceMaterial );
+        _surfaceNumber = pSurfaceNumber;
+        _surfaceName = pSurfaceName;
+        _surfaceBypassed = pSurfaceBypassed;
+        _surfaceMaterial = pSurfaceMaterial;
     }
 
     public IntegerProperty surfaceNumberProperty() {
+        if ( surfaceNumber == null ) {
+            surfaceNumber = new SimpleIntegerProperty( this, "surfaceNumber", _surfaceNumber ); //$NON-NLS-1$
+        }
         return surfaceNumber;
     }
 
     public int getSurfaceNumber() {
-        return surfaceNumber.get();
+        return ( surfaceNumber != null ) ? surfaceNumber.get() : _surfaceNumber;
     }
 
     public void setSurfaceNumber( final int pSurfaceNumber ) {
-        surfaceNumber.set( pSurfaceNumber );
+        if ( surfaceNumber != null ) {
+            surfaceNumber.set( pSurfaceNumber );
+        }
+        else {
+            _surfaceNumber = pSurfaceNumber;
+        }
     }
 
     public StringProperty surfaceNameProperty() {
+        if ( surfaceName == null ) {
+            surfaceName = new SimpleStringProperty( this, "surfaceName", _surfaceName ) { //$NON-NLS-1$
+                @Override
+                protected void invalidated() {
+                    // NOTE: Reading the value back re-validates the property,
+                    //  so that the next change invalidates it again.
+                    get();
+                    fireSurfaceChanged( SURFACE_NAME );
+                }
+            };
+        }
         return surfaceName;
     }
 
     public String getSurfaceName() {
-        return surfaceName.get();
+        return ( surfaceName != null ) ? surfaceName.get() : _surfaceName;
     }
 
     public void setSurfaceName( final String pSurfaceName ) {
-        surfaceName.set( pSurfaceName );
+        if ( surfaceName != null ) {
+            surfaceName.set( pSurfaceName );
+        }
+        else if ( !Objects.equals( _surfaceName, pSurfaceName ) ) {
+            _surfaceName = pSurfaceName;
+            fireSurfaceChanged( SURFACE_NAME );
+        }
     }
 
     public BooleanProperty surfaceBypassedProperty() {
+        if ( surfaceBypassed == null ) {
+            surfaceBypassed = new SimpleBooleanProperty( this, "surfaceBypassed", _surfaceBypassed ) { //$NON-NLS-1$
+                @Override
+                protected void invalidated() {
+                    get();
+                    fireSurfaceChanged( SURFACE_BYPASSED );
+                }
+            };
+        }
         return surfaceBypassed;
     }
 
     public boolean isSurfaceBypassed() {
-        return surfaceBypassed.get();
+        return ( surfaceBypassed != null ) ? surfaceBypassed.get() : _surfaceBypassed;
     }
 
     public void setSurfaceBypassed( final boolean pSurfaceBypassed ) {
-        surfaceBypassed.set( pSurfaceBypassed );
+        if ( surfaceBypassed != null ) {
+            surfaceBypassed.set( pSurfaceBypassed );
+        }
+        else if ( _surfaceBypassed != pSurfaceBypassed ) {
+            _surfaceBypassed = pSurfaceBypassed;
+            fireSurfaceChanged( SURFACE_BYPASSED );
+        }
     }
 
     public ObjectProperty< SurfaceMaterial > surfaceMaterialProperty() {
+        if ( surfaceMaterial == null ) {
+            surfaceMaterial = new SimpleObjectProperty< SurfaceMaterial >( this,
+                                                                          "surfaceMaterial", //$NON-NLS-1$
+                                                                          _surfaceMaterial ) {
+                @Override
+                protected void invalidated() {
+                    get();
+                    fireSurfaceChanged( SURFACE_MATERIAL );
+                }
+            };
+        }
         return surfaceMaterial;
     }
 
     public SurfaceMaterial getSurfaceMaterial() {
-        return surfaceMaterial.get();
+        return ( surfaceMaterial != null ) ? surfaceMaterial.get() : _surfaceMaterial;
     }
 
     public void setSurfaceMaterial( final SurfaceMaterial pSurfaceMaterial ) {
-        surfaceMaterial.set( pSurfaceMaterial );
+        if ( surfaceMaterial != null ) {
+            surfaceMaterial.set( pSurfaceMaterial );
+        }
+        else if ( _surfaceMaterial != pSurfaceMaterial ) {
+            _surfaceMaterial = pSurfaceMaterial;
+            fireSurfaceChanged( SURFACE_MATERIAL );
+        }
+    }
+
+    /**
+     * Returns the property for the material from a {@link MaterialCatalog}, if
+     * any, whose measured absorption data refines the Surface Material. A
+     * change to it is reported as a change to the Surface Material.
+     *
+     * @return The Catalog Material property
+     */
+    public ObjectProperty< CatalogMaterial > catalogMaterialProperty() {
+        if ( catalogMaterial == null ) {
+            catalogMaterial = new SimpleObjectProperty< CatalogMaterial >( this,
+                                                                          "catalogMaterial", //$NON-NLS-1$
+                                                                          _catalogMaterial ) {
+                @Override
+                protected void invalidated() {
+                    get();
+                    fireSurfaceChanged( SURFACE_MATERIAL );
+                }
+            };
+        }
+        return catalogMaterial;
+    }
+
+    public CatalogMaterial getCatalogMaterial() {
+        return ( catalogMaterial != null ) ? catalogMaterial.get() : _catalogMaterial;
+    }
+
+    public void setCatalogMaterial( final CatalogMaterial pCatalogMaterial ) {
+        if ( catalogMaterial != null ) {
+            catalogMaterial.set( pCatalogMaterial );
+        }
+        else if ( !Objects.equals( _catalogMaterial, pCatalogMaterial ) ) {
+            _catalogMaterial = pCatalogMaterial;
+            fireSurfaceChanged( SURFACE_MATERIAL );
+        }
+    }
+
+    int getNumberOfChangeObservers() {
+        return changeObservers.length;
+    }
+
+    void addChangeObserver( final ChangeObserver pChangeObserver ) {
+        Objects.requireNonNull( pChangeObserver, "pChangeObserver" ); //$NON-NLS-1$
+
+        final int numberOfChangeObservers = changeObservers.length;
+        final ChangeObserver[] newChangeObservers = Arrays.copyOf(
+                changeObservers, numberOfChangeObservers + 1 );
+        newChangeObservers[ numberOfChangeObservers ] = pChangeObserver;
+        changeObservers = newChangeObservers;
+    }
+
+    void removeChangeObserver( final ChangeObserver pChangeObserver ) {
+        final int numberOfChangeObservers = changeObservers.length;
+        for ( int observerIndex = 0; observerIndex < numberOfChangeObservers; observerIndex++ ) {
+            if ( changeObservers[ observerIndex ] == pChangeObserver ) {
+                if ( numberOfChangeObservers == 1 ) {
+                    changeObservers = NO_CHANGE_OBSERVERS;
+                }
+                else {
+                    final ChangeObserver[] newChangeObservers
+                        = new ChangeObserver[ numberOfChangeObservers - 1 ];
+                    System.arraycopy( changeObservers, 0, newChangeObservers, 0, observerIndex );
+                    System.arraycopy( changeObservers,
+                                      observerIndex + 1,
+                                      newChangeObservers,
+                                      observerIndex,
+                                      numberOfChangeObservers - observerIndex - 1 );
+                    changeObservers = newChangeObservers;
+                }
+                return;
+            }
+        }
+    }
+
+    private void fireSurfaceChanged( final int value ) {
+        for ( final ChangeObserver changeObserver : changeObservers ) {
+            changeObserver.surfaceChanged( value );
+        }
     }
 }
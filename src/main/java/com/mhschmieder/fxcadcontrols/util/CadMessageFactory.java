@@ -58,10 +58,34 @@ public final class CadMessageFactory {
         return "Graphics Import Options";
     }
 
+    public static String getSurfaceNameColumnHeader() {
+        return "Surface Name";
+    }
+
+    public static String getSurfaceStatusColumnHeader() {
+        return "Status";
+    }
+
     public static String getInsertReferencePointTitle() {
         return "Insert Reference Point";
     }
 
+    public static String getMaterialCatalogSelectorTooltip() {
+        return "Type Part of a Material Name to Search the Material Catalog; Names Starting with the Text are Listed First";
+    }
+
+    public static String getSurfaceIdColumnHeader() {
+        return "Surface ID";
+    }
+
+    public static String getSurfaceIdLabel( final int surfaceNumber ) {
+        return "Surface " + Integer.toString( surfaceNumber );
+    }
+
+    public static String getSurfaceMaterialColumnHeader() {
+        return "Material";
+    }
+
     public static String getSurfaceMaterialTooltip() {
         return "Double-Click for List of Materials from Elements of Acoustical Engineering (Olson); Click ESC to Cancel and Exit List and Cell";
     }
@@ -0,0 +1,349 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxCadControls Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxCadControls Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxcadcontrols
+ */
+package com.mhschmieder.fxcadcontrols.util;
+
+import javafx.scene.image.Image;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@code CadResourceCache} is a process-wide cache of resolved CAD action
+ * label bundles, and of the icons and text resources that ship with this
+ * library, so that opening the same menus and controls in several windows
+ * neither resolves the same bundle again nor decodes the same PNG again.
+ * <p>
+ * Entries are weakly referenced, so they are shared for as long as any control
+ * still uses them and are otherwise left to the garbage collector. Resources
+ * that are warmed up ahead of time are held strongly until they are first
+ * requested, as otherwise they could be collected before anyone uses them.
+ * <p>
+ * NOTE: The action labels and icons of {@link
+ *  com.mhschmieder.fxcadcontrols.action.CadLabeledActionFactory} are resolved
+ *  by the generic action factory, which only takes a bundle name and an icon
+ *  path, so they do not go through this cache. The bundle half serves the
+ *  menu titles, which are read before any action exists, and keeps hit and
+ *  miss counts to check that it is effective; the icon and text halves only
+ *  serve the resources listed here, for the preloader and their consumers.
+ */
+public final class CadResourceCache {
+
+    // NOTE: We must substitute "." for resource directory tree delimiters.
+    public static final String ACTION_LABELS_BUNDLE_NAME = "properties.CadActionLabels"; //$NON-NLS-1$
+
+    // The Surface Legend icons, for light and dark backgrounds respectively.
+    public static final String SURFACE_LEGEND_BLACK_ICON_PATH
+            = "/icons/mhschmieder/SurfaceLegendBlack.png"; //$NON-NLS-1$
+    public static final String SURFACE_LEGEND_WHITE_ICON_PATH
+            = "/icons/mhschmieder/SurfaceLegendWhite.png"; //$NON-NLS-1$
+
+    // The icons that ship with this library, which are warmed up at startup.
+    public static final List< String > ICON_PATHS = Collections.unmodifiableList( Arrays.asList(
+            SURFACE_LEGEND_BLACK_ICON_PATH,
+            SURFACE_LEGEND_WHITE_ICON_PATH ) );
+
+    // The help page for graphics import.
+    public static final String GRAPHICS_IMPORT_HELP_PATH = "/html/GraphicsImportHelp.html"; //$NON-NLS-1$
+
+    // Weakly referenced icons, keyed by classpath resource path.
+    private static final Map< String, WeakReference< Image > > ICONS
+            = new ConcurrentHashMap<>();
+
+    // Weakly referenced action label bundles, keyed by locale.
+    private static final Map< Locale, WeakReference< ResourceBundle > > BUNDLES
+            = new ConcurrentHashMap<>();
+
+    // Weakly referenced text resources, keyed by classpath resource path.
+    private static final Map< String, WeakReference< String > > TEXTS
+            = new ConcurrentHashMap<>();
+
+    // Warmed-up resources, held strongly until first requested.
+    private static final Map< Object, Object > WARMED = new ConcurrentHashMap<>();
+
+    private static final AtomicLong BUNDLE_HITS   = new AtomicLong();
+    private static final AtomicLong BUNDLE_MISSES = new AtomicLong();
+
+    /**
+     * The default constructor is disabled, as this is a static utilities class.
+     */
+    private CadResourceCache() {}
+
+    /**
+     * Returns the decoded icon for a classpath resource path, decoding it only
+     * if no live copy is cached.
+     *
+     * @param iconPath
+     *            The classpath resource path of the icon, such as
+     *            "/icons/everaldo/ViewMagFit16.png"
+     * @return The decoded icon, or {@code null} if there is no such resource
+     */
+    public static Image getIcon( final String iconPath ) {
+        // A warmed-up icon is handed over to the weakly referenced cache.
+        final Object warmedIcon = WARMED.remove( iconPath );
+        if ( warmedIcon instanceof Image ) {
+            return ( Image ) warmedIcon;
+        }
+
+        final WeakReference< Image > iconReference = ICONS.get( iconPath );
+        final Image cachedIcon = ( iconReference != null ) ? iconReference.get() : null;
+        if ( cachedIcon != null ) {
+            return cachedIcon;
+        }
+
+        final Image icon = loadIcon( iconPath );
+        if ( icon != null ) {
+            ICONS.put( iconPath, new WeakReference<>( icon ) );
+        }
+        return icon;
+    }
+
+    /**
+     * Returns the CAD action labels bundle for a locale, resolving it only if
+     * no live copy is cached.
+     *
+     * @param locale
+     *            The locale to resolve the bundle for
+     * @return The resolved action labels bundle
+     */
+    public static ResourceBundle getActionLabelsBundle( final Locale locale ) {
+        final Locale bundleLocale = ( locale != null ) ? locale : Locale.getDefault();
+        final Object warmedBundle = WARMED.remove( bundleLocale );
+        if ( warmedBundle instanceof ResourceBundle ) {
+            BUNDLE_HITS.incrementAndGet();
+            return ( ResourceBundle ) warmedBundle;
+        }
+
+        final WeakReference< ResourceBundle > bundleReference = BUNDLES.get( bundleLocale );
+        final ResourceBundle cachedBundle = ( bundleReference != null )
+            ? bundleReference.get()
+            : null;
+        if ( cachedBundle != null ) {
+            BUNDLE_HITS.incrementAndGet();
+            return cachedBundle;
+        }
+
+        BUNDLE_MISSES.incrementAndGet();
+        final ResourceBundle bundle = ResourceBundle.getBundle( ACTION_LABELS_BUNDLE_NAME,
+                                                                bundleLocale );
+        BUNDLES.put( bundleLocale, new WeakReference<>( bundle ) );
+        return bundle;
+    }
+
+    /**
+     * Returns the contents of a UTF-8 text resource, such as a help page,
+     * reading it only if no live copy is cached.
+     * <p>
+     * NOTE: Warmed-up text is keyed by a distinct wrapper, so that a text
+     *  resource path can never collide with an icon path.
+     *
+     * @param textPath
+     *            The classpath resource path of the text, such as
+     *            {@link #GRAPHICS_IMPORT_HELP_PATH}
+     * @return The text contents, or {@code null} if there is no such resource
+     * @throws IOException
+     *             If the resource exists but cannot be read
+     */
+    public static String getText( final String textPath ) throws IOException {
+        final Object warmedText = WARMED.remove( new TextKey( textPath ) );
+        if ( warmedText instanceof String ) {
+            return ( String ) warmedText;
+        }
+
+        final WeakReference< String > textReference = TEXTS.get( textPath );
+        final String cachedText = ( textReference != null ) ? textReference.get() : null;
+        if ( cachedText != null ) {
+            return cachedText;
+        }
+
+        final String text = loadText( textPath );
+        if ( text != null ) {
+            TEXTS.put( textPath, new WeakReference<>( text ) );
+        }
+        return text;
+    }
+
+    /**
+     * Warms up the action labels bundle for the locale and all of the icons
+     * used by this library on the supplied executor, such as at application
+     * startup, and holds them until they are first requested.
+     *
+     * @param executor
+     *            The executor to load the resources on
+     * @param locale
+     *            The locale to resolve the bundle for
+     * @return A future that completes when all of the resources are loaded
+     */
+    public static CompletableFuture< Void > warmUp( final Executor executor,
+                                                    final Locale locale ) {
+        return warmUp( executor, locale, ICON_PATHS );
+    }
+
+    public static CompletableFuture< Void > warmUp( final Executor executor,
+                                                    final Locale locale,
+                                                    final Collection< String > iconPaths ) {
+        final CompletableFuture< ? >[] futures = new CompletableFuture< ? >[ iconPaths.size() + 1 ];
+        int i = 0;
+
+        final Locale bundleLocale = ( locale != null ) ? locale : Locale.getDefault();
+        futures[ i++ ] = CompletableFuture.supplyAsync( () -> warmBundle( bundleLocale ), executor );
+        for ( final String iconPath : iconPaths ) {
+            futures[ i++ ] = CompletableFuture.supplyAsync( () -> warmIcon( iconPath ), executor );
+        }
+
+        return CompletableFuture.allOf( futures );
+    }
+
+    static boolean warmIcon( final String iconPath ) {
+        final Image icon = getIcon( iconPath );
+        if ( icon == null ) {
+            return false;
+        }
+        WARMED.put( iconPath, icon );
+        return true;
+    }
+
+    static boolean warmBundle( final Locale locale ) {
+        WARMED.put( locale, getActionLabelsBundle( locale ) );
+        return true;
+    }
+
+    static boolean warmText( final String textPath ) throws IOException {
+        final String text = getText( textPath );
+        if ( text == null ) {
+            return false;
+        }
+        WARMED.put( new TextKey( textPath ), text );
+        return true;
+    }
+
+    /**
+     * Releases the strong references to warmed-up resources that have not yet
+     * been requested, leaving them to the garbage collector.
+     * <p>
+     * NOTE: Call this once startup is over, as a warmed-up resource is only
+     *  handed over to the weakly referenced cache when a consumer fetches it
+     *  through {@link #getIcon(String)} or {@link #getText(String)}, and
+     *  would otherwise be held for the life of the application.
+     */
+    public static void releaseWarmedResources() {
+        WARMED.clear();
+    }
+
+    public static long getBundleHitCount() {
+        return BUNDLE_HITS.get();
+    }
+
+    public static long getBundleMissCount() {
+        return BUNDLE_MISSES.get();
+    }
+
+    public static void resetStatistics() {
+        BUNDLE_HITS.set( 0L );
+        BUNDLE_MISSES.set( 0L );
+    }
+
+    /**
+     * Returns a one-line summary of the hit and miss counts, for logging.
+     *
+     * @return The cache statistics summary
+     */
+    @SuppressWarnings("nls")
+    public static String getStatisticsSummary() {
+        return "CadResourceCache: bundles " + BUNDLE_HITS.get() + " hits / "
+                + BUNDLE_MISSES.get() + " misses";
+    }
+
+    private static Image loadIcon( final String iconPath ) {
+        final URL iconUrl = CadResourceCache.class.getResource( iconPath );
+        if ( iconUrl == null ) {
+            return null;
+        }
+
+        // NOTE: Decoding synchronously is safe off the JavaFX Application
+        //  Thread, and makes warm-up finish only once the pixels are ready.
+        return new Image( iconUrl.toExternalForm(), false );
+    }
+
+    private static String loadText( final String textPath ) throws IOException {
+        try ( final InputStream inputStream = CadResourceCache.class
+                .getResourceAsStream( textPath ) ) {
+            if ( inputStream == null ) {
+                return null;
+            }
+
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[ 8192 ];
+            int numberOfBytesRead;
+            while ( ( numberOfBytesRead = inputStream.read( buffer ) ) != -1 ) {
+                outputStream.write( buffer, 0, numberOfBytesRead );
+            }
+            return new String( outputStream.toByteArray(), StandardCharsets.UTF_8 );
+        }
+    }
+
+    /**
+     * This is the key for a warmed-up text resource.
+     */
+    private static final class TextKey {
+
+        private final String textPath;
+
+        TextKey( final String pTextPath ) {
+            textPath = pTextPath;
+        }
+
+        @Override
+        public boolean equals( final Object other ) {
+            return ( other instanceof TextKey )
+                    && textPath.equals( ( ( TextKey ) other ).textPath );
+        }
+
+        @Override
+        public int hashCode() {
+            return textPath.hashCode();
+        }
+    }
+}
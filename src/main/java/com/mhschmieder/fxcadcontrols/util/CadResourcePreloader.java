@@ -0,0 +1,249 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxCadControls Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxCadControls Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxcadcontrols
+ */
+package com.mhschmieder.fxcadcontrols.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * {@code CadResourcePreloader} warms up the GUI resources that ship with this
+ * library on a background executor at application startup, so that the first
+ * menu open or help display does not stall the JavaFX Application Thread on
+ * resource loading.
+ * <p>
+ * The resources are loaded into the {@link CadResourceCache}, which holds them
+ * until they are first requested, and the time taken to load each one is
+ * reported, so that slow resources show up in startup diagnostics.
+ * <p>
+ * Preloading only pays off if the consumers of these resources fetch them
+ * through {@link CadResourceCache#getIcon(String)} and
+ * {@link CadResourceCache#getText(String)}, using the paths published there
+ * (such as {@link CadResourceCache#SURFACE_LEGEND_BLACK_ICON_PATH} and
+ * {@link CadResourceCache#GRAPHICS_IMPORT_HELP_PATH}), rather than loading
+ * them from the classpath themselves. Once startup is over, call
+ * {@link CadResourceCache#releaseWarmedResources()} so that any resource that
+ * was never fetched is not held for the life of the application.
+ * <p>
+ * NOTE: Icons can only be decoded once the JavaFX toolkit is running, so
+ *  preloading should start from Application.init() or later; until then,
+ *  icon loads are reported as not loaded, with the toolkit's exception.
+ */
+public final class CadResourcePreloader {
+
+    /**
+     * The default constructor is disabled, as this is a static utilities class.
+     */
+    private CadResourcePreloader() {}
+
+    /**
+     * Makes an executor suited to preloading, whose threads are daemon threads
+     * so that they never hold up application exit.
+     *
+     * @param numberOfThreads
+     *            The number of threads to load resources with
+     * @return A new preloading executor, which the caller should shut down
+     *         once preloading completes
+     */
+    public static ExecutorService newPreloadExecutor( final int numberOfThreads ) {
+        final AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool( Math.max( 1, numberOfThreads ), runnable -> {
+            final Thread thread = new Thread( runnable,
+                                              "cad-resource-preloader-" //$NON-NLS-1$
+                                                      + threadNumber.incrementAndGet() );
+            thread.setDaemon( true );
+            return thread;
+        } );
+    }
+
+    /**
+     * Preloads the action label bundle for the locale, the Surface Legend
+     * icons and the Graphics Import help page.
+     *
+     * @param executor
+     *            The executor to load the resources on
+     * @param locale
+     *            The locale to resolve the bundle for
+     * @return A future that completes with the load time of every resource
+     */
+    public static CompletableFuture< List< ResourceLoadTime > > preload(
+            final Executor executor,
+            final Locale locale ) {
+        return preload( executor, locale, null );
+    }
+
+    /**
+     * Preloads the action label bundle for the locale, the Surface Legend
+     * icons and the Graphics Import help page, reporting each load as it
+     * completes.
+     * <p>
+     * NOTE: The listener is called on the executor's threads, so anything
+     *  that touches the scene graph must be passed to Platform.runLater().
+     *
+     * @param executor
+     *            The executor to load the resources on
+     * @param locale
+     *            The locale to resolve the bundle for
+     * @param listener
+     *            The listener for each resource load time, or {@code null}
+     * @return A future that completes with the load time of every resource
+     */
+    public static CompletableFuture< List< ResourceLoadTime > > preload(
+            final Executor executor,
+            final Locale locale,
+            final Consumer< ResourceLoadTime > listener ) {
+        final Locale bundleLocale = ( locale != null ) ? locale : Locale.getDefault();
+        final List< CompletableFuture< ResourceLoadTime > > futures = new ArrayList<>();
+
+        futures.add( CompletableFuture.supplyAsync(
+                () -> load( CadResourceCache.ACTION_LABELS_BUNDLE_NAME + "_" + bundleLocale, //$NON-NLS-1$
+                            () -> CadResourceCache.warmBundle( bundleLocale ),
+                            listener ),
+                executor ) );
+        for ( final String iconPath : CadResourceCache.ICON_PATHS ) {
+            futures.add( CompletableFuture.supplyAsync(
+                    () -> load( iconPath, () -> CadResourceCache.warmIcon( iconPath ), listener ),
+                    executor ) );
+        }
+        futures.add( CompletableFuture.supplyAsync(
+                () -> load( CadResourceCache.GRAPHICS_IMPORT_HELP_PATH,
+                            () -> CadResourceCache.warmText( CadResourceCache.GRAPHICS_IMPORT_HELP_PATH ),
+                            listener ),
+                executor ) );
+
+        return CompletableFuture.allOf( futures.toArray( new CompletableFuture< ? >[ futures.size() ] ) )
+                .thenApply( ignored -> {
+                    final List< ResourceLoadTime > loadTimes = new ArrayList<>( futures.size() );
+                    for ( final CompletableFuture< ResourceLoadTime > future : futures ) {
+                        loadTimes.add( future.join() );
+                    }
+                    return Collections.unmodifiableList( loadTimes );
+                } );
+    }
+
+    private static ResourceLoadTime load( final String resourceName,
+                                          final ResourceLoader loader,
+                                          final Consumer< ResourceLoadTime > listener ) {
+        final long startNanos = System.nanoTime();
+        boolean loaded;
+        Exception exception = null;
+        try {
+            loaded = loader.load();
+        }
+        catch ( final Exception ex ) {
+            // A missing or broken resource must not stop the other preloads.
+            loaded = false;
+            exception = ex;
+        }
+
+        final ResourceLoadTime loadTime = new ResourceLoadTime( resourceName,
+                                                                System.nanoTime() - startNanos,
+                                                                loaded,
+                                                                exception );
+        if ( listener != null ) {
+            listener.accept( loadTime );
+        }
+        return loadTime;
+    }
+
+    /**
+     * This is a resource loader that may fail with a checked exception.
+     */
+    @FunctionalInterface
+    private interface ResourceLoader {
+        boolean load() throws Exception;
+    }
+
+    /**
+     * This is the outcome of preloading a single resource.
+     */
+    public static final class ResourceLoadTime {
+
+        private final String    resourceName;
+        private final long      loadTimeNanos;
+        private final boolean   loaded;
+        private final Exception exception;
+
+        ResourceLoadTime( final String pResourceName,
+                          final long pLoadTimeNanos,
+                          final boolean pLoaded,
+                          final Exception pException ) {
+            resourceName = pResourceName;
+            loadTimeNanos = pLoadTimeNanos;
+            loaded = pLoaded;
+            exception = pException;
+        }
+
+        public String getResourceName() {
+            return resourceName;
+        }
+
+        public long getLoadTimeNanos() {
+            return loadTimeNanos;
+        }
+
+        public double getLoadTimeMilliseconds() {
+            return loadTimeNanos * 1.0e-6d;
+        }
+
+        /**
+         * Returns whether the resource was found and loaded.
+         *
+         * @return {@code true} if the resource is now in the cache
+         */
+        public boolean isLoaded() {
+            return loaded;
+        }
+
+        /**
+         * Returns the exception that prevented loading, if any.
+         *
+         * @return The exception, or {@code null} if none was thrown
+         */
+        public Exception getException() {
+            return exception;
+        }
+
+        @SuppressWarnings("nls")
+        @Override
+        public String toString() {
+            return resourceName + ": " + ( loaded ? "loaded" : "not loaded" ) + " in "
+                    + String.format( Locale.ROOT, "%.3f", getLoadTimeMilliseconds() ) + " ms";
+        }
+    }
+}
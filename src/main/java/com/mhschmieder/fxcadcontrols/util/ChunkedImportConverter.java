@@ -0,0 +1,380 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxCadControls Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxCadControls Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxcadcontrols
+ */
+package com.mhschmieder.fxcadcontrols.util;
+
+import com.mhschmieder.fxcadcontrols.model.Extents2D;
+import javafx.application.Platform;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+/**
+ * {@code ChunkedImportConverter} converts the entities parsed from an imported
+ * drawing into graphical objects in parallel, by partitioning the entity list
+ * into chunks that are each converted on their own core of a fork-join pool.
+ * <p>
+ * Every chunk gathers its own converted objects, extents and per-layer object
+ * counts, without any sharing between threads; these are merged in entity
+ * order once all chunks are done, so that the GUI receives a single
+ * {@link ImportBatch} rather than an update per object.
+ * <p>
+ * NOTE: The entity converter is called concurrently, so it must not modify
+ *  shared state without synchronizing.
+ *
+ * @param <E>
+ *            The type of the parsed entities
+ * @param <R>
+ *            The type of the converted graphical objects
+ */
+public final class ChunkedImportConverter< E, R > {
+
+    // Number of entities per chunk, which keeps the per-chunk overhead small
+    // compared to the conversion work while still balancing the load.
+    public static final int CHUNK_SIZE_DEFAULT = 4096;
+
+    /**
+     * This is the conversion of a single entity.
+     *
+     * @param <E>
+     *            The type of the parsed entities
+     * @param <R>
+     *            The type of the converted graphical objects
+     */
+    public interface EntityConverter< E, R > {
+
+        /**
+         * Converts an entity into a graphical object.
+         *
+         * @param entity
+         *            The entity to convert
+         * @return The graphical object, or {@code null} to skip the entity
+         */
+        R convert( E entity );
+
+        /**
+         * Returns the layer of a converted object, for the layer statistics.
+         *
+         * @param converted
+         *            The converted object
+         * @return The layer name, or {@code null} if not on a named layer
+         */
+        String getLayerName( R converted );
+
+        /**
+         * Extends a bounding box by the extents of a converted object.
+         * <p>
+         * NOTE: The bounds are laid out as { minX, minY, maxX, maxY }, and are
+         *  supplied by the caller to avoid allocating an extents object per
+         *  converted object.
+         *
+         * @param converted
+         *            The converted object
+         * @param bounds
+         *            The bounding box to extend
+         */
+        void includeExtents( R converted, double[] bounds );
+    }
+
+    /**
+     * This is the merged outcome of a conversion, for a single GUI update.
+     *
+     * @param <R>
+     *            The type of the converted graphical objects
+     */
+    public static final class ImportBatch< R > {
+
+        private final List< R >              graphicalObjects;
+        private final Extents2D              extents;
+        private final Map< String, Integer > layerObjectCounts;
+        private final int                    numberOfSkippedEntities;
+
+        ImportBatch( final List< R > pGraphicalObjects,
+                     final Extents2D pExtents,
+                     final Map< String, Integer > pLayerObjectCounts,
+                     final int pNumberOfSkippedEntities ) {
+            graphicalObjects = Collections.unmodifiableList( pGraphicalObjects );
+            extents = pExtents;
+            layerObjectCounts = Collections.unmodifiableMap( pLayerObjectCounts );
+            numberOfSkippedEntities = pNumberOfSkippedEntities;
+        }
+
+        /**
+         * Returns the converted objects, in the order of their entities.
+         *
+         * @return The converted objects
+         */
+        public List< R > getGraphicalObjects() {
+            return graphicalObjects;
+        }
+
+        /**
+         * Returns the combined extents of the converted objects.
+         *
+         * @return The extents, or {@code null} if no object has any
+         */
+        public Extents2D getExtents() {
+            return extents;
+        }
+
+        /**
+         * Returns the number of converted objects per layer, sorted by layer
+         * name.
+         *
+         * @return The per-layer object counts
+         */
+        public Map< String, Integer > getLayerObjectCounts() {
+            return layerObjectCounts;
+        }
+
+        public int getNumberOfSkippedEntities() {
+            return numberOfSkippedEntities;
+        }
+    }
+
+    /*
+     * The partial outcome for one chunk, owned by the thread that converts it.
+     */
+    private static final class Chunk< R > {
+
+        final List< R >             graphicalObjects;
+        final double[]              bounds;
+        final Map< String, int[] >  layerObjectCounts;
+        int                         numberOfSkippedEntities;
+
+        Chunk( final int capacity ) {
+            graphicalObjects = new ArrayList<>( capacity );
+            bounds = new double[] {
+                    Double.POSITIVE_INFINITY,
+                    Double.POSITIVE_INFINITY,
+                    Double.NEGATIVE_INFINITY,
+                    Double.NEGATIVE_INFINITY };
+            layerObjectCounts = new HashMap<>();
+        }
+    }
+
+    private final EntityConverter< E, R > entityConverter;
+    private final ForkJoinPool            pool;
+    private final int                     chunkSize;
+
+    /**
+     * Constructor that uses the common fork-join pool and default chunk size.
+     *
+     * @param pEntityConverter
+     *            The conversion of a single entity
+     */
+    public ChunkedImportConverter( final EntityConverter< E, R > pEntityConverter ) {
+        this( pEntityConverter, ForkJoinPool.commonPool(), CHUNK_SIZE_DEFAULT );
+    }
+
+    /**
+     * Fully qualified constructor.
+     *
+     * @param pEntityConverter
+     *            The conversion of a single entity
+     * @param pPool
+     *            The fork-join pool to convert the chunks on
+     * @param pChunkSize
+     *            The number of entities per chunk
+     */
+    public ChunkedImportConverter( final EntityConverter< E, R > pEntityConverter,
+                                   final ForkJoinPool pPool,
+                                   final int pChunkSize ) {
+        if ( pChunkSize < 1 ) {
+            throw new IllegalArgumentException( "Chunk size must be positive: " //$NON-NLS-1$
+                    + pChunkSize );
+        }
+        entityConverter = pEntityConverter;
+        pool = pPool;
+        chunkSize = pChunkSize;
+    }
+
+    /**
+     * Converts all of the entities, blocking until the conversion is done.
+     * <p>
+     * NOTE: This must not be called on the JavaFX Application Thread for
+     *  large imports; use {@link #convertAsync} instead.
+     *
+     * @param entities
+     *            The parsed entities, which must not change during conversion
+     * @return The merged outcome of the conversion
+     */
+    public ImportBatch< R > convert( final List< ? extends E > entities ) {
+        // NOTE: The chunks index into the entity list, so a list without fast
+        //  random access, such as a linked list, is copied once up front
+        //  rather than walked from the start for every entity.
+        final List< ? extends E > randomAccessEntities = ( entities instanceof RandomAccess )
+            ? entities
+            : new ArrayList<>( entities );
+
+        final int numberOfEntities = randomAccessEntities.size();
+        final int numberOfChunks = ( numberOfEntities + chunkSize - 1 ) / chunkSize;
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        final Chunk< R >[] chunks = new Chunk[ numberOfChunks ];
+        if ( numberOfChunks == 1 ) {
+            // Not worth a trip through the pool.
+            chunks[ 0 ] = convertChunk( randomAccessEntities, 0, numberOfEntities );
+        }
+        else if ( numberOfChunks > 1 ) {
+            pool.invoke( new ChunkRangeAction( randomAccessEntities, chunks, 0, numberOfChunks ) );
+        }
+
+        return merge( chunks, numberOfEntities );
+    }
+
+    /**
+     * Converts all of the entities on the fork-join pool, and then hands the
+     * merged outcome to the GUI in a single update on the JavaFX Application
+     * Thread.
+     *
+     * @param entities
+     *            The parsed entities, which must not change during conversion
+     * @param batchHandler
+     *            The consumer of the merged outcome, called on the JavaFX
+     *            Application Thread
+     * @return A future that completes with the merged outcome, before it has
+     *         been handed to the GUI
+     */
+    public CompletableFuture< ImportBatch< R > > convertAsync( final List< ? extends E > entities,
+                                                               final Consumer< ImportBatch< R > > batchHandler ) {
+        return CompletableFuture.supplyAsync( () -> convert( entities ), pool )
+                .whenComplete( ( batch, throwable ) -> {
+                    if ( ( batch != null ) && ( batchHandler != null ) ) {
+                        Platform.runLater( () -> batchHandler.accept( batch ) );
+                    }
+                } );
+    }
+
+    /*
+     * Splits a range of chunk indices in half until a single chunk remains,
+     * which is then converted on the current worker.
+     */
+    private final class ChunkRangeAction extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final List< ? extends E > entities;
+        private final Chunk< R >[]        chunks;
+        private final int                 fromChunk;
+        private final int                 toChunk;
+
+        ChunkRangeAction( final List< ? extends E > pEntities,
+                          final Chunk< R >[] pChunks,
+                          final int pFromChunk,
+                          final int pToChunk ) {
+            entities = pEntities;
+            chunks = pChunks;
+            fromChunk = pFromChunk;
+            toChunk = pToChunk;
+        }
+
+        @Override
+        protected void compute() {
+            if ( toChunk - fromChunk == 1 ) {
+                final int fromEntity = fromChunk * chunkSize;
+                final int toEntity = Math.min( fromEntity + chunkSize, entities.size() );
+                chunks[ fromChunk ] = convertChunk( entities, fromEntity, toEntity );
+                return;
+            }
+
+            final int middleChunk = ( fromChunk + toChunk ) >>> 1;
+            invokeAll( new ChunkRangeAction( entities, chunks, fromChunk, middleChunk ),
+                       new ChunkRangeAction( entities, chunks, middleChunk, toChunk ) );
+        }
+    }
+
+    private Chunk< R > convertChunk( final List< ? extends E > entities,
+                                     final int fromEntity,
+                                     final int toEntity ) {
+        final Chunk< R > chunk = new Chunk<>( toEntity - fromEntity );
+        for ( int i = fromEntity; i < toEntity; i++ ) {
+            final R converted = entityConverter.convert( entities.get( i ) );
+            if ( converted == null ) {
+                chunk.numberOfSkippedEntities++;
+                continue;
+            }
+            chunk.graphicalObjects.add( converted );
+            entityConverter.includeExtents( converted, chunk.bounds );
+
+            final String layerName = entityConverter.getLayerName( converted );
+            if ( layerName != null ) {
+                final int[] count = chunk.layerObjectCounts.get( layerName );
+                if ( count != null ) {
+                    count[ 0 ]++;
+                }
+                else {
+                    chunk.layerObjectCounts.put( layerName, new int[] { 1 } );
+                }
+            }
+        }
+        return chunk;
+    }
+
+    private static < R > ImportBatch< R > merge( final Chunk< R >[] chunks,
+                                                 final int numberOfEntities ) {
+        final List< R > graphicalObjects = new ArrayList<>( numberOfEntities );
+        final Map< String, Integer > layerObjectCounts = new TreeMap<>();
+        double minX = Double.POSITIVE_INFINITY;
+        double minY = Double.POSITIVE_INFINITY;
+        double maxX = Double.NEGATIVE_INFINITY;
+        double maxY = Double.NEGATIVE_INFINITY;
+        int numberOfSkippedEntities = 0;
+
+        for ( final Chunk< R > chunk : chunks ) {
+            graphicalObjects.addAll( chunk.graphicalObjects );
+            minX = Math.min( minX, chunk.bounds[ 0 ] );
+            minY = Math.min( minY, chunk.bounds[ 1 ] );
+            maxX = Math.max( maxX, chunk.bounds[ 2 ] );
+            maxY = Math.max( maxY, chunk.bounds[ 3 ] );
+            for ( final Map.Entry< String, int[] > entry : chunk.layerObjectCounts.entrySet() ) {
+                layerObjectCounts.merge( entry.getKey(), entry.getValue()[ 0 ], Integer::sum );
+            }
+            numberOfSkippedEntities += chunk.numberOfSkippedEntities;
+        }
+
+        final Extents2D extents = ( ( minX <= maxX ) && ( minY <= maxY ) )
+            ? Extents2D.fromCorners( minX, minY, maxX, maxY )
+            : null;
+
+        return new ImportBatch<>( graphicalObjects,
+                                  extents,
+                                  layerObjectCounts,
+                                  numberOfSkippedEntities );
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxCadControls Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxCadControls Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxcadcontrols
+ */
+package com.mhschmieder.fxcadcontrols.util;
+
+import javafx.application.Platform;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * {@code CoalescingFxUpdater} marshals values from background threads to the
+ * JavaFX Application Thread, keeping only the latest value until the
+ * Application Thread gets to it.
+ * <p>
+ * However often a worker posts, at most one runnable is queued at a time, so
+ * a fast progress loop cannot flood the event queue; the consumer simply sees
+ * the most recent value when it runs.
+ *
+ * @param <T>
+ *            The type of the values to deliver, which must not be null
+ */
+public final class CoalescingFxUpdater< T > {
+
+    // The consumer that receives values on the JavaFX Application Thread.
+    private final Consumer< ? super T > consumer;
+
+    // The latest undelivered value; null when nothing is pending.
+    private final AtomicReference< T >  pendingValue;
+
+    public CoalescingFxUpdater( final Consumer< ? super T > pConsumer ) {
+        consumer = pConsumer;
+        pendingValue = new AtomicReference<>();
+    }
+
+    /**
+     * Posts a value for delivery, replacing any value that is still pending.
+     * May be called from any thread.
+     *
+     * @param value
+     *            The value to deliver, which must not be null
+     */
+    public void post( final T value ) {
+        if ( value == null ) {
+            throw new NullPointerException( "value" ); //$NON-NLS-1$
+        }
+
+        // Only the post that finds nothing pending needs to schedule delivery.
+        if ( pendingValue.getAndSet( value ) == null ) {
+            Platform.runLater( this::deliver );
+        }
+    }
+
+    /**
+     * Discards any value that has been posted but not yet delivered.
+     */
+    public void cancel() {
+        pendingValue.set( null );
+    }
+
+    private void deliver() {
+        final T value = pendingValue.getAndSet( null );
+        if ( value != null ) {
+            consumer.accept( value );
+        }
+    }
+}
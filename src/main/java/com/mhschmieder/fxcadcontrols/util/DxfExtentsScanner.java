@@ -0,0 +1,1120 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxCadControls Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxCadControls Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxcadcontrols
+ */
+package com.mhschmieder.fxcadcontrols.util;
+
+import com.mhschmieder.fxcadcontrols.model.DrawingLimitsProperties;
+import com.mhschmieder.fxcadcontrols.model.Extents2D;
+import com.mhschmieder.fxcadcontrols.model.ImportedGeometryBuffer;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CancellationException;
+
+/**
+ * {@code DxfExtentsScanner} is a streaming pre-scan of ASCII DXF files, which
+ * computes the extents of the drawing in a single pass over a memory-mapped
+ * file, without building any entities.
+ * <p>
+ * The coordinates of every entity in the ENTITIES section are accumulated
+ * from the point group codes (10-18 for X paired with 20-28 for Y) that hold
+ * positions for that type of entity, with circles and arcs extended by their
+ * radius, ellipses by their major axis, and images and wipeouts by the corners
+ * their U and V vectors span; direction vectors, such as those of MTEXT,
+ * XLINE, RAY and MLINE, the dummy point of an old-style POLYLINE and the
+ * elevation point of a HATCH are skipped. The header's $INSUNITS, $EXTMIN
+ * and $EXTMAX variables are reported as soon as the header has been read.
+ * Listeners are told about the extents found so far at regular intervals, so
+ * that an import preview can show Drawing Limits within seconds even for very
+ * large files. The scanned points can also be fed to a {@link GeometrySink},
+ * so that the preview geometry is captured in the same pass.
+ * <p>
+ * NOTE: Block definitions are not expanded, so block references only
+ *  contribute their insertion points, arcs contribute their full circle, and
+ *  ellipses contribute the circle around their major axis.
+ *  This is a preview; the full import computes exact extents.
+ */
+public final class DxfExtentsScanner {
+
+    // Size of each memory-mapped window onto the file.
+    public static final int  CHUNK_SIZE_DEFAULT                = 64 * 1024 * 1024;
+
+    // Number of bytes between progress reports.
+    public static final long PROGRESS_INTERVAL_BYTES_DEFAULT   = 4L * 1024L * 1024L;
+
+    // Number of bytes between checks for cancellation.
+    public static final int  CANCELLATION_CHECK_INTERVAL_BYTES = 64 * 1024;
+
+    // Value of $INSUNITS when the header does not specify it.
+    public static final int  INSUNITS_UNSPECIFIED              = -1;
+
+    // Only this many leading bytes of a line are kept, as longer values are
+    // text rather than keywords or numbers.
+    private static final int LINE_LENGTH_MAXIMUM              = 256;
+
+    private static final int NUMBER_OF_POINT_CODES            = 9;
+
+    // Flags for the point codes that hold positions, indexed from code 10.
+    private static final int ALL_POINT_CODES                  = ( 1 << NUMBER_OF_POINT_CODES ) - 1;
+
+    @SuppressWarnings("nls")
+    private static final byte[] BINARY_DXF_SENTINEL = "AutoCAD Binary DXF"
+            .getBytes( StandardCharsets.US_ASCII );
+
+    private static final byte[] SECTION   = ascii( "SECTION" ); //$NON-NLS-1$
+    private static final byte[] ENDSEC    = ascii( "ENDSEC" ); //$NON-NLS-1$
+    private static final byte[] EOF       = ascii( "EOF" ); //$NON-NLS-1$
+    private static final byte[] HEADER    = ascii( "HEADER" ); //$NON-NLS-1$
+    private static final byte[] ENTITIES  = ascii( "ENTITIES" ); //$NON-NLS-1$
+    private static final byte[] INSUNITS  = ascii( "$INSUNITS" ); //$NON-NLS-1$
+    private static final byte[] EXTMIN    = ascii( "$EXTMIN" ); //$NON-NLS-1$
+    private static final byte[] EXTMAX    = ascii( "$EXTMAX" ); //$NON-NLS-1$
+    private static final byte[] CIRCLE    = ascii( "CIRCLE" ); //$NON-NLS-1$
+    private static final byte[] ARC       = ascii( "ARC" ); //$NON-NLS-1$
+    private static final byte[] ELLIPSE   = ascii( "ELLIPSE" ); //$NON-NLS-1$
+    private static final byte[] POLYLINE  = ascii( "POLYLINE" ); //$NON-NLS-1$
+    private static final byte[] MTEXT     = ascii( "MTEXT" ); //$NON-NLS-1$
+    private static final byte[] XLINE     = ascii( "XLINE" ); //$NON-NLS-1$
+    private static final byte[] RAY       = ascii( "RAY" ); //$NON-NLS-1$
+    private static final byte[] TOLERANCE = ascii( "TOLERANCE" ); //$NON-NLS-1$
+    private static final byte[] SPLINE    = ascii( "SPLINE" ); //$NON-NLS-1$
+    private static final byte[] VERTEX    = ascii( "VERTEX" ); //$NON-NLS-1$
+    private static final byte[] SEQEND    = ascii( "SEQEND" ); //$NON-NLS-1$
+    private static final byte[] HATCH     = ascii( "HATCH" ); //$NON-NLS-1$
+    private static final byte[] MLINE     = ascii( "MLINE" ); //$NON-NLS-1$
+    private static final byte[] IMAGE     = ascii( "IMAGE" ); //$NON-NLS-1$
+    private static final byte[] WIPEOUT   = ascii( "WIPEOUT" ); //$NON-NLS-1$
+
+    // Exactly representable powers of ten, for the number parser.
+    private static final double[] POWERS_OF_TEN = {
+            1.0e0, 1.0e1, 1.0e2, 1.0e3, 1.0e4, 1.0e5, 1.0e6, 1.0e7, 1.0e8, 1.0e9, 1.0e10,
+            1.0e11, 1.0e12, 1.0e13, 1.0e14, 1.0e15, 1.0e16, 1.0e17, 1.0e18, 1.0e19,
+            1.0e20, 1.0e21, 1.0e22 };
+
+    private enum Section {
+        NONE, HEADER, ENTITIES, OTHER
+    }
+
+    private enum HeaderVariable {
+        NONE, INSUNITS, EXTMIN, EXTMAX
+    }
+
+    /*
+     * The kinds of entity whose point codes need special treatment, with the
+     * flags for the point codes that hold absolute positions.
+     */
+    private enum EntityType {
+        // Lines, polyline vertices, text, inserts, etc.: all points.
+        OTHER( ALL_POINT_CODES ),
+
+        // Circles and arcs: the center (10), extended by the radius (40).
+        CIRCULAR( 1 ),
+
+        // Ellipses: the center (10), extended by the major axis endpoint
+        // (11), which is relative to the center.
+        ELLIPSE( 1 ),
+
+        // Old-style polylines: the header's point (10) is a dummy that only
+        // carries the elevation; the vertices follow as VERTEX entities.
+        POLYLINE( 0 ),
+
+        // MTEXT, XLINE, RAY and TOLERANCE: 11 is a direction vector.
+        DIRECTIONAL( ALL_POINT_CODES & ~( 1 << 1 ) ),
+
+        // Splines: 12 and 13 are the start and end tangent vectors.
+        SPLINE( ALL_POINT_CODES & ~( ( 1 << 2 ) | ( 1 << 3 ) ) ),
+
+        // Hatches: all points, except that the first 10 is an elevation
+        // point, whose X and Y are always zero.
+        HATCH( ALL_POINT_CODES ),
+
+        // Multilines: 12 and 13 are the segment and miter direction vectors.
+        MLINE( ALL_POINT_CODES & ~( ( 1 << 2 ) | ( 1 << 3 ) ) ),
+
+        // Images and wipeouts: the insertion point (10), extended by the U
+        // (11) and V (12) pixel vectors times the size in pixels (13); the
+        // clip boundary (14) is in pixel coordinates.
+        RASTER( 1 );
+
+        final int positionCodeFlags;
+
+        EntityType( final int pPositionCodeFlags ) {
+            positionCodeFlags = pPositionCodeFlags;
+        }
+    }
+
+    /**
+     * This is the listener for the results of a scan as they become known.
+     * <p>
+     * NOTE: Listeners are called on the scanning thread.
+     */
+    public interface Listener {
+
+        /**
+         * Called once the header has been scanned.
+         *
+         * @param insUnits
+         *            The $INSUNITS code, or {@link #INSUNITS_UNSPECIFIED}
+         * @param headerExtents
+         *            The extents from $EXTMIN and $EXTMAX, or {@code null} if
+         *            absent or invalid
+         */
+        default void headerScanned( final int insUnits, final Extents2D headerExtents ) {}
+
+        /**
+         * Called at regular intervals, and at the end of the scan, with the
+         * extents of the entities scanned so far.
+         *
+         * @param extents
+         *            The extents of the entities scanned so far
+         * @param bytesScanned
+         *            The number of bytes scanned so far
+         * @param totalBytes
+         *            The size of the file, in bytes
+         */
+        default void extentsUpdated( final Extents2D extents,
+                                     final long bytesScanned,
+                                     final long totalBytes ) {}
+
+        /**
+         * Called frequently with the number of bytes scanned so far, right
+         * after checking for cancellation.
+         *
+         * @param bytesScanned
+         *            The number of bytes scanned so far
+         * @param totalBytes
+         *            The size of the file, in bytes
+         */
+        default void progressUpdated( final long bytesScanned, final long totalBytes ) {}
+
+        /**
+         * Returns whether the scan should stop, which is checked frequently
+         * so that cancelling never waits for the rest of a large file.
+         *
+         * @return {@code true} if the scan should be cancelled
+         */
+        default boolean isCancelled() {
+            return false;
+        }
+    }
+
+    /**
+     * This is the receiver for the geometry found by a scan, in the drawing's
+     * own units.
+     * <p>
+     * NOTE: Sinks are called on the scanning thread.
+     */
+    public interface GeometrySink {
+
+        /**
+         * Called when a new entity starts; the vertices of old-style polylines
+         * are kept with their polyline.
+         */
+        void beginPrimitive();
+
+        /**
+         * Called for each point of the current entity.
+         *
+         * @param x
+         *            The x-coordinate of the point
+         * @param y
+         *            The y-coordinate of the point
+         */
+        void addPoint( double x, double y );
+
+        /**
+         * Called for each circle or arc, instead of its center point.
+         *
+         * @param centerX
+         *            The x-coordinate of the center
+         * @param centerY
+         *            The y-coordinate of the center
+         * @param radius
+         *            The radius
+         */
+        void addCircle( double centerX, double centerY, double radius );
+    }
+
+    /**
+     * This is the outcome of a scan.
+     */
+    public static final class Result {
+
+        private final Extents2D entityExtents;
+        private final Extents2D headerExtents;
+        private final int       insUnits;
+        private final long      numberOfPoints;
+        private final long      bytesScanned;
+
+        Result( final Extents2D pEntityExtents,
+                final Extents2D pHeaderExtents,
+                final int pInsUnits,
+                final long pNumberOfPoints,
+                final long pBytesScanned ) {
+            entityExtents = pEntityExtents;
+            headerExtents = pHeaderExtents;
+            insUnits = pInsUnits;
+            numberOfPoints = pNumberOfPoints;
+            bytesScanned = pBytesScanned;
+        }
+
+        /**
+         * Returns the extents computed from the entities, or {@code null} if
+         * no entity coordinates were found.
+         *
+         * @return The extents of the entities
+         */
+        public Extents2D getEntityExtents() {
+            return entityExtents;
+        }
+
+        /**
+         * Returns the extents from $EXTMIN and $EXTMAX, which may be stale, or
+         * {@code null} if the header does not contain valid extents.
+         *
+         * @return The extents from the header
+         */
+        public Extents2D getHeaderExtents() {
+            return headerExtents;
+        }
+
+        /**
+         * Returns the best available extents: those of the entities if any
+         * were found, and otherwise those from the header.
+         *
+         * @return The drawing extents, or {@code null} if none are known
+         */
+        public Extents2D getExtents() {
+            return ( entityExtents != null ) ? entityExtents : headerExtents;
+        }
+
+        public int getInsUnits() {
+            return insUnits;
+        }
+
+        public boolean isInsUnitsSpecified() {
+            return insUnits != INSUNITS_UNSPECIFIED;
+        }
+
+        public long getNumberOfPoints() {
+            return numberOfPoints;
+        }
+
+        public long getBytesScanned() {
+            return bytesScanned;
+        }
+    }
+
+    private final int  chunkSize;
+    private final long progressIntervalBytes;
+
+    // Current line, truncated to the maximum length kept.
+    private final byte[] line;
+    private int          lineLength;
+    private long         lineNumber;
+
+    // Parser state.
+    private Section        section;
+    private boolean        sectionNamePending;
+    private boolean        expectingGroupCode;
+    private int            groupCode;
+    private HeaderVariable headerVariable;
+    private boolean        headerReported;
+    private boolean        done;
+    private GeometrySink   geometrySink;
+
+    // Header results.
+    private int    insUnits;
+    private double extMinX;
+    private double extMinY;
+    private double extMaxX;
+    private double extMaxY;
+
+    // Entity state: the type of entity, pending X coordinates per point code,
+    // the center of a circle, arc or ellipse or the insertion point of an
+    // image, whether a hatch's elevation point is still to come, and the
+    // pixel vectors of an image.
+    private EntityType     entityType;
+    private final double[] pendingX;
+    private int            pendingXFlags;
+    private boolean        centerKnown;
+    private double         centerX;
+    private double         centerY;
+    private boolean        elevationPointPending;
+    private int            pixelVectorFlags;
+    private double         pixelUX;
+    private double         pixelUY;
+    private double         pixelVX;
+    private double         pixelVY;
+
+    // Accumulated entity extents.
+    private double minX;
+    private double minY;
+    private double maxX;
+    private double maxY;
+    private long   numberOfPoints;
+
+    /**
+     * Default constructor.
+     */
+    public DxfExtentsScanner() {
+        this( CHUNK_SIZE_DEFAULT, PROGRESS_INTERVAL_BYTES_DEFAULT );
+    }
+
+    /**
+     * Constructor for tuning the mapping window and progress interval.
+     *
+     * @param pChunkSize
+     *            The size of each memory-mapped window onto the file
+     * @param pProgressIntervalBytes
+     *            The number of bytes between progress reports
+     */
+    public DxfExtentsScanner( final int pChunkSize, final long pProgressIntervalBytes ) {
+        chunkSize = Math.max( 4096, pChunkSize );
+        progressIntervalBytes = Math.max( 1L, pProgressIntervalBytes );
+
+        line = new byte[ LINE_LENGTH_MAXIMUM ];
+        pendingX = new double[ NUMBER_OF_POINT_CODES ];
+    }
+
+    /**
+     * Scans a DXF file for its extents and units, and sets the Drawing Limits
+     * progressively from the extents found so far, as well as from the final
+     * result, if the Drawing Limits are in auto-sync mode.
+     * <p>
+     * The extents are converted from the drawing's $INSUNITS to the working
+     * units of the Drawing Limits as soon as the header has been read, the
+     * same way as for a full graphics import.
+     * <p>
+     * NOTE: This is meant to be called on a background thread; the Drawing
+     *  Limits are only ever updated on the JavaFX Application Thread.
+     *
+     * @param dxfPath
+     *            The path to the ASCII DXF file
+     * @param drawingLimits
+     *            The Drawing Limits to populate
+     * @return The outcome of the scan, in the drawing's own units
+     * @throws IOException
+     *             If the file cannot be read or is not an ASCII DXF file
+     */
+    public static Result scanInto( final Path dxfPath,
+                                   final DrawingLimitsProperties drawingLimits )
+            throws IOException {
+        final CoalescingFxUpdater< Extents2D > drawingLimitsUpdater = new CoalescingFxUpdater<>(
+                extents -> {
+                    if ( drawingLimits.isAutoSync() ) {
+                        drawingLimits.apply( extents );
+                    }
+                } );
+
+        final Result result = new DxfExtentsScanner().scan( dxfPath, new Listener() {
+            // The factor from drawing units to working units, once known.
+            private double drawingLimitsScale = 1.0d;
+
+            @Override
+            public void headerScanned( final int pInsUnits, final Extents2D headerExtents ) {
+                drawingLimitsScale = DxfInsUnits.getScaleFactor(
+                        pInsUnits,
+                        ImportedGeometryBuffer.WORKING_INS_UNITS );
+                if ( headerExtents != null ) {
+                    drawingLimitsUpdater.post( scaleExtents( headerExtents, drawingLimitsScale ) );
+                }
+            }
+
+            @Override
+            public void extentsUpdated( final Extents2D extents,
+                                        final long bytesScanned,
+                                        final long totalBytes ) {
+                drawingLimitsUpdater.post( scaleExtents( extents, drawingLimitsScale ) );
+            }
+        } );
+
+        if ( result.getExtents() != null ) {
+            drawingLimitsUpdater.post( scaleExtents(
+                    result.getExtents(),
+                    DxfInsUnits.getScaleFactor( result.getInsUnits(),
+                                                ImportedGeometryBuffer.WORKING_INS_UNITS ) ) );
+        }
+
+        return result;
+    }
+
+    private static Extents2D scaleExtents( final Extents2D extents, final double scale ) {
+        return ( scale == 1.0d )
+            ? extents
+            : Extents2D.fromCorners( extents.getMinX() * scale,
+                                     extents.getMinY() * scale,
+                                     extents.getMaxX() * scale,
+                                     extents.getMaxY() * scale );
+    }
+
+    /**
+     * Scans a DXF file into a geometry buffer, in the drawing's own units, and
+     * sets the buffer's header units, which are also its default source units.
+     * <p>
+     * NOTE: Once filled, the buffer rescales the preview geometry and Drawing
+     *  Limits for any other Distance Unit without reading the file again.
+     *
+     * @param dxfPath
+     *            The path to the ASCII DXF file
+     * @param geometryBuffer
+     *            The buffer to fill, which is cleared first
+     * @return The outcome of the scan
+     * @throws IOException
+     *             If the file cannot be read or is not an ASCII DXF file
+     */
+    public static Result scanInto( final Path dxfPath,
+                                   final ImportedGeometryBuffer geometryBuffer )
+            throws IOException {
+        geometryBuffer.clear();
+        final Result result = new DxfExtentsScanner().scan( dxfPath, null, geometryBuffer );
+        geometryBuffer.setHeaderInsUnits( result.getInsUnits() );
+        return result;
+    }
+
+    /**
+     * Scans a DXF file for its extents and units.
+     * <p>
+     * NOTE: A scanner is not thread-safe, but may be reused for later scans.
+     *
+     * @param dxfPath
+     *            The path to the ASCII DXF file
+     * @param listener
+     *            The listener for results as they become known, or
+     *            {@code null}
+     * @return The outcome of the scan
+     * @throws IOException
+     *             If the file cannot be read or is not an ASCII DXF file
+     */
+    public Result scan( final Path dxfPath, final Listener listener ) throws IOException {
+        return scan( dxfPath, listener, null );
+    }
+
+    /**
+     * Scans a DXF file for its extents and units, passing the geometry found
+     * to a sink along the way.
+     *
+     * @param dxfPath
+     *            The path to the ASCII DXF file
+     * @param listener
+     *            The listener for results as they become known, or
+     *            {@code null}
+     * @param sink
+     *            The receiver of the scanned geometry, or {@code null}
+     * @return The outcome of the scan
+     * @throws IOException
+     *             If the file cannot be read or is not an ASCII DXF file
+     * @throws CancellationException
+     *             If the listener cancelled the scan
+     */
+    public Result scan( final Path dxfPath,
+                        final Listener listener,
+                        final GeometrySink sink ) throws IOException {
+        reset();
+        geometrySink = sink;
+        try {
+            return scanFile( dxfPath, listener );
+        }
+        finally {
+            geometrySink = null;
+        }
+    }
+
+    private Result scanFile( final Path dxfPath, final Listener listener ) throws IOException {
+        try ( final FileChannel channel = FileChannel.open( dxfPath, StandardOpenOption.READ ) ) {
+            final long totalBytes = channel.size();
+            long nextProgressPosition = progressIntervalBytes;
+            long nextCancellationCheckPosition = 0L;
+            long position = 0L;
+
+            while ( ( position < totalBytes ) && !done ) {
+                final long windowSize = Math.min( chunkSize, totalBytes - position );
+                final MappedByteBuffer window = channel.map( FileChannel.MapMode.READ_ONLY,
+                                                             position,
+                                                             windowSize );
+                if ( position == 0L ) {
+                    checkNotBinary( window, dxfPath );
+                }
+
+                final int limit = ( int ) windowSize;
+                for ( int i = 0; ( i < limit ) && !done; i++ ) {
+                    final byte b = window.get( i );
+                    if ( b == '\n' ) {
+                        endLine( listener );
+
+                        final long bytesScanned = position + i + 1;
+                        if ( ( bytesScanned >= nextCancellationCheckPosition )
+                                && ( listener != null ) ) {
+                            nextCancellationCheckPosition = bytesScanned
+                                    + CANCELLATION_CHECK_INTERVAL_BYTES;
+                            if ( listener.isCancelled() ) {
+                                throw new CancellationException();
+                            }
+                            listener.progressUpdated( bytesScanned, totalBytes );
+                        }
+                        if ( ( bytesScanned >= nextProgressPosition ) && ( listener != null ) ) {
+                            nextProgressPosition = bytesScanned + progressIntervalBytes;
+                            if ( numberOfPoints > 0L ) {
+                                listener.extentsUpdated( getEntityExtents(),
+                                                         bytesScanned,
+                                                         totalBytes );
+                            }
+                        }
+                    }
+                    else if ( lineLength < LINE_LENGTH_MAXIMUM ) {
+                        line[ lineLength++ ] = b;
+                    }
+                }
+
+                position += windowSize;
+            }
+
+            // A final line need not be terminated.
+            if ( !done && ( lineLength > 0 ) ) {
+                endLine( listener );
+            }
+            reportHeader( listener );
+
+            final Extents2D entityExtents = ( numberOfPoints > 0L ) ? getEntityExtents() : null;
+            if ( ( entityExtents != null ) && ( listener != null ) ) {
+                listener.extentsUpdated( entityExtents, totalBytes, totalBytes );
+            }
+            if ( listener != null ) {
+                listener.progressUpdated( totalBytes, totalBytes );
+            }
+
+            return new Result( entityExtents,
+                               getHeaderExtents(),
+                               insUnits,
+                               numberOfPoints,
+                               Math.min( position, totalBytes ) );
+        }
+    }
+
+    private void reset() {
+        lineLength = 0;
+        lineNumber = 0L;
+
+        section = Section.NONE;
+        sectionNamePending = false;
+        expectingGroupCode = true;
+        groupCode = -1;
+        headerVariable = HeaderVariable.NONE;
+        headerReported = false;
+        done = false;
+
+        insUnits = INSUNITS_UNSPECIFIED;
+        extMinX = Double.NaN;
+        extMinY = Double.NaN;
+        extMaxX = Double.NaN;
+        extMaxY = Double.NaN;
+
+        entityType = EntityType.OTHER;
+        pendingXFlags = 0;
+        centerKnown = false;
+        elevationPointPending = false;
+        pixelVectorFlags = 0;
+
+        minX = Double.POSITIVE_INFINITY;
+        minY = Double.POSITIVE_INFINITY;
+        maxX = Double.NEGATIVE_INFINITY;
+        maxY = Double.NEGATIVE_INFINITY;
+        numberOfPoints = 0L;
+    }
+
+    private static void checkNotBinary( final MappedByteBuffer window, final Path dxfPath )
+            throws IOException {
+        if ( window.limit() < BINARY_DXF_SENTINEL.length ) {
+            return;
+        }
+        for ( int i = 0; i < BINARY_DXF_SENTINEL.length; i++ ) {
+            if ( window.get( i ) != BINARY_DXF_SENTINEL[ i ] ) {
+                return;
+            }
+        }
+        throw new IOException( "Binary DXF is not supported by the extents pre-scan: " //$NON-NLS-1$
+                + dxfPath );
+    }
+
+    private void endLine( final Listener listener ) throws IOException {
+        lineNumber++;
+
+        // Trim the line, including any carriage return.
+        int start = 0;
+        int end = lineLength;
+        while ( ( start < end ) && ( line[ start ] <= ' ' ) ) {
+            start++;
+        }
+        while ( ( end > start ) && ( line[ end - 1 ] <= ' ' ) ) {
+            end--;
+        }
+        lineLength = 0;
+
+        if ( expectingGroupCode ) {
+            groupCode = parseGroupCode( start, end );
+            expectingGroupCode = false;
+        }
+        else {
+            handleValue( start, end, listener );
+            expectingGroupCode = true;
+        }
+    }
+
+    private void handleValue( final int start, final int end, final Listener listener ) {
+        if ( groupCode == 0 ) {
+            // Every structural change starts with group code 0.
+            if ( matches( start, end, SECTION ) ) {
+                sectionNamePending = true;
+            }
+            else if ( matches( start, end, ENDSEC ) ) {
+                if ( section == Section.HEADER ) {
+                    reportHeader( listener );
+                }
+                section = Section.NONE;
+            }
+            else if ( matches( start, end, EOF ) ) {
+                done = true;
+            }
+            else if ( section == Section.ENTITIES ) {
+                startEntity( start, end );
+            }
+            return;
+        }
+
+        if ( sectionNamePending && ( groupCode == 2 ) ) {
+            sectionNamePending = false;
+            if ( matches( start, end, HEADER ) ) {
+                section = Section.HEADER;
+            }
+            else if ( matches( start, end, ENTITIES ) ) {
+                section = Section.ENTITIES;
+                startEntity( start, start );
+            }
+            else {
+                section = Section.OTHER;
+            }
+            return;
+        }
+
+        switch ( section ) {
+        case HEADER:
+            handleHeaderValue( start, end );
+            break;
+        case ENTITIES:
+            handleEntityValue( start, end );
+            break;
+        case NONE:
+        case OTHER:
+        default:
+            break;
+        }
+    }
+
+    private void handleHeaderValue( final int start, final int end ) {
+        if ( groupCode == 9 ) {
+            if ( matches( start, end, INSUNITS ) ) {
+                headerVariable = HeaderVariable.INSUNITS;
+            }
+            else if ( matches( start, end, EXTMIN ) ) {
+                headerVariable = HeaderVariable.EXTMIN;
+            }
+            else if ( matches( start, end, EXTMAX ) ) {
+                headerVariable = HeaderVariable.EXTMAX;
+            }
+            else {
+                headerVariable = HeaderVariable.NONE;
+            }
+            return;
+        }
+
+        switch ( headerVariable ) {
+        case INSUNITS:
+            if ( groupCode == 70 ) {
+                final double value = parseDouble( start, end );
+                if ( !Double.isNaN( value ) ) {
+                    insUnits = ( int ) value;
+                }
+            }
+            break;
+        case EXTMIN:
+            if ( groupCode == 10 ) {
+                extMinX = parseDouble( start, end );
+            }
+            else if ( groupCode == 20 ) {
+                extMinY = parseDouble( start, end );
+            }
+            break;
+        case EXTMAX:
+            if ( groupCode == 10 ) {
+                extMaxX = parseDouble( start, end );
+            }
+            else if ( groupCode == 20 ) {
+                extMaxY = parseDouble( start, end );
+            }
+            break;
+        case NONE:
+        default:
+            break;
+        }
+    }
+
+    private void startEntity( final int start, final int end ) {
+        pendingXFlags = 0;
+        centerKnown = false;
+        pixelVectorFlags = 0;
+        entityType = getEntityType( start, end );
+        elevationPointPending = entityType == EntityType.HATCH;
+
+        if ( ( geometrySink != null ) && !matches( start, end, VERTEX )
+                && !matches( start, end, SEQEND ) ) {
+            geometrySink.beginPrimitive();
+        }
+    }
+
+    private EntityType getEntityType( final int start, final int end ) {
+        if ( matches( start, end, CIRCLE ) || matches( start, end, ARC ) ) {
+            return EntityType.CIRCULAR;
+        }
+        if ( matches( start, end, ELLIPSE ) ) {
+            return EntityType.ELLIPSE;
+        }
+        if ( matches( start, end, POLYLINE ) ) {
+            return EntityType.POLYLINE;
+        }
+        if ( matches( start, end, MTEXT ) || matches( start, end, XLINE )
+                || matches( start, end, RAY ) || matches( start, end, TOLERANCE ) ) {
+            return EntityType.DIRECTIONAL;
+        }
+        if ( matches( start, end, SPLINE ) ) {
+            return EntityType.SPLINE;
+        }
+        if ( matches( start, end, HATCH ) ) {
+            return EntityType.HATCH;
+        }
+        if ( matches( start, end, MLINE ) ) {
+            return EntityType.MLINE;
+        }
+        if ( matches( start, end, IMAGE ) || matches( start, end, WIPEOUT ) ) {
+            return EntityType.RASTER;
+        }
+        return EntityType.OTHER;
+    }
+
+    private void handleEntityValue( final int start, final int end ) {
+        if ( ( groupCode >= 10 ) && ( groupCode <= 18 ) ) {
+            final int pointIndex = groupCode - 10;
+            final double x = parseDouble( start, end );
+            if ( !Double.isNaN( x ) ) {
+                pendingX[ pointIndex ] = x;
+                pendingXFlags |= 1 << pointIndex;
+            }
+        }
+        else if ( ( groupCode >= 20 ) && ( groupCode <= 28 ) ) {
+            final int pointIndex = groupCode - 20;
+            final int pointFlag = 1 << pointIndex;
+            if ( ( pendingXFlags & pointFlag ) == 0 ) {
+                return;
+            }
+            pendingXFlags &= ~pointFlag;
+
+            final double y = parseDouble( start, end );
+            if ( Double.isNaN( y ) ) {
+                return;
+            }
+
+            if ( ( entityType == EntityType.HATCH ) && ( pointIndex == 0 )
+                    && elevationPointPending ) {
+                elevationPointPending = false;
+                return;
+            }
+
+            if ( ( entityType.positionCodeFlags & pointFlag ) == 0 ) {
+                // The major axis endpoint of an ellipse is relative to its
+                // center, and bounds the ellipse in every direction.
+                if ( ( entityType == EntityType.ELLIPSE ) && ( pointIndex == 1 )
+                        && centerKnown ) {
+                    includeCircle( Math.hypot( pendingX[ pointIndex ], y ) );
+                }
+                else if ( entityType == EntityType.RASTER ) {
+                    handlePixelVector( pointIndex, pendingX[ pointIndex ], y );
+                }
+                return;
+            }
+
+            includePoint( pendingX[ pointIndex ], y );
+
+            if ( ( ( entityType == EntityType.CIRCULAR ) || ( entityType == EntityType.ELLIPSE ) )
+                    && ( pointIndex == 0 ) ) {
+                centerX = pendingX[ pointIndex ];
+                centerY = y;
+                centerKnown = true;
+            }
+            else {
+                if ( entityType == EntityType.RASTER ) {
+                    centerX = pendingX[ pointIndex ];
+                    centerY = y;
+                    centerKnown = true;
+                }
+                if ( geometrySink != null ) {
+                    geometrySink.addPoint( pendingX[ pointIndex ], y );
+                }
+            }
+        }
+        else if ( ( groupCode == 40 ) && ( entityType == EntityType.CIRCULAR ) && centerKnown ) {
+            final double radius = Math.abs( parseDouble( start, end ) );
+            if ( !Double.isNaN( radius ) ) {
+                includeCircle( radius );
+            }
+        }
+    }
+
+    /*
+     * Records the U (11) and V (12) pixel vectors of an image or wipeout, and
+     * once its size in pixels (13) is known, includes the corners they span
+     * from the insertion point.
+     */
+    private void handlePixelVector( final int pointIndex, final double x, final double y ) {
+        switch ( pointIndex ) {
+        case 1:
+            pixelUX = x;
+            pixelUY = y;
+            pixelVectorFlags |= 1;
+            break;
+        case 2:
+            pixelVX = x;
+            pixelVY = y;
+            pixelVectorFlags |= 2;
+            break;
+        case 3:
+            if ( centerKnown && ( pixelVectorFlags == 3 ) ) {
+                final double uX = pixelUX * x;
+                final double uY = pixelUY * x;
+                final double vX = pixelVX * y;
+                final double vY = pixelVY * y;
+                includeCorner( centerX + uX, centerY + uY );
+                includeCorner( centerX + uX + vX, centerY + uY + vY );
+                includeCorner( centerX + vX, centerY + vY );
+                includeCorner( centerX, centerY );
+            }
+            break;
+        default:
+            break;
+        }
+    }
+
+    private void includeCorner( final double x, final double y ) {
+        includePoint( x, y );
+        if ( geometrySink != null ) {
+            geometrySink.addPoint( x, y );
+        }
+    }
+
+    private void includeCircle( final double radius ) {
+        includePoint( centerX - radius, centerY - radius );
+        includePoint( centerX + radius, centerY + radius );
+        if ( geometrySink != null ) {
+            geometrySink.addCircle( centerX, centerY, radius );
+        }
+    }
+
+    private void includePoint( final double x, final double y ) {
+        if ( x < minX ) {
+            minX = x;
+        }
+        if ( x > maxX ) {
+            maxX = x;
+        }
+        if ( y < minY ) {
+            minY = y;
+        }
+        if ( y > maxY ) {
+            maxY = y;
+        }
+        numberOfPoints++;
+    }
+
+    private void reportHeader( final Listener listener ) {
+        if ( headerReported ) {
+            return;
+        }
+        headerReported = true;
+
+        if ( listener != null ) {
+            listener.headerScanned( insUnits, getHeaderExtents() );
+        }
+    }
+
+    private Extents2D getEntityExtents() {
+        return Extents2D.fromCorners( minX, minY, maxX, maxY );
+    }
+
+    private Extents2D getHeaderExtents() {
+        // AutoCAD writes inverted sentinel extents for empty drawings.
+        if ( Double.isNaN( extMinX ) || Double.isNaN( extMinY )
+                || Double.isNaN( extMaxX ) || Double.isNaN( extMaxY )
+                || ( extMinX > extMaxX ) || ( extMinY > extMaxY ) ) {
+            return null;
+        }
+        return Extents2D.fromCorners( extMinX, extMinY, extMaxX, extMaxY );
+    }
+
+    private boolean matches( final int start, final int end, final byte[] keyword ) {
+        if ( ( end - start ) != keyword.length ) {
+            return false;
+        }
+        for ( int i = 0; i < keyword.length; i++ ) {
+            if ( line[ start + i ] != keyword[ i ] ) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int parseGroupCode( final int start, final int end ) throws IOException {
+        if ( start == end ) {
+            throw new IOException( "Missing DXF group code at line " + lineNumber ); //$NON-NLS-1$
+        }
+
+        int value = 0;
+        boolean negative = false;
+        int i = start;
+        if ( line[ i ] == '-' ) {
+            negative = true;
+            i++;
+        }
+        for ( ; i < end; i++ ) {
+            final int digit = line[ i ] - '0';
+            if ( ( digit < 0 ) || ( digit > 9 ) ) {
+                throw new IOException( "Malformed DXF group code at line " + lineNumber ); //$NON-NLS-1$
+            }
+            value = ( value * 10 ) + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    /*
+     * Parses a decimal number without allocating, returning NaN if the text
+     * is not a number. Up to 18 significant digits are kept, which is more
+     * than a double can represent anyway.
+     */
+    private double parseDouble( final int start, final int end ) {
+        int i = start;
+        if ( i == end ) {
+            return Double.NaN;
+        }
+
+        boolean negative = false;
+        if ( ( line[ i ] == '-' ) || ( line[ i ] == '+' ) ) {
+            negative = line[ i ] == '-';
+            i++;
+        }
+
+        long mantissa = 0L;
+        int numberOfDigits = 0;
+        int decimalExponent = 0;
+        boolean anyDigits = false;
+
+        for ( ; ( i < end ) && ( line[ i ] >= '0' ) && ( line[ i ] <= '9' ); i++ ) {
+            anyDigits = true;
+            if ( numberOfDigits < 18 ) {
+                mantissa = ( mantissa * 10L ) + ( line[ i ] - '0' );
+                if ( mantissa != 0L ) {
+                    numberOfDigits++;
+                }
+            }
+            else {
+                decimalExponent++;
+            }
+        }
+
+        if ( ( i < end ) && ( line[ i ] == '.' ) ) {
+            for ( i++; ( i < end ) && ( line[ i ] >= '0' ) && ( line[ i ] <= '9' ); i++ ) {
+                anyDigits = true;
+                if ( numberOfDigits < 18 ) {
+                    mantissa = ( mantissa * 10L ) + ( line[ i ] - '0' );
+                    if ( mantissa != 0L ) {
+                        numberOfDigits++;
+                    }
+                    decimalExponent--;
+                }
+            }
+        }
+
+        if ( !anyDigits ) {
+            return Double.NaN;
+        }
+
+        if ( ( i < end ) && ( ( line[ i ] == 'e' ) || ( line[ i ] == 'E' ) ) ) {
+            i++;
+            boolean negativeExponent = false;
+            if ( ( i < end ) && ( ( line[ i ] == '-' ) || ( line[ i ] == '+' ) ) ) {
+                negativeExponent = line[ i ] == '-';
+                i++;
+            }
+            int exponent = 0;
+            boolean anyExponentDigits = false;
+            for ( ; ( i < end ) && ( line[ i ] >= '0' ) && ( line[ i ] <= '9' ); i++ ) {
+                anyExponentDigits = true;
+                if ( exponent < 10000 ) {
+                    exponent = ( exponent * 10 ) + ( line[ i ] - '0' );
+                }
+            }
+            if ( !anyExponentDigits ) {
+                return Double.NaN;
+            }
+            decimalExponent += negativeExponent ? -exponent : exponent;
+        }
+
+        if ( i != end ) {
+            return Double.NaN;
+        }
+
+        double value = mantissa;
+        if ( ( decimalExponent < 0 ) && ( -decimalExponent < POWERS_OF_TEN.length ) ) {
+            value /= POWERS_OF_TEN[ -decimalExponent ];
+        }
+        else if ( ( decimalExponent > 0 ) && ( decimalExponent < POWERS_OF_TEN.length ) ) {
+            value *= POWERS_OF_TEN[ decimalExponent ];
+        }
+        else if ( decimalExponent != 0 ) {
+            value *= Math.pow( 10.0d, decimalExponent );
+        }
+
+        return negative ? -value : value;
+    }
+
+    private static byte[] ascii( final String text ) {
+        return text.getBytes( StandardCharsets.US_ASCII );
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxCadControls Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxCadControls Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxcadcontrols
+ */
+package com.mhschmieder.fxcadcontrols.util;
+
+/**
+ * {@code DxfInsUnits} is a utility class for the drawing units codes used by
+ * the DXF header variable $INSUNITS, and for the scale factors between them.
+ * <p>
+ * NOTE: Codes outside the table, and code 0 (Unitless), have no length in
+ *  meters, so conversions involving them leave coordinates unscaled.
+ */
+public final class DxfInsUnits {
+
+    public static final int UNITLESS     = 0;
+    public static final int INCHES       = 1;
+    public static final int FEET         = 2;
+    public static final int MILES        = 3;
+    public static final int MILLIMETERS  = 4;
+    public static final int CENTIMETERS  = 5;
+    public static final int METERS       = 6;
+    public static final int KILOMETERS   = 7;
+
+    /**
+     * Meters per drawing unit, indexed by $INSUNITS code.
+     */
+    private static final double[] METERS_PER_UNIT = {
+            Double.NaN,                   // 0: Unitless
+            0.0254d,                      // 1: Inches
+            0.3048d,                      // 2: Feet
+            1609.344d,                    // 3: Miles
+            1.0e-3d,                      // 4: Millimeters
+            1.0e-2d,                      // 5: Centimeters
+            1.0d,                         // 6: Meters
+            1.0e3d,                       // 7: Kilometers
+            2.54e-8d,                     // 8: Microinches
+            2.54e-5d,                     // 9: Mils
+            0.9144d,                      // 10: Yards
+            1.0e-10d,                     // 11: Angstroms
+            1.0e-9d,                      // 12: Nanometers
+            1.0e-6d,                      // 13: Microns
+            1.0e-1d,                      // 14: Decimeters
+            1.0e1d,                       // 15: Decameters
+            1.0e2d,                       // 16: Hectometers
+            1.0e9d,                       // 17: Gigameters
+            1.495978707e11d,              // 18: Astronomical Units
+            9.4607304725808e15d,          // 19: Light Years
+            3.0856775814913673e16d,       // 20: Parsecs
+            1200.0d / 3937.0d,            // 21: US Survey Feet
+            100.0d / 3937.0d,             // 22: US Survey Inches
+            3600.0d / 3937.0d,            // 23: US Survey Yards
+            6336000.0d / 3937.0d };       // 24: US Survey Miles
+
+    /**
+     * The default constructor is disabled, as this is a static utilities
+     * class.
+     */
+    private DxfInsUnits() {}
+
+    /**
+     * Returns whether an $INSUNITS code denotes a known unit of length.
+     *
+     * @param insUnits
+     *            The $INSUNITS code
+     * @return {@code true} if the code has a length in meters
+     */
+    public static boolean isLengthUnit( final int insUnits ) {
+        return !Double.isNaN( getMetersPerUnit( insUnits ) );
+    }
+
+    /**
+     * Returns the length of one drawing unit in meters.
+     *
+     * @param insUnits
+     *            The $INSUNITS code
+     * @return The number of meters per unit, or {@code NaN} if the code is
+     *         Unitless or unknown
+     */
+    public static double getMetersPerUnit( final int insUnits ) {
+        return ( ( insUnits >= 0 ) && ( insUnits < METERS_PER_UNIT.length ) )
+            ? METERS_PER_UNIT[ insUnits ]
+            : Double.NaN;
+    }
+
+    /**
+     * Returns the factor that converts coordinates from one unit to another.
+     *
+     * @param fromInsUnits
+     *            The $INSUNITS code the coordinates are expressed in
+     * @param toInsUnits
+     *            The $INSUNITS code to convert the coordinates to
+     * @return The scale factor, or 1 if either unit has no length
+     */
+    public static double getScaleFactor( final int fromInsUnits, final int toInsUnits ) {
+        final double fromMeters = getMetersPerUnit( fromInsUnits );
+        final double toMeters = getMetersPerUnit( toInsUnits );
+        if ( Double.isNaN( fromMeters ) || Double.isNaN( toMeters )
+                || ( fromInsUnits == toInsUnits ) ) {
+            return 1.0d;
+        }
+        return fromMeters / toMeters;
+    }
+}
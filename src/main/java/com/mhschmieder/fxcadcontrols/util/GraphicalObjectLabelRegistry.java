@@ -0,0 +1,124 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxCadControls Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxCadControls Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxcadcontrols
+ */
+package com.mhschmieder.fxcadcontrols.util;
+
+import com.mhschmieder.fxgraphics.LabelAssignable;
+import javafx.collections.ObservableList;
+
+import java.text.NumberFormat;
+
+/**
+ * This is an incrementally maintained registry of the labels in a collection
+ * of Graphical Objects, for guaranteeing label uniqueness in constant amortized
+ * time rather than by scanning the collection on every edit.
+ * <p>
+ * The labels are held in an {@link ObservableNameIndex}, which is kept current
+ * by listening to the observable list that backs the collection and to each
+ * object's label property.
+ * <p>
+ * Call {@link #dispose()} when the registry is no longer needed, to detach its
+ * listeners from the collection.
+ *
+ * @param <T>
+ *            The type of labeled object in the collection
+ */
+public final class GraphicalObjectLabelRegistry< T extends LabelAssignable > {
+
+    /** The labels currently in use. */
+    private final ObservableNameIndex< T > labels;
+
+    /**
+     * Fully qualified constructor.
+     *
+     * @param pLabeledObjects
+     *            The observable list of labeled objects to register
+     * @param pUniquefierNumberFormat
+     *            The number format to use for uniquefier appendices
+     */
+    public GraphicalObjectLabelRegistry( final ObservableList< T > pLabeledObjects,
+                                         final NumberFormat pUniquefierNumberFormat ) {
+        labels = new ObservableNameIndex<>( pLabeledObjects,
+                                            LabelAssignable::labelProperty,
+                                            pUniquefierNumberFormat );
+    }
+
+    /**
+     * Detaches this registry from the collection and from all of its objects.
+     */
+    public void dispose() {
+        labels.dispose();
+    }
+
+    public int size() {
+        return labels.size();
+    }
+
+    // Find out if the candidate label is unique.
+    public boolean isLabelUnique( final String labelCandidate ) {
+        return !labels.isNameInUse( labelCandidate, null );
+    }
+
+    // Find out if the candidate label is unique, other than for the label of
+    // the object currently being edited.
+    public boolean isLabelUnique( final String labelCandidate,
+                                  final String labelCurrent ) {
+        return !labels.isNameInUse( labelCandidate, labelCurrent );
+    }
+
+    /**
+     * Returns a label for a new object, made unique by a uniquefier appendix
+     * if the supplied stem is already in use.
+     *
+     * @param labelStem
+     *            The base label for new objects
+     * @return A label that is not used by any object in the collection
+     */
+    public String getNewLabelDefault( final String labelStem ) {
+        return labels.getUniqueName( labelStem, null );
+    }
+
+    // Get a unique label from the candidate label.
+    // NOTE: The default label is only used when the edited label is blank.
+    public String getUniqueLabel( final String labelCandidate,
+                                  final String labelDefault,
+                                  final String labelCurrent ) {
+        final String labelStem = ( labelCandidate == null ) || labelCandidate.trim().isEmpty()
+            ? labelDefault
+            : labelCandidate;
+
+        // An object may always keep its own label.
+        if ( labelStem.equals( labelCurrent ) ) {
+            return labelStem;
+        }
+
+        return labels.getUniqueName( labelStem, labelCurrent );
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxCadControls Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxCadControls Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxcadcontrols
+ */
+package com.mhschmieder.fxcadcontrols.util;
+
+import com.mhschmieder.fxcadcontrols.model.DrawingLimitsProperties;
+import com.mhschmieder.fxcadcontrols.model.Extents2D;
+import com.mhschmieder.fxcadcontrols.model.ImportedGeometryBuffer;
+import javafx.concurrent.Task;
+
+import java.nio.file.Path;
+import java.util.concurrent.CancellationException;
+
+/**
+ * {@code GraphicsImportTask} reads a DXF file for the Graphics Import dialog
+ * off the JavaFX Application Thread, and can be cancelled at any point while
+ * the file is being parsed.
+ * <p>
+ * The parsed geometry is returned as an {@link ImportedGeometryBuffer}, in
+ * the drawing's own units, with the header's units as its default source
+ * units; the Drawing Limits are in the working unit. Progress is published at a bounded rate, and the
+ * Drawing Limits are updated from the extents found so far through a
+ * {@link CoalescingFxUpdater}, so that the event queue is never flooded
+ * however fast the file is read.
+ * <p>
+ * When the task is cancelled or fails, the partially filled buffer is
+ * released, and the Drawing Limits are restored to what they were before the
+ * import, so that picking the wrong file leaves nothing behind.
+ * <p>
+ * NOTE: The task must be constructed on the JavaFX Application Thread, and
+ *  run on a background thread, usually via an executor.
+ */
+public final class GraphicsImportTask extends Task< ImportedGeometryBuffer > {
+
+    // Minimum time between progress updates, which bounds them to 20 Hz.
+    public static final long PROGRESS_UPDATE_INTERVAL_NANOS = 50_000_000L;
+
+    private final Path                            dxfPath;
+    private final DrawingLimitsProperties         drawingLimits;
+
+    // The Drawing Limits as they were before the import, for restoring them.
+    private final Extents2D                       originalDrawingLimits;
+
+    private final CoalescingFxUpdater< Extents2D > drawingLimitsUpdater;
+
+    // Worker-side state for rate-bounding the progress updates.
+    private long                                  lastProgressUpdateNanos;
+
+    // Worker-side factor from the header's units to the working unit.
+    private double                                drawingLimitsScale;
+
+    /**
+     * Constructor for an import that does not update any Drawing Limits.
+     *
+     * @param pDxfPath
+     *            The path to the ASCII DXF file
+     */
+    public GraphicsImportTask( final Path pDxfPath ) {
+        this( pDxfPath, null );
+    }
+
+    /**
+     * Constructor for an import that progressively updates the Drawing
+     * Limits, if they are in auto-sync mode.
+     *
+     * @param pDxfPath
+     *            The path to the ASCII DXF file
+     * @param pDrawingLimits
+     *            The Drawing Limits to update, or {@code null}
+     */
+    public GraphicsImportTask( final Path pDxfPath,
+                               final DrawingLimitsProperties pDrawingLimits ) {
+        dxfPath = pDxfPath;
+        drawingLimits = pDrawingLimits;
+        originalDrawingLimits = ( pDrawingLimits != null ) ? pDrawingLimits.snapshot() : null;
+
+        drawingLimitsUpdater = new CoalescingFxUpdater<>( extents -> {
+            // A stale update may still arrive after cancellation.
+            if ( !isCancelled() && drawingLimits.isAutoSync() ) {
+                drawingLimits.apply( extents );
+            }
+        } );
+
+        updateTitle( pDxfPath.getFileName().toString() );
+    }
+
+    public Path getDxfPath() {
+        return dxfPath;
+    }
+
+    @Override
+    protected ImportedGeometryBuffer call() throws Exception {
+        final ImportedGeometryBuffer geometryBuffer = new ImportedGeometryBuffer();
+        lastProgressUpdateNanos = System.nanoTime();
+        drawingLimitsScale = 1.0d;
+        updateProgress( -1L, 1L );
+
+        try {
+            final DxfExtentsScanner.Result result = new DxfExtentsScanner()
+                    .scan( dxfPath, new DxfExtentsScanner.Listener() {
+                        @Override
+                        public void headerScanned( final int insUnits,
+                                                   final Extents2D headerExtents ) {
+                            drawingLimitsScale = DxfInsUnits.getScaleFactor(
+                                    insUnits,
+                                    ImportedGeometryBuffer.WORKING_INS_UNITS );
+                            if ( headerExtents != null ) {
+                                postDrawingLimits( headerExtents );
+                            }
+                        }
+
+                        @Override
+                        public void extentsUpdated( final Extents2D extents,
+                                                    final long bytesScanned,
+                                                    final long totalBytes ) {
+                            postDrawingLimits( extents );
+                        }
+
+                        @Override
+                        public void progressUpdated( final long bytesScanned,
+                                                     final long totalBytes ) {
+                            postProgress( bytesScanned, totalBytes );
+                        }
+
+                        @Override
+                        public boolean isCancelled() {
+                            return GraphicsImportTask.this.isCancelled();
+                        }
+                    }, geometryBuffer );
+
+            // The scan may have finished just as it was cancelled.
+            if ( isCancelled() ) {
+                throw new CancellationException();
+            }
+
+            geometryBuffer.setHeaderInsUnits( result.getInsUnits() );
+            return geometryBuffer;
+        }
+        catch ( final Exception e ) {
+            // Partial geometry from a large file must not linger until the
+            // task itself is collected.
+            geometryBuffer.release();
+            throw e;
+        }
+    }
+
+    private void postDrawingLimits( final Extents2D extents ) {
+        if ( drawingLimits != null ) {
+            final double scale = drawingLimitsScale;
+            drawingLimitsUpdater.post( ( scale == 1.0d )
+                ? extents
+                : Extents2D.fromCorners( extents.getMinX() * scale,
+                                         extents.getMinY() * scale,
+                                         extents.getMaxX() * scale,
+                                         extents.getMaxY() * scale ) );
+        }
+    }
+
+    private void postProgress( final long bytesScanned, final long totalBytes ) {
+        // Task already coalesces progress updates that are not yet delivered;
+        // this also bounds their rate, so the dialog is not redrawn needlessly.
+        final long nanos = System.nanoTime();
+        if ( ( bytesScanned < totalBytes )
+                && ( ( nanos - lastProgressUpdateNanos ) < PROGRESS_UPDATE_INTERVAL_NANOS ) ) {
+            return;
+        }
+        lastProgressUpdateNanos = nanos;
+        updateProgress( bytesScanned, totalBytes );
+    }
+
+    @Override
+    protected void cancelled() {
+        super.cancelled();
+        restoreDrawingLimits();
+    }
+
+    @Override
+    protected void failed() {
+        super.failed();
+        restoreDrawingLimits();
+    }
+
+    private void restoreDrawingLimits() {
+        drawingLimitsUpdater.cancel();
+        if ( ( originalDrawingLimits != null ) && drawingLimits.isAutoSync() ) {
+            drawingLimits.apply( originalDrawingLimits );
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxCadControls Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxCadControls Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxcadcontrols
+ */
+package com.mhschmieder.fxcadcontrols.util;
+
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+import java.text.NumberFormat;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * This is an incrementally maintained index of the names of the elements in an
+ * observable list, for guaranteeing name uniqueness in constant amortized time
+ * rather than by scanning the list on every edit.
+ * <p>
+ * The names are held in a {@link UniqueNameIndex}, which is kept current by
+ * listening to the list and to each element's name, as supplied by the name
+ * accessor.
+ * <p>
+ * Call {@link #dispose()} when the index is no longer needed, to detach its
+ * listeners from the list and its elements.
+ *
+ * @param <T>
+ *            The type of named element in the list
+ */
+public final class ObservableNameIndex< T > {
+
+    /** The observable list of elements whose names are indexed. */
+    private final ObservableList< T >                                 elements;
+
+    /** The accessor for the observable name of each element. */
+    private final Function< ? super T, ? extends ObservableValue< String > > nameAccessor;
+
+    /** The names currently in use. */
+    private final UniqueNameIndex                                     names;
+
+    private final ChangeListener< String >                            nameListener;
+    private final ListChangeListener< T >                             elementsListener;
+
+    /**
+     * Fully qualified constructor.
+     *
+     * @param pElements
+     *            The observable list of elements whose names are to be indexed
+     * @param pNameAccessor
+     *            The accessor for the observable name of each element
+     * @param pUniquefierNumberFormat
+     *            The number format to use for uniquefier appendices
+     */
+    public ObservableNameIndex( final ObservableList< T > pElements,
+                                final Function< ? super T, ? extends ObservableValue< String > > pNameAccessor,
+                                final NumberFormat pUniquefierNumberFormat ) {
+        elements = pElements;
+        nameAccessor = pNameAccessor;
+        names = new UniqueNameIndex( pUniquefierNumberFormat );
+
+        nameListener = ( observable, oldValue, newValue ) -> {
+            names.removeName( oldValue );
+            names.addName( newValue );
+        };
+
+        elementsListener = change -> {
+            while ( change.next() ) {
+                removeElements( change.getRemoved() );
+                if ( change.wasAdded() ) {
+                    addElements( change.getAddedSubList() );
+                }
+            }
+        };
+
+        addElements( elements );
+        elements.addListener( elementsListener );
+    }
+
+    /**
+     * Detaches this index from the list and from all of its elements.
+     */
+    public void dispose() {
+        elements.removeListener( elementsListener );
+        for ( final T element : elements ) {
+            nameAccessor.apply( element ).removeListener( nameListener );
+        }
+
+        names.clear();
+    }
+
+    private void addElements( final List< ? extends T > addedElements ) {
+        for ( final T element : addedElements ) {
+            final ObservableValue< String > name = nameAccessor.apply( element );
+            name.addListener( nameListener );
+            names.addName( name.getValue() );
+        }
+    }
+
+    private void removeElements( final List< ? extends T > removedElements ) {
+        for ( final T element : removedElements ) {
+            final ObservableValue< String > name = nameAccessor.apply( element );
+            name.removeListener( nameListener );
+            names.removeName( name.getValue() );
+        }
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    /**
+     * Returns whether the supplied name is used by any element, not counting
+     * one use of the name to exclude.
+     *
+     * @param name
+     *            The name to look up
+     * @param nameToExclude
+     *            The name of the element being edited, or {@code null}
+     * @return {@code true} if the name is used by another element
+     */
+    public boolean isNameInUse( final String name, final String nameToExclude ) {
+        return names.isNameInUse( name, nameToExclude );
+    }
+
+    /**
+     * Returns the base name if it is not used by another element, or else the
+     * base name with the lowest free uniquefier appendix.
+     *
+     * @param baseName
+     *            The name to make unique
+     * @param nameToExclude
+     *            The name of the element being edited, or {@code null}
+     * @return A name that is not used by any other element
+     */
+    public String getUniqueName( final String baseName, final String nameToExclude ) {
+        return names.getUniqueName( baseName, nameToExclude );
+    }
+}
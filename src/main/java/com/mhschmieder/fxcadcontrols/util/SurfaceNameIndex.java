@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxCadControls Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxCadControls Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxcadcontrols
+ */
+package com.mhschmieder.fxcadcontrols.util;
+
+import com.mhschmieder.fxcadcontrols.model.SurfaceProperties;
+import javafx.collections.ObservableList;
+
+import java.text.NumberFormat;
+
+/**
+ * This is an incrementally maintained index of the Surface Names in a list of
+ * {@link SurfaceProperties}, for guaranteeing their uniqueness in constant
+ * amortized time even with thousands of Surfaces.
+ * <p>
+ * The names are held in an {@link ObservableNameIndex}, which is kept current
+ * by listening to the list and to each Surface's name property.
+ * <p>
+ * Call {@link #dispose()} when the index is no longer needed, to detach its
+ * listeners from the Surfaces.
+ */
+public final class SurfaceNameIndex {
+
+    /** The Surface Names currently in use. */
+    private final ObservableNameIndex< SurfaceProperties > surfaceNames;
+
+    /**
+     * Fully qualified constructor.
+     *
+     * @param pSurfacePropertiesList
+     *            The list of Surface Properties whose names are to be indexed
+     * @param pUniquefierNumberFormat
+     *            The number format to use for uniquefier appendices
+     */
+    public SurfaceNameIndex( final ObservableList< SurfaceProperties > pSurfacePropertiesList,
+                             final NumberFormat pUniquefierNumberFormat ) {
+        surfaceNames = new ObservableNameIndex<>( pSurfacePropertiesList,
+                                                  SurfaceProperties::surfaceNameProperty,
+                                                  pUniquefierNumberFormat );
+    }
+
+    /**
+     * Detaches this index from the list and from all of its Surfaces.
+     */
+    public void dispose() {
+        surfaceNames.dispose();
+    }
+
+    public boolean isSurfaceNameUnique( final SurfaceProperties surfacePropertiesToExclude,
+                                        final String surfaceNameCandidate ) {
+        final String surfaceNameToExclude = ( surfacePropertiesToExclude != null )
+            ? surfacePropertiesToExclude.getSurfaceName()
+            : null;
+        return !surfaceNames.isNameInUse( surfaceNameCandidate, surfaceNameToExclude );
+    }
+
+    public String getUniqueSurfaceName( final SurfaceProperties surfacePropertiesToExclude,
+                                        final String surfaceNameCandidate ) {
+        final String surfaceNameDefault = SurfacePropertiesNameManager
+                .getSurfaceNameDefault( surfacePropertiesToExclude );
+        return getUniqueSurfaceName( surfacePropertiesToExclude,
+                                     surfaceNameCandidate,
+                                     surfaceNameDefault );
+    }
+
+    // Get a unique Surface Name from the candidate name.
+    public String getUniqueSurfaceName( final SurfaceProperties surfacePropertiesToExclude,
+                                        final String surfaceNameCandidate,
+                                        final String surfaceNameDefault ) {
+        // Try to use the specified Surface Name if it exists and is non-empty;
+        // otherwise apply the pre-assigned default name for the current
+        // Surface, leaving unadorned if possible.
+        final String baseSurfaceName = ( surfaceNameCandidate == null )
+                || surfaceNameCandidate.trim().isEmpty()
+                    ? surfaceNameDefault
+                    : surfaceNameCandidate;
+        final String surfaceNameToExclude = ( surfacePropertiesToExclude != null )
+            ? surfacePropertiesToExclude.getSurfaceName()
+            : null;
+
+        return surfaceNames.getUniqueName( baseSurfaceName, surfaceNameToExclude );
+    }
+}
@@ -35,9 +35,15 @@ import com.mhschmieder.jcommons.text.TextUtilities;
 import javafx.collections.ObservableList;
 
 import java.text.NumberFormat;
+import java.util.HashSet;
+import java.util.Set;
 
 /**
  * This is a manager class for Surface Names, to guarantee their uniqueness.
+ * <p>
+ * NOTE: These static methods take a snapshot of the Surface Names on every
+ *  call; when names are checked repeatedly against the same list, such as
+ *  while editing, use a {@link SurfaceNameIndex} instead.
  */
 public final class SurfacePropertiesNameManager {
 
@@ -58,23 +64,33 @@ public final class SurfacePropertiesNameManager {
             final String surfaceNameCandidate,
             final int uniquefierNumber,
             final NumberFormat uniquefierNumberFormat ) {
-        // Recursively search for (and enforce) name-uniqueness of the supplied
-        // Surface Name candidate and uniquefier number.
-        final String uniquefierAppendix = TextUtilities.getUniquefierAppendix(
-                uniquefierNumber,
-                uniquefierNumberFormat );
-        String uniqueSurfaceName = surfaceNameCandidate + uniquefierAppendix;
-        if ( !isSurfaceNameUnique( surfacePropertiesList,
-                                   surfacePropertiesToExclude,
-                                   uniqueSurfaceName ) ) {
-            // Recursively guarantee the appendix-adjusted name is also unique,
-            // using a hopefully-unique number as the appendix.
-            uniqueSurfaceName = getUniqueSurfaceName(
-                    surfacePropertiesList,
-                    surfacePropertiesToExclude,
-                    surfaceNameCandidate,
-                    uniquefierNumber + 1,
-                    uniquefierNumberFormat );
+        // Gather the names of all the other Surfaces once, so that each
+        // candidate check is a hash lookup rather than a scan of the list.
+        final int surfaceToExcludeIndex
+                = surfacePropertiesToExclude.getSurfaceNumber() - 1;
+        final Set< String > surfaceNamesInUse = new HashSet<>(
+                2 * surfacePropertiesList.size() );
+        for ( int surfaceIndex = 0;
+              surfaceIndex < surfacePropertiesList.size();
+              surfaceIndex++ ) {
+            if ( surfaceIndex != surfaceToExcludeIndex ) {
+                surfaceNamesInUse.add(
+                        surfacePropertiesList.get( surfaceIndex ).getSurfaceName() );
+            }
+        }
+
+        // Iteratively search for (and enforce) name-uniqueness of the supplied
+        // Surface Name candidate, using increasing uniquefier numbers as the
+        // appendix until the appendix-adjusted name is unique.
+        int uniquefierNumberCandidate = uniquefierNumber;
+        String uniqueSurfaceName = surfaceNameCandidate
+                + TextUtilities.getUniquefierAppendix( uniquefierNumberCandidate,
+                                                       uniquefierNumberFormat );
+        while ( surfaceNamesInUse.contains( uniqueSurfaceName ) ) {
+            uniquefierNumberCandidate++;
+            uniqueSurfaceName = surfaceNameCandidate
+                    + TextUtilities.getUniquefierAppendix( uniquefierNumberCandidate,
+                                                           uniquefierNumberFormat );
         }
 
         return uniqueSurfaceName;
@@ -0,0 +1,255 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxCadControls Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxCadControls Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxcadcontrols
+ */
+package com.mhschmieder.fxcadcontrols.util;
+
+import com.mhschmieder.jcommons.text.TextUtilities;
+
+import java.text.NumberFormat;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * This is an incrementally maintained index of the names in use in some
+ * collection, for making names unique with a uniquefier appendix in constant
+ * amortized time, however many names are in use.
+ * <p>
+ * The index counts each name in use. It also remembers, per base name, the
+ * lowest uniquefier number that might still be free, so that repeated requests
+ * for unique variants of the same base name do not re-check all of the lower
+ * numbers that are known to be taken. Each name that a search steps over is
+ * recorded with its base name and number, so that when such a name goes out of
+ * use, only the hint for its own base name is lowered, to the freed number.
+ * <p>
+ * NOTE: The owner of the index is responsible for keeping it current, by
+ *  calling {@link #addName(String)} and {@link #removeName(String)} as names
+ *  come into and go out of use.
+ */
+public final class UniqueNameIndex {
+
+    /**
+     * A base name and uniquefier number that produced a name which was found
+     * to be taken; a name may be the variant of more than one base name.
+     */
+    private static final class TakenUniquefier {
+        final String    baseName;
+        int             uniquefierNumber;
+        TakenUniquefier next;
+
+        TakenUniquefier( final String pBaseName,
+                         final int pUniquefierNumber,
+                         final TakenUniquefier pNext ) {
+            baseName = pBaseName;
+            uniquefierNumber = pUniquefierNumber;
+            next = pNext;
+        }
+    }
+
+    /** Number format used for locale-specific uniquefier appendices. */
+    private final NumberFormat                   uniquefierNumberFormat;
+
+    /** The number of users of each name currently in use. */
+    private final Map< String, Integer >         nameCounts;
+
+    /** The lowest uniquefier number that might be free, per base name. */
+    private final Map< String, Integer >         uniquefierNumberHints;
+
+    /** The base names and numbers of names that searches stepped over. */
+    private final Map< String, TakenUniquefier > takenUniquefiers;
+
+    /**
+     * Fully qualified constructor.
+     *
+     * @param pUniquefierNumberFormat
+     *            The number format to use for uniquefier appendices
+     */
+    public UniqueNameIndex( final NumberFormat pUniquefierNumberFormat ) {
+        uniquefierNumberFormat = pUniquefierNumberFormat;
+
+        nameCounts = new HashMap<>();
+        uniquefierNumberHints = new HashMap<>();
+        takenUniquefiers = new HashMap<>();
+    }
+
+    /**
+     * Removes all names and hints from the index.
+     */
+    public void clear() {
+        nameCounts.clear();
+        uniquefierNumberHints.clear();
+        takenUniquefiers.clear();
+    }
+
+    /**
+     * Returns the number of distinct names in use.
+     *
+     * @return The number of distinct names in use
+     */
+    public int size() {
+        return nameCounts.size();
+    }
+
+    /**
+     * Records one more use of a name.
+     *
+     * @param name
+     *            The name that came into use; ignored if {@code null}
+     */
+    public void addName( final String name ) {
+        if ( name != null ) {
+            nameCounts.merge( name, 1, Integer::sum );
+        }
+    }
+
+    /**
+     * Records one less use of a name, lowering the uniquefier hints of the
+     * base names that it was found to be a taken variant of, once it is no
+     * longer in use at all.
+     *
+     * @param name
+     *            The name that went out of use; ignored if {@code null}
+     */
+    public void removeName( final String name ) {
+        if ( name == null ) {
+            return;
+        }
+
+        final Integer count = nameCounts.get( name );
+        if ( count == null ) {
+            return;
+        }
+        if ( count > 1 ) {
+            nameCounts.put( name, count - 1 );
+            return;
+        }
+        nameCounts.remove( name );
+
+        // Only the base names that this name was a taken variant of can now
+        // have a lower free uniquefier number.
+        for ( TakenUniquefier taken = takenUniquefiers.remove( name );
+              taken != null;
+              taken = taken.next ) {
+            final Integer hint = uniquefierNumberHints.get( taken.baseName );
+            if ( ( hint != null ) && ( taken.uniquefierNumber < hint ) ) {
+                uniquefierNumberHints.put( taken.baseName, taken.uniquefierNumber );
+            }
+        }
+    }
+
+    /**
+     * Returns whether a name is in use, other than by the user of the name to
+     * exclude.
+     *
+     * @param name
+     *            The name to check
+     * @param nameToExclude
+     *            The current name of the user being edited, whose own use of
+     *            that name does not count, or {@code null}
+     * @return {@code true} if the name is in use by some other user
+     */
+    public boolean isNameInUse( final String name, final String nameToExclude ) {
+        final Integer count = nameCounts.get( name );
+        if ( count == null ) {
+            return false;
+        }
+
+        // The excluded user's own name does not count as a collision.
+        return ( count > 1 ) || !name.equals( nameToExclude );
+    }
+
+    /**
+     * Returns the base name if it is not in use, and otherwise the base name
+     * with the lowest uniquefier appendix that makes it unique.
+     *
+     * @param baseName
+     *            The name to make unique
+     * @param nameToExclude
+     *            The current name of the user being edited, which it may keep,
+     *            or {@code null}
+     * @return A name that is not in use by any other user
+     */
+    public String getUniqueName( final String baseName, final String nameToExclude ) {
+        int uniquefierNumber = uniquefierNumberHints.getOrDefault( baseName, 0 );
+
+        // The excluded user may hold a variant of this base name below the
+        // hint, which it is allowed to keep.
+        if ( ( uniquefierNumber > 0 ) && ( nameToExclude != null )
+                && nameToExclude.startsWith( baseName ) ) {
+            final int excludedNumber = getTakenUniquefierNumber( nameToExclude, baseName );
+            uniquefierNumber = ( excludedNumber >= 0 )
+                ? Math.min( uniquefierNumber, excludedNumber )
+                : 0;
+        }
+
+        String uniqueName = makeName( baseName, uniquefierNumber );
+        while ( isNameInUse( uniqueName, nameToExclude ) ) {
+            recordTakenUniquefier( uniqueName, baseName, uniquefierNumber );
+            uniquefierNumber++;
+            uniqueName = makeName( baseName, uniquefierNumber );
+        }
+
+        // The excluded name is in use by its owner, so it cannot raise the
+        // hint for everybody else.
+        if ( !uniqueName.equals( nameToExclude ) ) {
+            uniquefierNumberHints.put( baseName, uniquefierNumber );
+        }
+
+        return uniqueName;
+    }
+
+    private String makeName( final String baseName, final int uniquefierNumber ) {
+        return baseName
+                + TextUtilities.getUniquefierAppendix( uniquefierNumber, uniquefierNumberFormat );
+    }
+
+    private int getTakenUniquefierNumber( final String name, final String baseName ) {
+        for ( TakenUniquefier taken = takenUniquefiers.get( name );
+              taken != null;
+              taken = taken.next ) {
+            if ( taken.baseName.equals( baseName ) ) {
+                return taken.uniquefierNumber;
+            }
+        }
+        return -1;
+    }
+
+    private void recordTakenUniquefier( final String name,
+                                        final String baseName,
+                                        final int uniquefierNumber ) {
+        final TakenUniquefier first = takenUniquefiers.get( name );
+        for ( TakenUniquefier taken = first; taken != null; taken = taken.next ) {
+            if ( taken.baseName.equals( baseName ) ) {
+                taken.uniquefierNumber = uniquefierNumber;
+                return;
+            }
+        }
+        takenUniquefiers.put( name, new TakenUniquefier( baseName, uniquefierNumber, first ) );
+    }
+}
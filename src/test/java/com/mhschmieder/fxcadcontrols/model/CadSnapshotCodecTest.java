@@ -0,0 +1,189 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxCadControls Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxCadControls Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxcadcontrols
+ */
+package com.mhschmieder.fxcadcontrols.model;
+
+import com.mhschmieder.fxgraphics.geometry.SurfaceMaterial;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CadSnapshotCodecTest {
+
+    // Names with two-, three- and four-byte UTF-8 sequences, and a repeat
+    // that is equal but not identical.
+    private static final String[] SURFACE_NAMES = {
+            "B\u00FChne", //$NON-NLS-1$
+            "Stage \u2603", //$NON-NLS-1$
+            "Clef \uD834\uDD1E", //$NON-NLS-1$
+            new String( "B\u00FChne" ) }; //$NON-NLS-1$
+
+    private static Region2DProperties makeRegion() {
+        final Region2DProperties region = new Region2DProperties( 1.0d, 2.0d, 30.0d, 15.0d, 4 );
+        region.setSurfaceProperties( 0, SURFACE_NAMES[ 0 ], false, SurfaceMaterial.RIGID );
+        region.setSurfaceProperties( 1, SURFACE_NAMES[ 1 ], true, SurfaceMaterial.BRICK_WALL_PAINTED_LB );
+        region.setSurfaceProperties( 2, SURFACE_NAMES[ 2 ], false, SurfaceMaterial.RIGID );
+        region.setSurfaceProperties( 3, SURFACE_NAMES[ 3 ], false, null );
+        return region;
+    }
+
+    @Test
+    public void regionRoundTripsUtf8Names() throws IOException {
+        final CadSnapshotCodec codec = new CadSnapshotCodec();
+        final Region2DProperties region = makeRegion();
+
+        final ByteBuffer buffer = ByteBuffer.allocate( codec.getEncodedLength( region ) );
+        codec.write( region, buffer );
+        assertEquals( 0, buffer.remaining() );
+        buffer.flip();
+
+        final Region2DProperties restoredRegion = new Region2DProperties();
+        codec.readInto( buffer, restoredRegion );
+        assertEquals( 0, buffer.remaining() );
+
+        assertEquals( 30.0d, restoredRegion.getWidth() );
+        final List< SurfaceProperties > surfaces = restoredRegion.getSurfaceProperties();
+        assertEquals( SURFACE_NAMES.length, surfaces.size() );
+        for ( int i = 0; i < SURFACE_NAMES.length; i++ ) {
+            final SurfaceProperties surface = region.getSurfaceProperties().get( i );
+            final SurfaceProperties restoredSurface = surfaces.get( i );
+            assertEquals( SURFACE_NAMES[ i ], restoredSurface.getSurfaceName() );
+            assertEquals( surface.isSurfaceBypassed(), restoredSurface.isSurfaceBypassed() );
+            assertEquals( surface.getSurfaceMaterial(), restoredSurface.getSurfaceMaterial() );
+        }
+    }
+
+    @Test
+    public void namesAreEncodedAsUtf8() {
+        final CadSnapshotCodec codec = new CadSnapshotCodec();
+        final Region2DProperties region = makeRegion();
+        final ByteBuffer buffer = ByteBuffer.allocate( codec.getEncodedLength( region ) );
+        codec.write( region, buffer );
+
+        // The repeated name is only encoded once.
+        final String text = new String( buffer.array(), StandardCharsets.UTF_8 );
+        assertEquals( text.indexOf( SURFACE_NAMES[ 0 ] ), text.lastIndexOf( SURFACE_NAMES[ 0 ] ) );
+        assertEquals( 1, text.split( SURFACE_NAMES[ 2 ], -1 ).length - 1 );
+    }
+
+    @Test
+    public void unchangedNamesAreReused() throws IOException {
+        final CadSnapshotCodec codec = new CadSnapshotCodec();
+        final Region2DProperties region = makeRegion();
+        final ByteBuffer buffer = ByteBuffer.allocate( codec.getEncodedLength( region ) );
+        codec.write( region, buffer );
+        buffer.flip();
+
+        final String name = region.getSurfaceProperties().get( 2 ).getSurfaceName();
+        codec.readInto( buffer, region );
+        assertSame( name, region.getSurfaceProperties().get( 2 ).getSurfaceName() );
+    }
+
+    @Test
+    public void manyUniqueNamesRoundTripAcrossWrites() throws IOException {
+        // Thousands of unique names, with every hundredth surface repeating
+        // an earlier name and "Aa"/"BB" suffixes whose hash codes collide.
+        final int numberOfSurfaces = 5000;
+        final Region2DProperties region = new Region2DProperties( 0.0d,
+                                                                  0.0d,
+                                                                  10.0d,
+                                                                  10.0d,
+                                                                  numberOfSurfaces );
+        final String[] surfaceNames = new String[ numberOfSurfaces ];
+        for ( int i = 0; i < numberOfSurfaces; i++ ) {
+            surfaceNames[ i ] = ( ( i % 100 ) == 99 )
+                ? new String( surfaceNames[ i / 2 ] )
+                : "Surface " + ( i / 2 ) + ( ( ( i % 2 ) == 0 ) ? "Aa" : "BB" ); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+            region.setSurfaceProperties( i, surfaceNames[ i ], false, SurfaceMaterial.RIGID );
+        }
+
+        // A small write first, so the larger one reuses the codec's scratch.
+        final CadSnapshotCodec codec = new CadSnapshotCodec();
+        codec.write( makeRegion(), ByteBuffer.allocate( codec.getEncodedLength( makeRegion() ) ) );
+
+        for ( int pass = 0; pass < 2; pass++ ) {
+            final ByteBuffer buffer = ByteBuffer.allocate( codec.getEncodedLength( region ) );
+            codec.write( region, buffer );
+            assertEquals( 0, buffer.remaining() );
+            buffer.flip();
+
+            final Region2DProperties restoredRegion = new Region2DProperties();
+            codec.readInto( buffer, restoredRegion );
+            final List< SurfaceProperties > surfaces = restoredRegion.getSurfaceProperties();
+            assertEquals( numberOfSurfaces, surfaces.size() );
+            for ( int i = 0; i < numberOfSurfaces; i++ ) {
+                assertEquals( surfaceNames[ i ], surfaces.get( i ).getSurfaceName() );
+            }
+        }
+
+        // Each repeated name is only encoded once, so the snapshot is smaller
+        // than one in which every name is distinct.
+        final Region2DProperties distinctRegion = new Region2DProperties( 0.0d,
+                                                                          0.0d,
+                                                                          10.0d,
+                                                                          10.0d,
+                                                                          numberOfSurfaces );
+        for ( int i = 0; i < numberOfSurfaces; i++ ) {
+            distinctRegion.setSurfaceProperties( i,
+                                                 surfaceNames[ i ] + '#' + i,
+                                                 false,
+                                                 SurfaceMaterial.RIGID );
+        }
+        assertTrue( codec.getEncodedLength( region ) < codec.getEncodedLength( distinctRegion ) );
+    }
+
+    @Test
+    public void unknownMaterialIsRejected() {
+        final CadSnapshotCodec codec = new CadSnapshotCodec();
+        final Region2DProperties region = makeRegion();
+        final ByteBuffer buffer = ByteBuffer.allocate( codec.getEncodedLength( region ) );
+        codec.write( region, buffer );
+        buffer.flip();
+
+        // Rename the first material in the table, which follows the header,
+        // the extents and the material count.
+        final int firstMaterialNamePosition = 4 + 2 + ( 4 * 8 ) + 2 + 2;
+        buffer.put( firstMaterialNamePosition, ( byte ) 'X' );
+
+        final Region2DProperties restoredRegion = new Region2DProperties();
+        final String name = restoredRegion.getSurfaceProperties().get( 0 ).getSurfaceName();
+        assertThrows( IOException.class, () -> codec.readInto( buffer, restoredRegion ) );
+        assertEquals( 0, buffer.position() );
+        assertSame( name, restoredRegion.getSurfaceProperties().get( 0 ).getSurfaceName() );
+    }
+}
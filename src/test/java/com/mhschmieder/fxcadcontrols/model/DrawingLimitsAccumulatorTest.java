@@ -0,0 +1,161 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxCadControls Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxCadControls Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxcadcontrols
+ */
+package com.mhschmieder.fxcadcontrols.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DrawingLimitsAccumulatorTest {
+
+    private static void assertLimits( final double x,
+                                      final double y,
+                                      final double width,
+                                      final double height,
+                                      final DrawingLimitsProperties drawingLimits ) {
+        assertEquals( x, drawingLimits.getX() );
+        assertEquals( y, drawingLimits.getY() );
+        assertEquals( width, drawingLimits.getWidth() );
+        assertEquals( height, drawingLimits.getHeight() );
+    }
+
+    @Test
+    public void addSyncsTheEnvelope() {
+        final DrawingLimitsProperties drawingLimits = new DrawingLimitsProperties();
+        final DrawingLimitsAccumulator accumulator = new DrawingLimitsAccumulator( drawingLimits );
+        assertNull( accumulator.getEnvelope() );
+
+        accumulator.add( 0.0d, 0.0d, 10.0d, 5.0d );
+        accumulator.add( -2.0d, 1.0d, 4.0d, 8.0d );
+
+        assertEquals( 2, accumulator.getObjectCount() );
+        assertEquals( Extents2D.fromCorners( -2.0d, 0.0d, 10.0d, 8.0d ), accumulator.getEnvelope() );
+        assertLimits( -2.0d, 0.0d, 12.0d, 8.0d, drawingLimits );
+    }
+
+    @Test
+    public void removingTheExtremeShrinksTheEnvelope() {
+        final DrawingLimitsProperties drawingLimits = new DrawingLimitsProperties();
+        final DrawingLimitsAccumulator accumulator = new DrawingLimitsAccumulator( drawingLimits );
+        accumulator.add( 0.0d, 0.0d, 10.0d, 5.0d );
+        accumulator.add( -2.0d, 1.0d, 4.0d, 8.0d );
+        accumulator.add( -2.0d, 2.0d, 3.0d, 3.0d );
+
+        // One of two objects at the minimum x leaves the extreme in place.
+        accumulator.remove( -2.0d, 1.0d, 4.0d, 8.0d );
+        assertLimits( -2.0d, 0.0d, 12.0d, 5.0d, drawingLimits );
+
+        accumulator.remove( -2.0d, 2.0d, 3.0d, 3.0d );
+        assertLimits( 0.0d, 0.0d, 10.0d, 5.0d, drawingLimits );
+    }
+
+    @Test
+    public void removingUntrackedExtentsIsRejected() {
+        final DrawingLimitsAccumulator accumulator = new DrawingLimitsAccumulator(
+                new DrawingLimitsProperties() );
+        accumulator.add( 0.0d, 0.0d, 10.0d, 5.0d );
+
+        assertThrows( IllegalArgumentException.class,
+                      () -> accumulator.remove( 0.0d, 0.0d, 10.0d, 6.0d ) );
+        assertEquals( 1, accumulator.getObjectCount() );
+        assertEquals( Extents2D.fromCorners( 0.0d, 0.0d, 10.0d, 5.0d ), accumulator.getEnvelope() );
+    }
+
+    @Test
+    public void negativeZeroMatchesPositiveZero() {
+        final DrawingLimitsAccumulator accumulator = new DrawingLimitsAccumulator(
+                new DrawingLimitsProperties() );
+        accumulator.add( -0.0d, -0.0d, 1.0d, 1.0d );
+        accumulator.remove( 0.0d, 0.0d, 1.0d, 1.0d );
+        assertTrue( accumulator.isEmpty() );
+    }
+
+    @Test
+    public void moveSyncsOnce() {
+        final DrawingLimitsProperties drawingLimits = new DrawingLimitsProperties();
+        final DrawingLimitsAccumulator accumulator = new DrawingLimitsAccumulator( drawingLimits );
+        accumulator.add( 0.0d, 0.0d, 10.0d, 5.0d );
+        accumulator.add( 2.0d, 2.0d, 3.0d, 3.0d );
+
+        final int[] numberOfChanges = new int[ 1 ];
+        drawingLimits.extentsProperty().addListener( observable -> {
+            drawingLimits.extentsProperty().get();
+            numberOfChanges[ 0 ]++;
+        } );
+        drawingLimits.extentsProperty().get();
+
+        accumulator.move( Extents2D.fromCorners( 0.0d, 0.0d, 10.0d, 5.0d ),
+                          Extents2D.fromCorners( 20.0d, 10.0d, 30.0d, 15.0d ) );
+
+        assertEquals( 1, numberOfChanges[ 0 ] );
+        assertLimits( 2.0d, 2.0d, 28.0d, 13.0d, drawingLimits );
+    }
+
+    @Test
+    public void batchSyncsOnlyWhenTheOutermostBatchEnds() {
+        final DrawingLimitsProperties drawingLimits = new DrawingLimitsProperties();
+        final DrawingLimitsAccumulator accumulator = new DrawingLimitsAccumulator( drawingLimits );
+        final Extents2D originalLimits = drawingLimits.snapshot();
+
+        accumulator.beginBatch();
+        accumulator.beginBatch();
+        for ( int i = 0; i < 1000; i++ ) {
+            accumulator.add( i, -i, i + 1.0d, 1.0d );
+        }
+        accumulator.endBatch();
+        assertEquals( originalLimits, drawingLimits.snapshot() );
+
+        accumulator.endBatch();
+        assertLimits( 0.0d, -999.0d, 1000.0d, 1000.0d, drawingLimits );
+        assertThrows( IllegalStateException.class, accumulator::endBatch );
+    }
+
+    @Test
+    public void autoSyncCatchesUpUntilDisposed() {
+        final DrawingLimitsProperties drawingLimits = new DrawingLimitsProperties( false );
+        final DrawingLimitsAccumulator accumulator = new DrawingLimitsAccumulator( drawingLimits );
+        accumulator.add( 1.0d, 1.0d, 2.0d, 2.0d );
+        assertFalse( drawingLimits.snapshot().equals( Extents2D.fromCorners( 1.0d, 1.0d, 2.0d, 2.0d ) ) );
+
+        drawingLimits.setAutoSync( true );
+        assertLimits( 1.0d, 1.0d, 1.0d, 1.0d, drawingLimits );
+
+        accumulator.dispose();
+        drawingLimits.setAutoSync( false );
+        accumulator.add( 5.0d, 5.0d, 6.0d, 6.0d );
+        drawingLimits.setAutoSync( true );
+        assertLimits( 1.0d, 1.0d, 1.0d, 1.0d, drawingLimits );
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxCadControls Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxCadControls Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxcadcontrols
+ */
+package com.mhschmieder.fxcadcontrols.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class Extents2DSpatialIndexTest {
+
+    private static Extents2DSpatialIndex< Extents2DProperties > makeIndex() {
+        // A small node capacity forces splits with only a few items.
+        return new Extents2DSpatialIndex<>( new Extents2D( 0.0d, 0.0d, 100.0d, 100.0d ), 2, 8 );
+    }
+
+    private static Set< Extents2DProperties > query( final Extents2DSpatialIndex< Extents2DProperties > index,
+                                                     final double minX,
+                                                     final double minY,
+                                                     final double maxX,
+                                                     final double maxY ) {
+        final List< Extents2DProperties > results = new ArrayList<>();
+        index.query( minX, minY, maxX, maxY, results );
+        final Set< Extents2DProperties > resultSet = new HashSet<>( results );
+        assertEquals( results.size(), resultSet.size(), "Duplicate query results" ); //$NON-NLS-1$
+        return resultSet;
+    }
+
+    private static Set< Extents2DProperties > setOf( final Extents2DProperties... items ) {
+        return new HashSet<>( Arrays.asList( items ) );
+    }
+
+    @Test
+    public void queriesFindIntersectingItemsOnly() {
+        final Extents2DSpatialIndex< Extents2DProperties > index = makeIndex();
+        final Extents2DProperties lowerLeft = new Extents2DProperties( 5.0d, 5.0d, 10.0d, 10.0d );
+        final Extents2DProperties lowerRight = new Extents2DProperties( 80.0d, 5.0d, 10.0d, 10.0d );
+        final Extents2DProperties upperLeft = new Extents2DProperties( 5.0d, 80.0d, 10.0d, 10.0d );
+        final Extents2DProperties upperRight = new Extents2DProperties( 80.0d, 80.0d, 10.0d, 10.0d );
+        for ( final Extents2DProperties item : Arrays.asList( lowerLeft, lowerRight, upperLeft, upperRight ) ) {
+            assertTrue( index.add( item ) );
+        }
+        assertFalse( index.add( lowerLeft ) );
+        assertEquals( 4, index.size() );
+
+        assertEquals( setOf( lowerLeft ), query( index, 0.0d, 0.0d, 20.0d, 20.0d ) );
+        assertEquals( setOf( lowerLeft, lowerRight ), query( index, 0.0d, 0.0d, 100.0d, 20.0d ) );
+        assertEquals( setOf(), query( index, 40.0d, 40.0d, 60.0d, 60.0d ) );
+
+        final List< Extents2DProperties > pointResults = new ArrayList<>();
+        index.queryPoint( 85.0d, 85.0d, pointResults );
+        assertEquals( Arrays.asList( upperRight ), pointResults );
+    }
+
+    @Test
+    public void straddlingItemsAreFoundFromEveryQuadrant() {
+        final Extents2DSpatialIndex< Extents2DProperties > index = makeIndex();
+        for ( int i = 0; i < 8; i++ ) {
+            index.add( new Extents2DProperties( 5.0d + i, 5.0d, 1.0d, 1.0d ) );
+        }
+        final Extents2DProperties center = new Extents2DProperties( 45.0d, 45.0d, 10.0d, 10.0d );
+        index.add( center );
+
+        assertTrue( query( index, 0.0d, 0.0d, 46.0d, 46.0d ).contains( center ) );
+        assertEquals( setOf( center ), query( index, 54.0d, 54.0d, 100.0d, 100.0d ) );
+        assertEquals( setOf( center ), query( index, 54.0d, 0.0d, 100.0d, 46.0d ) );
+    }
+
+    @Test
+    public void equalExtentsAreDistinctItems() {
+        final Extents2DSpatialIndex< Extents2DProperties > index = makeIndex();
+        final Extents2DProperties first = new Extents2DProperties( 10.0d, 10.0d, 5.0d, 5.0d );
+        final Extents2DProperties second = new Extents2DProperties( 10.0d, 10.0d, 5.0d, 5.0d );
+        index.add( first );
+        index.add( second );
+
+        assertEquals( setOf( first, second ), query( index, 0.0d, 0.0d, 100.0d, 100.0d ) );
+        assertTrue( index.remove( first ) );
+        assertFalse( index.remove( first ) );
+        assertEquals( setOf( second ), query( index, 0.0d, 0.0d, 100.0d, 100.0d ) );
+    }
+
+    @Test
+    public void movedItemsAreReindexed() {
+        final Extents2DSpatialIndex< Extents2DProperties > index = makeIndex();
+        final Extents2DProperties item = new Extents2DProperties( 5.0d, 5.0d, 1.0d, 1.0d );
+        index.add( item );
+        for ( int i = 0; i < 6; i++ ) {
+            index.add( new Extents2DProperties( 10.0d + i, 10.0d, 1.0d, 1.0d ) );
+        }
+
+        item.setExtents( 90.0d, 90.0d, 1.0d, 1.0d );
+        assertEquals( setOf( item ), query( index, 80.0d, 80.0d, 100.0d, 100.0d ) );
+        assertFalse( query( index, 0.0d, 0.0d, 8.0d, 8.0d ).contains( item ) );
+
+        // A second move must also be seen.
+        item.setExtents( 50.0d, 20.0d, 1.0d, 1.0d );
+        assertEquals( setOf( item ), query( index, 49.0d, 19.0d, 52.0d, 22.0d ) );
+
+        // Removed items are no longer tracked.
+        index.remove( item );
+        item.setExtents( 95.0d, 95.0d, 1.0d, 1.0d );
+        assertEquals( setOf(), query( index, 80.0d, 80.0d, 100.0d, 100.0d ) );
+    }
+
+    @Test
+    public void itemsOutsideTheRootBoundsAreFound() {
+        final Extents2DSpatialIndex< Extents2DProperties > index = makeIndex();
+        final Extents2DProperties outside = new Extents2DProperties( -50.0d, 150.0d, 10.0d, 10.0d );
+        final Extents2DProperties crossing = new Extents2DProperties( 95.0d, 50.0d, 10.0d, 1.0d );
+        index.add( outside );
+        index.add( crossing );
+
+        assertEquals( setOf( outside ), query( index, -60.0d, 140.0d, -30.0d, 170.0d ) );
+        assertEquals( setOf( crossing ), query( index, 101.0d, 50.0d, 102.0d, 51.0d ) );
+        assertEquals( Extents2D.fromCorners( -50.0d, 50.0d, 105.0d, 160.0d ),
+                      index.getEnvelope() );
+
+        // Enough items outside the root bounds force a rebuild, after which
+        // everything must still be found.
+        final List< Extents2DProperties > farItems = new ArrayList<>();
+        for ( int i = 0; i < 20; i++ ) {
+            final Extents2DProperties farItem = new Extents2DProperties( 1000.0d + ( 10.0d * i ), -500.0d, 1.0d, 1.0d );
+            farItems.add( farItem );
+            index.add( farItem );
+        }
+        assertEquals( setOf( outside ), query( index, -60.0d, 140.0d, -30.0d, 170.0d ) );
+        assertEquals( new HashSet<>( farItems ), query( index, 900.0d, -600.0d, 1300.0d, -400.0d ) );
+        assertEquals( 22, query( index, -1.0e6d, -1.0e6d, 1.0e6d, 1.0e6d ).size() );
+    }
+
+    @Test
+    public void bulkLoadIndexesEverything() {
+        final Extents2DSpatialIndex< Extents2DProperties > index = makeIndex();
+        index.add( new Extents2DProperties( 1.0d, 1.0d, 1.0d, 1.0d ) );
+
+        final List< Extents2DProperties > items = new ArrayList<>();
+        for ( int i = 0; i < 100; i++ ) {
+            items.add( new Extents2DProperties( 500.0d + ( i % 10 ) * 50.0d, -( i / 10 ) * 50.0d, 5.0d, 5.0d ) );
+        }
+        index.bulkLoad( items );
+
+        assertEquals( 100, index.size() );
+        assertEquals( setOf( items.get( 11 ) ), query( index, 549.0d, -51.0d, 551.0d, -49.0d ) );
+
+        index.clear();
+        assertTrue( index.isEmpty() );
+        assertEquals( setOf(), query( index, -1.0e6d, -1.0e6d, 1.0e6d, 1.0e6d ) );
+    }
+}
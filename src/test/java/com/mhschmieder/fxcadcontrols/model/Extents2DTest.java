@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxCadControls Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxCadControls Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxcadcontrols
+ */
+package com.mhschmieder.fxcadcontrols.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class Extents2DTest {
+
+    @Test
+    public void equalExtentsHaveEqualHashCodes() {
+        final Extents2D a = new Extents2D( 1.0d, 2.0d, 3.0d, 4.0d );
+        final Extents2D b = new Extents2D( 1.0d, 2.0d, 3.0d, 4.0d );
+        assertEquals( a, b );
+        assertEquals( a.hashCode(), b.hashCode() );
+    }
+
+    @Test
+    public void nanIsNotEqualToZero() {
+        final Extents2D nan = new Extents2D( Double.NaN, 0.0d, 0.0d, 0.0d );
+        final Extents2D zero = new Extents2D( 0.0d, 0.0d, 0.0d, 0.0d );
+        assertNotEquals( nan, zero );
+        assertNotEquals( zero, nan );
+    }
+
+    @Test
+    public void nanIsEqualToNan() {
+        final Extents2D a = new Extents2D( Double.NaN, 0.0d, 1.0d, 1.0d );
+        final Extents2D b = new Extents2D( Double.longBitsToDouble( 0x7ff8000000000001L ),
+                                           0.0d,
+                                           1.0d,
+                                           1.0d );
+        assertEquals( a, b );
+        assertEquals( a.hashCode(), b.hashCode() );
+    }
+
+    @Test
+    public void negativeZeroIsEqualToZero() {
+        final Extents2D a = new Extents2D( -0.0d, 0.0d, 1.0d, 1.0d );
+        final Extents2D b = new Extents2D( 0.0d, -0.0d, 1.0d, 1.0d );
+        assertEquals( a, b );
+        assertEquals( a.hashCode(), b.hashCode() );
+    }
+
+    @Test
+    public void largeCoordinatesDoNotSaturate() {
+        final Extents2D a = new Extents2D( 1.0e13d, 0.0d, 1.0d, 1.0d );
+        final Extents2D b = new Extents2D( 2.0e13d, 0.0d, 1.0d, 1.0d );
+        assertNotEquals( a, b );
+    }
+
+    @Test
+    public void nearbyExtentsAreCloseButNotEqual() {
+        final Extents2D a = new Extents2D( 1.0d, 2.0d, 3.0d, 4.0d );
+        final Extents2D b = new Extents2D( 1.0d + 1.0e-9d, 2.0d, 3.0d, 4.0d );
+        assertNotEquals( a, b );
+        assertTrue( a.isCloseTo( b ) );
+        assertFalse( a.isCloseTo( new Extents2D( 1.1d, 2.0d, 3.0d, 4.0d ) ) );
+        assertFalse( new Extents2D( Double.NaN, 2.0d, 3.0d, 4.0d ).isCloseTo( a ) );
+    }
+
+    @Test
+    public void propertiesKeepIdentityButCompareExtents() {
+        final Extents2DProperties a = new Extents2DProperties( 1.0d, 2.0d, 3.0d, 4.0d );
+        final Extents2DProperties b = new Extents2DProperties( 1.0d, 2.0d, 3.0d, 4.0d );
+        assertNotEquals( a, b );
+        assertTrue( a.extentsEqual( b ) );
+
+        b.setWidth( 5.0d );
+        assertFalse( a.extentsEqual( b ) );
+    }
+
+    @Test
+    public void regionsWithDifferentSurfacesAreNotEqual() {
+        final Region2DProperties a = new Region2DProperties();
+        final Region2DProperties b = new Region2DProperties();
+        b.setNumberOfSurfaces( a.getNumberOfSurfaces() + 1 );
+        assertNotEquals( a, b );
+        assertTrue( a.extentsEqual( b ) );
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxCadControls Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxCadControls Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxcadcontrols
+ */
+package com.mhschmieder.fxcadcontrols.model;
+
+import com.mhschmieder.fxcadcontrols.util.DxfInsUnits;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class ImportedGeometryBufferTest {
+
+    private static final double TOLERANCE = 1.0e-12d;
+
+    // A 1000 x 500 rectangle from (-250, 100), in the drawing's own units.
+    private static ImportedGeometryBuffer makeBuffer( final int headerInsUnits ) {
+        final ImportedGeometryBuffer geometryBuffer = new ImportedGeometryBuffer();
+        geometryBuffer.beginPrimitive();
+        geometryBuffer.addPoint( -250.0d, 100.0d );
+        geometryBuffer.addPoint( 750.0d, 600.0d );
+        geometryBuffer.setHeaderInsUnits( headerInsUnits );
+        return geometryBuffer;
+    }
+
+    @Test
+    public void scaleFactorConvertsFromFirstUnitToSecond() {
+        assertEquals( 1.0e-3d, DxfInsUnits.getScaleFactor( DxfInsUnits.MILLIMETERS,
+                                                           DxfInsUnits.METERS ), TOLERANCE );
+        assertEquals( 25.4d, DxfInsUnits.getScaleFactor( DxfInsUnits.INCHES,
+                                                         DxfInsUnits.MILLIMETERS ), TOLERANCE );
+        assertEquals( 1.0d, DxfInsUnits.getScaleFactor( DxfInsUnits.UNITLESS,
+                                                        DxfInsUnits.METERS ), TOLERANCE );
+    }
+
+    @Test
+    public void headerUnitsAreTheDefaultSourceUnits() {
+        final ImportedGeometryBuffer geometryBuffer = makeBuffer( DxfInsUnits.MILLIMETERS );
+
+        assertEquals( DxfInsUnits.MILLIMETERS, geometryBuffer.getHeaderInsUnits() );
+        assertEquals( DxfInsUnits.MILLIMETERS, geometryBuffer.getSourceInsUnits() );
+        assertEquals( 1.0e-3d, geometryBuffer.getScale(), TOLERANCE );
+
+        final Extents2D extents = geometryBuffer.getScaledExtents();
+        assertEquals( -0.25d, extents.getMinX(), TOLERANCE );
+        assertEquals( 0.6d, extents.getMaxY(), TOLERANCE );
+    }
+
+    @Test
+    public void pickedUnitsScaleToMeters() {
+        final ImportedGeometryBuffer geometryBuffer = makeBuffer( DxfInsUnits.MILLIMETERS );
+        geometryBuffer.setSourceInsUnits( DxfInsUnits.INCHES );
+
+        // The header's units are kept, but no longer used for scaling.
+        assertEquals( DxfInsUnits.MILLIMETERS, geometryBuffer.getHeaderInsUnits() );
+        assertEquals( 0.0254d, geometryBuffer.getScale(), TOLERANCE );
+
+        final double[] coordinates = geometryBuffer.getScaledCoordinates();
+        assertEquals( -250.0d * 0.0254d, coordinates[ 0 ], TOLERANCE );
+        assertEquals( 600.0d * 0.0254d, coordinates[ 3 ], TOLERANCE );
+    }
+
+    @Test
+    public void pickingUnitsForUnitlessDrawingScales() {
+        final ImportedGeometryBuffer geometryBuffer = makeBuffer( DxfInsUnits.UNITLESS );
+        assertEquals( 1.0d, geometryBuffer.getScale(), TOLERANCE );
+
+        geometryBuffer.setSourceInsUnits( DxfInsUnits.FEET );
+        assertEquals( 0.3048d, geometryBuffer.getScale(), TOLERANCE );
+    }
+
+    @Test
+    public void pickingUnitsResyncsDrawingLimits() {
+        final ImportedGeometryBuffer geometryBuffer = makeBuffer( DxfInsUnits.UNITLESS );
+        final DrawingLimitsProperties drawingLimits = new DrawingLimitsProperties();
+
+        geometryBuffer.setSourceInsUnits( DxfInsUnits.CENTIMETERS, drawingLimits );
+
+        assertEquals( -2.5d, drawingLimits.getX(), TOLERANCE );
+        assertEquals( 1.0d, drawingLimits.getY(), TOLERANCE );
+        assertEquals( 10.0d, drawingLimits.getWidth(), TOLERANCE );
+        assertEquals( 5.0d, drawingLimits.getHeight(), TOLERANCE );
+    }
+}
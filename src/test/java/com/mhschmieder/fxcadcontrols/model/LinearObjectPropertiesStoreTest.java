@@ -0,0 +1,108 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxCadControls Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxCadControls Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxcadcontrols
+ */
+package com.mhschmieder.fxcadcontrols.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LinearObjectPropertiesStoreTest {
+
+    @Test
+    public void rowsRoundTripThroughGrowth() {
+        final LinearObjectPropertiesStore store = new LinearObjectPropertiesStore( 1 );
+        for ( int i = 0; i < 100; i++ ) {
+            store.add( "Line " + i, "Layer " + ( i % 3 ), ( i % 2 ) == 0, i ); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+
+        assertEquals( 100, store.size() );
+        assertEquals( "Line 57", store.getLabel( 57 ) ); //$NON-NLS-1$
+        assertEquals( "Layer 0", store.getLayerName( 57 ) ); //$NON-NLS-1$
+        assertFalse( store.isUseAsProjector( 57 ) );
+        assertEquals( 57, store.getNumberOfProjectionZones( 57 ) );
+        assertEquals( 50, store.getNumberOfProjectors() );
+    }
+
+    @Test
+    public void editsAreWrittenBackOnRelease() {
+        final LinearObjectPropertiesStore store = new LinearObjectPropertiesStore( 2 );
+        store.add( "First", "Walls", false, 1 ); //$NON-NLS-1$ //$NON-NLS-2$
+        store.add( "Second", "Walls", false, 1 ); //$NON-NLS-1$ //$NON-NLS-2$
+
+        final LinearObjectProperties view = store.edit( 1 );
+        assertSame( view, store.edit( 1 ) );
+        assertTrue( store.isEditing( 1 ) );
+        assertFalse( store.isEditing( 0 ) );
+        assertEquals( 1, store.getNumberOfOpenViews() );
+
+        view.setLabel( "Renamed" ); //$NON-NLS-1$
+        view.setUseAsProjector( true );
+        assertEquals( "Renamed", store.getLabel( 1 ) ); //$NON-NLS-1$
+        assertEquals( 1, store.getNumberOfProjectors() );
+
+        // Rows added while a view is open must not disturb it.
+        for ( int i = 0; i < 10; i++ ) {
+            store.add( "Extra", "Walls", false, 1 ); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        assertSame( view, store.edit( 1 ) );
+
+        store.release( 1 );
+        assertFalse( store.isEditing( 1 ) );
+        assertEquals( 0, store.getNumberOfOpenViews() );
+        assertEquals( "Renamed", store.getLabel( 1 ) ); //$NON-NLS-1$
+        assertTrue( store.isUseAsProjector( 1 ) );
+
+        // Releasing a row that is not being edited is harmless.
+        store.release( 1 );
+        assertEquals( 0, store.getNumberOfOpenViews() );
+    }
+
+    @Test
+    public void releaseAllCommitsEveryView() {
+        final LinearObjectPropertiesStore store = new LinearObjectPropertiesStore();
+        for ( int i = 0; i < 5; i++ ) {
+            store.add( "Line", "Layer", false, 0 ); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+        store.edit( 0 ).setLayerName( "Moved" ); //$NON-NLS-1$
+        store.edit( 4 ).setNumberOfProjectionZones( 7 );
+
+        store.releaseAll();
+        assertEquals( 0, store.getNumberOfOpenViews() );
+        assertEquals( "Moved", store.getLayerName( 0 ) ); //$NON-NLS-1$
+        assertEquals( 7, store.getNumberOfProjectionZones( 4 ) );
+
+        store.clear();
+        assertTrue( store.isEmpty() );
+    }
+}
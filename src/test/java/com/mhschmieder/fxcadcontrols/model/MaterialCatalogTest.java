@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxCadControls Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxCadControls Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxcadcontrols
+ */
+package com.mhschmieder.fxcadcontrols.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class MaterialCatalogTest {
+
+    private static final String CSV = "Name,Alpha125,Alpha250,Alpha500,Alpha1000,Alpha2000,Alpha4000\n" //$NON-NLS-1$
+            + "\"Brick, unglazed\",0.03,0.03,0.03,0.04,0.05,0.07\n" //$NON-NLS-1$
+            + "Carpet on concrete,0.02,0.06,0.14,0.37,0.60,0.65\n" //$NON-NLS-1$
+            + "Plywood panel,0.28,0.22,0.17,0.09,0.10,0.11\n"; //$NON-NLS-1$
+
+    @TempDir
+    Path temporaryDirectory;
+
+    @Test
+    public void parsesAndSearchesByPrefixThenSubstring() throws IOException {
+        final MaterialCatalog catalog = MaterialCatalog.parseCsv( new StringReader( CSV ) );
+        assertEquals( 3, catalog.size() );
+        assertNotNull( catalog.getMaterial( "brick, UNGLAZED" ) ); //$NON-NLS-1$
+
+        final List< CatalogMaterial > matches = catalog.search( "c", 10 ); //$NON-NLS-1$
+        assertEquals( "Carpet on concrete", matches.get( 0 ).getName() ); //$NON-NLS-1$
+        assertEquals( 2, matches.size() );
+        assertEquals( "Brick, unglazed", matches.get( 1 ).getName() ); //$NON-NLS-1$
+        assertEquals( 1, catalog.search( "concrete", 10 ).size() ); //$NON-NLS-1$
+    }
+
+    @Test
+    public void unusableCacheFallsBackToCsvAndIsRewritten() throws IOException {
+        final Path csvPath = temporaryDirectory.resolve( "materials.csv" ); //$NON-NLS-1$
+        final Path cachePath = temporaryDirectory.resolve( "materials.bin" ); //$NON-NLS-1$
+        Files.write( csvPath, CSV.getBytes( StandardCharsets.UTF_8 ) );
+        Files.write( cachePath, new byte[] { 1, 2, 3 } );
+        Files.setLastModifiedTime( cachePath, FileTime.fromMillis(
+                Files.getLastModifiedTime( csvPath ).toMillis() + 1000L ) );
+
+        assertEquals( 3, MaterialCatalog.load( csvPath, cachePath ).size() );
+        assertEquals( 3, MaterialCatalog.readCache( cachePath ).size() );
+    }
+
+    @Test
+    public void cachedCatalogSearchesLikeTheParsedOne() throws IOException {
+        final MaterialCatalog catalog = MaterialCatalog.parseCsv( new StringReader( CSV ) );
+        final Path cachePath = temporaryDirectory.resolve( "roundtrip.bin" ); //$NON-NLS-1$
+        catalog.writeCache( cachePath );
+
+        final MaterialCatalog cachedCatalog = MaterialCatalog.readCache( cachePath );
+        assertEquals( catalog.getMaterials().size(), cachedCatalog.getMaterials().size() );
+        assertEquals( 2, cachedCatalog.search( "c", 10 ).size() ); //$NON-NLS-1$
+        assertEquals( "Plywood panel", //$NON-NLS-1$
+                      cachedCatalog.search( "wood", 10 ).get( 0 ).getName() ); //$NON-NLS-1$
+        assertEquals( 0.37d, cachedCatalog.getMaterial( "carpet on concrete" ) //$NON-NLS-1$
+                .getAbsorptionCoefficient( 3 ), 0.0d );
+
+        // The cache is not held open once read, so it can be replaced.
+        Files.delete( cachePath );
+        catalog.writeCache( cachePath );
+    }
+
+    @Test
+    public void cacheFailureIsReportedWithMissingCsv() throws IOException {
+        final Path csvPath = temporaryDirectory.resolve( "missing.csv" ); //$NON-NLS-1$
+        final Path cachePath = temporaryDirectory.resolve( "corrupt.bin" ); //$NON-NLS-1$
+        Files.write( cachePath, new byte[] { 1, 2, 3 } );
+
+        final IOException ioe = assertThrows( IOException.class,
+                                              () -> MaterialCatalog.load( csvPath, cachePath ) );
+        assertEquals( 1, ioe.getSuppressed().length );
+    }
+}
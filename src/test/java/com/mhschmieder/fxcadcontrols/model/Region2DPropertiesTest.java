@@ -0,0 +1,135 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxCadControls Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxCadControls Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxcadcontrols
+ */
+package com.mhschmieder.fxcadcontrols.model;
+
+import com.mhschmieder.fxgraphics.geometry.SurfaceMaterial;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class Region2DPropertiesTest {
+
+    private static Region2DProperties makeRegion() {
+        final Region2DProperties region = new Region2DProperties( 0.0d, 0.0d, 40.0d, 20.0d, 4 );
+        region.clearSurfaceChanges();
+        region.drainChanges();
+        return region;
+    }
+
+    @Test
+    public void surfaceSettersAreTrackedWithoutProperties() {
+        final Region2DProperties region = makeRegion();
+        final SurfaceProperties surface = region.getSurfaceProperties().get( 2 );
+        assertEquals( 1, surface.getNumberOfChangeObservers() );
+
+        surface.setSurfaceName( "Stage" ); //$NON-NLS-1$
+        assertTrue( region.isSurfaceNameChanged( 2 ) );
+        assertFalse( region.isSurfaceNameChanged( 1 ) );
+        assertFalse( region.isSurfaceValueChanged( 2 ) );
+
+        surface.setSurfaceBypassed( !surface.isSurfaceBypassed() );
+        assertTrue( region.isSurfaceValueChanged( 2 ) );
+        assertTrue( region.isSurfaceStatusChanged() );
+        assertFalse( region.isSurfaceMaterialChanged() );
+    }
+
+    @Test
+    public void unchangedValuesAreNotFlagged() {
+        final Region2DProperties region = makeRegion();
+        final SurfaceProperties surface = region.getSurfaceProperties().get( 0 );
+
+        surface.setSurfaceName( surface.getSurfaceName() );
+        surface.setSurfaceMaterial( surface.getSurfaceMaterial() );
+        assertFalse( region.isSurfaceNameChanged() );
+        assertFalse( region.isSurfaceValueChanged() );
+    }
+
+    @Test
+    public void boundPropertiesAreTrackedOnEveryChange() {
+        final Region2DProperties region = makeRegion();
+        final SurfaceProperties surface = region.getSurfaceProperties().get( 1 );
+
+        surface.surfaceMaterialProperty().set( SurfaceMaterial.RIGID );
+        surface.surfaceMaterialProperty().set( SurfaceMaterial.BRICK_WALL_PAINTED_LB );
+        assertTrue( region.isSurfaceMaterialChanged() );
+
+        region.clearSurfaceChanges();
+        surface.surfaceMaterialProperty().set( SurfaceMaterial.POURED_CONCRETE_PAINTED_LB );
+        assertTrue( region.isSurfaceValueChanged( 1 ) );
+    }
+
+    @Test
+    public void removedSurfacesAreDetached() {
+        final Region2DProperties region = makeRegion();
+        final SurfaceProperties surface = region.getSurfaceProperties().get( 3 );
+
+        region.setNumberOfSurfaces( 3 );
+        assertEquals( 0, surface.getNumberOfChangeObservers() );
+        assertEquals( 1, region.getSurfaceProperties().get( 2 ).getNumberOfChangeObservers() );
+    }
+
+    @Test
+    public void sharedSurfacesAreTrackedByEveryRegion() {
+        final Region2DProperties first = makeRegion();
+        final Region2DProperties second = makeRegion();
+        final SurfaceProperties surface = first.getSurfaceProperties().get( 1 );
+        second.getSurfaceProperties().add( surface );
+        second.clearSurfaceChanges();
+        assertEquals( 2, surface.getNumberOfChangeObservers() );
+
+        surface.setSurfaceName( "Balcony" ); //$NON-NLS-1$
+        assertTrue( first.isSurfaceNameChanged( 1 ) );
+        assertTrue( second.isSurfaceNameChanged( 4 ) );
+
+        // Removing the surface from one Region leaves the other tracking it.
+        second.getSurfaceProperties().remove( 4 );
+        first.clearSurfaceChanges();
+        surface.setSurfaceBypassed( !surface.isSurfaceBypassed() );
+        assertTrue( first.isSurfaceStatusChanged() );
+        assertEquals( 1, surface.getNumberOfChangeObservers() );
+    }
+
+    @Test
+    public void boundaryCoordinatesAreTrackedOnEveryChange() {
+        final Region2DProperties region = makeRegion();
+
+        region.setWidth( 50.0d );
+        assertEquals( Region2DChangeSet.BOUNDARY_WIDTH, region.drainChanges().getBoundaryChanges() );
+
+        // The coordinate was never read in between, so it must re-arm itself.
+        region.setWidth( 60.0d );
+        region.setHeight( 30.0d );
+        assertEquals( Region2DChangeSet.BOUNDARY_WIDTH | Region2DChangeSet.BOUNDARY_HEIGHT,
+                      region.drainChanges().getBoundaryChanges() );
+    }
+}
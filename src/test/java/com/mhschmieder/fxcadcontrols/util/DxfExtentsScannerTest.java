@@ -0,0 +1,102 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxCadControls Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxCadControls Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxcadcontrols
+ */
+package com.mhschmieder.fxcadcontrols.util;
+
+import com.mhschmieder.fxcadcontrols.model.Extents2D;
+import com.mhschmieder.fxcadcontrols.model.ImportedGeometryBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DxfExtentsScannerTest {
+
+    // Entities between (100, 100) and (128, 115), with a POLYLINE dummy point
+    // and a HATCH elevation point at the origin, MTEXT, XLINE and MLINE
+    // direction vectors next to it, and IMAGE and WIPEOUT pixel vectors, pixel
+    // sizes and clip boundaries that are not positions either.
+    private static Path getFixture() throws URISyntaxException {
+        return Paths.get( DxfExtentsScannerTest.class
+                .getResource( "/dxf/ScannerFixture.dxf" ).toURI() ); //$NON-NLS-1$
+    }
+
+    @Test
+    public void readsHeaderUnitsAndExtents() throws IOException, URISyntaxException {
+        final DxfExtentsScanner.Result result = new DxfExtentsScanner().scan( getFixture(), null );
+
+        assertEquals( DxfInsUnits.MILLIMETERS, result.getInsUnits() );
+        assertEquals( Extents2D.fromCorners( 0.0d, 0.0d, 50.0d, 50.0d ), result.getHeaderExtents() );
+    }
+
+    @Test
+    public void skipsDummyPointsAndDirectionVectors() throws IOException, URISyntaxException {
+        final DxfExtentsScanner.Result result = new DxfExtentsScanner().scan( getFixture(), null );
+
+        // The ellipse is bounded by the circle around its major axis, and the
+        // image by the far corner that its pixel vectors span.
+        final Extents2D extents = result.getEntityExtents();
+        assertEquals( 100.0d, extents.getMinX() );
+        assertEquals( 100.0d, extents.getMinY() );
+        assertEquals( 128.0d, extents.getMaxX() );
+        assertEquals( 115.0d, extents.getMaxY() );
+        assertEquals( extents, result.getExtents() );
+    }
+
+    @Test
+    public void fillsGeometryBufferWithoutBogusPoints() throws IOException, URISyntaxException {
+        final ImportedGeometryBuffer geometryBuffer = new ImportedGeometryBuffer();
+        DxfExtentsScanner.scanInto( getFixture(), geometryBuffer );
+
+        assertEquals( DxfInsUnits.MILLIMETERS, geometryBuffer.getSourceInsUnits() );
+        assertFalse( geometryBuffer.isEmpty() );
+
+        final double[] coordinates = geometryBuffer.getRawCoordinates();
+        for ( int i = 0; i < geometryBuffer.getNumberOfPoints(); i++ ) {
+            final double x = coordinates[ 2 * i ];
+            final double y = coordinates[ ( 2 * i ) + 1 ];
+            assertTrue( ( x >= 100.0d ) && ( y >= 100.0d ), "Bogus point " + x + ", " + y ); //$NON-NLS-1$ //$NON-NLS-2$
+        }
+
+        int numberOfCircles = 0;
+        for ( int i = 0; i < geometryBuffer.getNumberOfPrimitives(); i++ ) {
+            if ( geometryBuffer.getPrimitiveKind( i ) == ImportedGeometryBuffer.PRIMITIVE_CIRCLE ) {
+                numberOfCircles++;
+            }
+        }
+        assertEquals( 2, numberOfCircles );
+    }
+}
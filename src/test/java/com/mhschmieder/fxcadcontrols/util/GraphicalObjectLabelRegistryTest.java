@@ -0,0 +1,97 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxCadControls Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxCadControls Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxcadcontrols
+ */
+package com.mhschmieder.fxcadcontrols.util;
+
+import com.mhschmieder.fxcadcontrols.model.LinearObjectProperties;
+import com.mhschmieder.jcommons.text.TextUtilities;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.text.NumberFormat;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GraphicalObjectLabelRegistryTest {
+
+    private NumberFormat                                          numberFormat;
+    private ObservableList< LinearObjectProperties >              linearObjects;
+    private GraphicalObjectLabelRegistry< LinearObjectProperties > registry;
+
+    @BeforeEach
+    public void setUp() {
+        numberFormat = NumberFormat.getIntegerInstance( Locale.ENGLISH );
+        linearObjects = FXCollections.observableArrayList();
+        for ( int i = 0; i < 3; i++ ) {
+            linearObjects.add( new LinearObjectProperties( variant( "Line", i ), //$NON-NLS-1$
+                                                           "Default", //$NON-NLS-1$
+                                                           false,
+                                                           1 ) );
+        }
+        registry = new GraphicalObjectLabelRegistry<>( linearObjects, numberFormat );
+    }
+
+    private String variant( final String labelStem, final int uniquefierNumber ) {
+        return labelStem + TextUtilities.getUniquefierAppendix( uniquefierNumber, numberFormat );
+    }
+
+    @Test
+    public void newLabelDefaultSkipsTakenLabels() {
+        assertEquals( 3, registry.size() );
+        assertEquals( variant( "Line", 3 ), registry.getNewLabelDefault( "Line" ) ); //$NON-NLS-1$ //$NON-NLS-2$
+        assertEquals( "Arc", registry.getNewLabelDefault( "Arc" ) ); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    @Test
+    public void currentLabelMayBeKept() {
+        final String current = variant( "Line", 1 ); //$NON-NLS-1$
+        assertTrue( registry.isLabelUnique( current, current ) );
+        assertFalse( registry.isLabelUnique( current ) );
+        assertEquals( current, registry.getUniqueLabel( current, "Line", current ) ); //$NON-NLS-1$
+        assertEquals( "Line", registry.getUniqueLabel( " ", "Line", "Line" ) ); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+    }
+
+    @Test
+    public void freedLabelIsOfferedAgain() {
+        assertEquals( variant( "Line", 3 ), registry.getNewLabelDefault( "Line" ) ); //$NON-NLS-1$ //$NON-NLS-2$
+
+        linearObjects.remove( 1 );
+        assertEquals( variant( "Line", 1 ), registry.getNewLabelDefault( "Line" ) ); //$NON-NLS-1$ //$NON-NLS-2$
+
+        linearObjects.get( 0 ).setLabel( "Edge" ); //$NON-NLS-1$
+        assertEquals( "Line", registry.getNewLabelDefault( "Line" ) ); //$NON-NLS-1$ //$NON-NLS-2$
+        assertFalse( registry.isLabelUnique( "Edge" ) ); //$NON-NLS-1$
+    }
+}
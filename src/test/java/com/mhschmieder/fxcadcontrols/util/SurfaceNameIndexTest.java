@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2026 Mark Schmieder. All rights reserved.
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ * This file is part of the FxCadControls Library
+ *
+ * You should have received a copy of the MIT License along with the
+ * FxCadControls Library. If not, see <https://opensource.org/licenses/MIT>.
+ *
+ * Project: https://github.com/mhschmieder/fxcadcontrols
+ */
+package com.mhschmieder.fxcadcontrols.util;
+
+import com.mhschmieder.fxcadcontrols.model.SurfaceProperties;
+import com.mhschmieder.jcommons.text.TextUtilities;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.text.NumberFormat;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SurfaceNameIndexTest {
+
+    private NumberFormat                       numberFormat;
+    private ObservableList< SurfaceProperties > surfaces;
+    private SurfaceNameIndex                   index;
+
+    @BeforeEach
+    public void setUp() {
+        numberFormat = NumberFormat.getIntegerInstance( Locale.ENGLISH );
+        surfaces = FXCollections.observableArrayList();
+        for ( int i = 0; i < 5; i++ ) {
+            surfaces.add( new SurfaceProperties( i + 1, variant( "Wall", i ), false, null ) ); //$NON-NLS-1$
+        }
+        surfaces.add( new SurfaceProperties( 6, "Floor", false, null ) ); //$NON-NLS-1$
+        index = new SurfaceNameIndex( surfaces, numberFormat );
+    }
+
+    private String variant( final String baseName, final int uniquefierNumber ) {
+        return baseName + TextUtilities.getUniquefierAppendix( uniquefierNumber, numberFormat );
+    }
+
+    private String unique( final SurfaceProperties surfacePropertiesToExclude,
+                           final String surfaceNameCandidate ) {
+        return index.getUniqueSurfaceName( surfacePropertiesToExclude,
+                                           surfaceNameCandidate,
+                                           "Surface" ); //$NON-NLS-1$
+    }
+
+    @Test
+    public void unusedNameIsKept() {
+        assertEquals( "Ceiling", unique( null, "Ceiling" ) ); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    @Test
+    public void takenNameGetsLowestFreeUniquefier() {
+        assertEquals( variant( "Wall", 5 ), unique( null, "Wall" ) ); //$NON-NLS-1$ //$NON-NLS-2$
+        assertEquals( variant( "Floor", 1 ), unique( null, "Floor" ) ); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    @Test
+    public void excludedSurfaceKeepsItsOwnName() {
+        final SurfaceProperties wall2 = surfaces.get( 2 );
+        assertTrue( index.isSurfaceNameUnique( wall2, variant( "Wall", 2 ) ) ); //$NON-NLS-1$
+        assertFalse( index.isSurfaceNameUnique( null, variant( "Wall", 2 ) ) ); //$NON-NLS-1$
+
+        // Prime the hint past the excluded Surface's own uniquefier number.
+        assertEquals( variant( "Wall", 5 ), unique( null, "Wall" ) ); //$NON-NLS-1$ //$NON-NLS-2$
+        assertEquals( variant( "Wall", 2 ), unique( wall2, "Wall" ) ); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    @Test
+    public void renamesAndRemovalsKeepTheIndexCurrent() {
+        surfaces.get( 5 ).setSurfaceName( "Roof" ); //$NON-NLS-1$
+        assertEquals( "Floor", unique( null, "Floor" ) ); //$NON-NLS-1$ //$NON-NLS-2$
+        assertFalse( index.isSurfaceNameUnique( null, "Roof" ) ); //$NON-NLS-1$
+
+        surfaces.remove( 5 );
+        assertTrue( index.isSurfaceNameUnique( null, "Roof" ) ); //$NON-NLS-1$
+    }
+
+    @Test
+    public void freedNameLowersOnlyItsOwnBaseNameHint() {
+        assertEquals( variant( "Wall", 5 ), unique( null, "Wall" ) ); //$NON-NLS-1$ //$NON-NLS-2$
+        assertEquals( variant( "Floor", 1 ), unique( null, "Floor" ) ); //$NON-NLS-1$ //$NON-NLS-2$
+
+        // Freeing a Wall variant makes its number the next one offered.
+        surfaces.get( 3 ).setSurfaceName( "Door" ); //$NON-NLS-1$
+        assertEquals( variant( "Wall", 3 ), unique( null, "Wall" ) ); //$NON-NLS-1$ //$NON-NLS-2$
+        assertEquals( variant( "Floor", 1 ), unique( null, "Floor" ) ); //$NON-NLS-1$ //$NON-NLS-2$
+
+        surfaces.get( 3 ).setSurfaceName( variant( "Wall", 3 ) ); //$NON-NLS-1$
+        assertEquals( variant( "Wall", 5 ), unique( null, "Wall" ) ); //$NON-NLS-1$ //$NON-NLS-2$
+    }
+
+    @Test
+    public void disposeDetachesFromTheSurfaces() {
+        index.dispose();
+        surfaces.get( 0 ).setSurfaceName( "Window" ); //$NON-NLS-1$
+        assertTrue( index.isSurfaceNameUnique( null, "Window" ) ); //$NON-NLS-1$
+    }
+}